@@ -0,0 +1,150 @@
+package lt.example.insurance.contribution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lt.example.insurance.citizen.CitizenEntity;
+import lt.example.insurance.common.money.Money;
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.employer.EmployerEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response mapping and serialization cost of one contribution page, as served by GET /contributions
+ * as JSON and as the dictionary-encoded CBOR table. Every citizen has twelve rows on the page and
+ * three employers alternate, as in a citizen-filtered listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContributionMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ContributionService contributionService;
+    private ObjectMapper objectMapper;
+    private ObjectMapper cborMapper;
+    private List<ContributionEntity> entities;
+    private Page<ContributionResponse> page;
+
+    @Setup
+    public void setUp() {
+        // toResponse touches no collaborators
+        contributionService = new ContributionService(null, null, null, null, null, null, null, null, null,
+                Clock.systemUTC());
+        // same serialization settings as the Boot-configured mapper
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cborMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(new CBORFactory())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<CitizenEntity> citizens = new ArrayList<>();
+        for (int i = 0; i < pageSize; i += 12) {
+            citizens.add(citizen(i / 12));
+        }
+        List<EmployerEntity> employers = List.of(employer(0), employer(1), employer(2));
+
+        entities = new ArrayList<>(pageSize);
+        List<ContributionResponse> responses = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            ContributionEntity entity = contribution(i, citizens.get(i / 12), employers.get(i % 3));
+            entities.add(entity);
+            responses.add(contributionService.toResponse(entity));
+        }
+        page = new PageImpl<>(responses, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public void mapPage(Blackhole blackhole) {
+        for (ContributionEntity entity : entities) {
+            blackhole.consume(contributionService.toResponse(entity));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageAsCborTable() throws Exception {
+        return cborMapper.writeValueAsBytes(ContributionTables.of(page));
+    }
+
+    @Benchmark
+    public String normalizeCurrency(CurrencyInput input) {
+        return ContributionService.normalizeCurrency(input.currency);
+    }
+
+    @State(Scope.Benchmark)
+    public static class CurrencyInput {
+
+        @Param({"EUR", " eur "})
+        private String currency;
+    }
+
+    private static CitizenEntity citizen(int i) {
+        // entity constructors are protected for JPA
+        CitizenEntity citizen = new CitizenEntity() {
+        };
+        citizen.setId(UUID.randomUUID());
+        citizen.setPersonalCode(String.format("%011d", i));
+        citizen.setFirstName("First" + i);
+        citizen.setLastName("Last" + i);
+        return citizen;
+    }
+
+    private static EmployerEntity employer(int i) {
+        EmployerEntity employer = new EmployerEntity() {
+        };
+        employer.setId(UUID.randomUUID());
+        employer.setCompanyCode("EMP" + i);
+        employer.setName("Employer " + i);
+        return employer;
+    }
+
+    private static ContributionEntity contribution(int i, CitizenEntity citizen, EmployerEntity employer) {
+        Instant now = Instant.parse("2026-02-15T10:00:00Z");
+        ContributionEntity entity = new ContributionEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setCitizen(citizen);
+        entity.setEmployer(employer);
+        entity.setMonthDate(LocalDate.of(2026, 1, 1).minusMonths(i % 24));
+        entity.setAmount(Money.of(new BigDecimal("1234.56"), "EUR"));
+        entity.setPaidAt(now);
+        entity.setCreatedAt(now);
+        entity.setUpdatedAt(now);
+        return entity;
+    }
+}
@@ -0,0 +1,273 @@
+package lt.example.insurance.contribution;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Period, eligibility-history and month-range statements against the yearly-partitioned
+ * contributions table and against an unpartitioned copy of the same rows with the same indexes.
+ * Needs a real Postgres like {@link ContributionQueryJdbcBenchmark} (same {@code BENCH_JDBC_*}
+ * variables); start it with {@code -Djmh.args=ContributionPartitionJdbc}. The copy and the seeded
+ * rows are removed on tear down; the yearly partitions created for the seed stay (empty).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContributionPartitionJdbcBenchmark {
+
+    private static final int CITIZENS = 1_000;
+    private static final int EMPLOYERS = 2;
+    private static final int YEARS = 10;
+    private static final int ELIGIBILITY_CHUNK = 1_000;
+    private static final LocalDate LAST_MONTH = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FIRST_MONTH = LAST_MONTH.minusMonths(YEARS * 12L - 1);
+    private static final String CODE_PREFIX = "JMHP";
+    private static final String FLAT_TABLE = "contributions_flat_bench";
+
+    // findByCitizen_IdAndMonthDateBetween over the last year
+    private static final String PERIOD = """
+            select id, month_date, amount, currency, paid_at
+            from %s
+            where citizen_id = ?
+              and month_date between ? and ?
+            """;
+
+    // ContributionHistoryLoader over the twelve months of the sickness rule
+    private static final String HISTORY = """
+            select citizen_id, employer_id, month_date,
+                   coalesce(sum(amount) filter (where currency = 'EUR'), 0) as amount
+            from %s
+            where citizen_id = any (?)
+              and month_date >= ?
+              and month_date < ?
+              and paid_at is not null
+            group by citizen_id, employer_id, month_date
+            """;
+
+    // a month-wide scan without a citizen, as in the export and the month-level reports
+    private static final String MONTH_TOTAL = """
+            select count(*), sum(amount)
+            from %s
+            where month_date >= ?
+              and month_date < ?
+            """;
+
+    @Param({"contributions", FLAT_TABLE})
+    public String table;
+
+    private HikariDataSource dataSource;
+    private UUID[] citizenIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(env("BENCH_JDBC_URL",
+                "jdbc:postgresql://localhost:5433/insurance_db?reWriteBatchedInserts=true"));
+        dataSource.setUsername(env("BENCH_JDBC_USER", "postgres"));
+        dataSource.setPassword(env("BENCH_JDBC_PASSWORD", "postgres"));
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        deleteSeed();
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        deleteSeed();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void periodOfOneYear(Blackhole blackhole) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PERIOD.formatted(table))) {
+            statement.setObject(1, randomCitizen());
+            statement.setDate(2, Date.valueOf(LAST_MONTH.minusMonths(11)));
+            statement.setDate(3, Date.valueOf(LAST_MONTH));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    blackhole.consume(resultSet.getObject(1));
+                    blackhole.consume(resultSet.getBigDecimal(3));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void eligibilityHistoryChunk(Blackhole blackhole) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(HISTORY.formatted(table))) {
+            int start = ThreadLocalRandom.current().nextInt(CITIZENS - ELIGIBILITY_CHUNK + 1);
+            Array ids = connection.createArrayOf("uuid", Arrays.copyOfRange(citizenIds, start, start + ELIGIBILITY_CHUNK));
+            statement.setArray(1, ids);
+            statement.setDate(2, Date.valueOf(LAST_MONTH.minusMonths(11)));
+            statement.setDate(3, Date.valueOf(LAST_MONTH.plusMonths(1)));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    blackhole.consume(resultSet.getObject(1));
+                    blackhole.consume(resultSet.getBigDecimal(4));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public long monthTotal() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(MONTH_TOTAL.formatted(table))) {
+            LocalDate month = FIRST_MONTH.plusMonths(ThreadLocalRandom.current().nextInt(YEARS * 12));
+            statement.setDate(1, Date.valueOf(month));
+            statement.setDate(2, Date.valueOf(month.plusMonths(1)));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private UUID randomCitizen() {
+        return citizenIds[ThreadLocalRandom.current().nextInt(citizenIds.length)];
+    }
+
+    private void seed() throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        citizenIds = new UUID[CITIZENS];
+        UUID[] employerIds = new UUID[EMPLOYERS];
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement partitions = connection.prepareStatement("select ensure_contribution_partitions(?, ?)")) {
+                partitions.setInt(1, FIRST_MONTH.getYear());
+                partitions.setInt(2, LAST_MONTH.getYear());
+                partitions.executeQuery().close();
+            }
+            try (PreparedStatement employers = connection.prepareStatement(
+                    "insert into employers (id, company_code, name, created_at, updated_at) values (?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < EMPLOYERS; i++) {
+                    employerIds[i] = UUID.randomUUID();
+                    employers.setObject(1, employerIds[i]);
+                    employers.setString(2, CODE_PREFIX + i);
+                    employers.setString(3, "Benchmark employer " + i);
+                    employers.setTimestamp(4, now);
+                    employers.setTimestamp(5, now);
+                    employers.addBatch();
+                }
+                employers.executeBatch();
+            }
+            try (PreparedStatement citizens = connection.prepareStatement("""
+                    insert into citizens (id, personal_code, first_name, last_name, date_of_birth, created_at, updated_at)
+                    values (?, ?, ?, ?, ?, ?, ?)
+                    """);
+                 PreparedStatement contributions = connection.prepareStatement("""
+                         insert into contributions (id, citizen_id, employer_id, month_date, amount, currency,
+                                                    paid_at, created_at, updated_at)
+                         values (?, ?, ?, ?, 1000.00, 'EUR', ?, ?, ?)
+                         """)) {
+                for (int i = 0; i < CITIZENS; i++) {
+                    citizenIds[i] = UUID.randomUUID();
+                    citizens.setObject(1, citizenIds[i]);
+                    citizens.setString(2, CODE_PREFIX + i);
+                    citizens.setString(3, "Bench");
+                    citizens.setString(4, "Citizen" + i);
+                    citizens.setDate(5, Date.valueOf(LocalDate.of(1990, 1, 1)));
+                    citizens.setTimestamp(6, now);
+                    citizens.setTimestamp(7, now);
+                    citizens.addBatch();
+
+                    for (int month = 0; month < YEARS * 12; month++) {
+                        for (UUID employerId : employerIds) {
+                            contributions.setObject(1, UUID.randomUUID());
+                            contributions.setObject(2, citizenIds[i]);
+                            contributions.setObject(3, employerId);
+                            contributions.setDate(4, Date.valueOf(LAST_MONTH.minusMonths(month)));
+                            // every third month is unpaid
+                            contributions.setTimestamp(5, month % 3 == 2 ? null : now);
+                            contributions.setTimestamp(6, now);
+                            contributions.setTimestamp(7, now);
+                            contributions.addBatch();
+                        }
+                    }
+                    if (i % 50 == 49) {
+                        citizens.executeBatch();
+                        contributions.executeBatch();
+                    }
+                }
+                citizens.executeBatch();
+                contributions.executeBatch();
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        create table %s as
+                        select c.* from contributions c
+                        join citizens ci on ci.id = c.citizen_id
+                        where ci.personal_code like '%s%%'
+                        """.formatted(FLAT_TABLE, CODE_PREFIX));
+                statement.execute("alter table %s add primary key (id, month_date)".formatted(FLAT_TABLE));
+                statement.execute("create index on %s (employer_id, month_date, id)".formatted(FLAT_TABLE));
+                statement.execute("create index on %s (month_date, id)".formatted(FLAT_TABLE));
+                statement.execute("create index on %s (citizen_id, month_date, id)".formatted(FLAT_TABLE));
+                statement.execute("""
+                        create index on %s (citizen_id, month_date) include (employer_id, amount, currency)
+                        where paid_at is not null
+                        """.formatted(FLAT_TABLE));
+                statement.execute("analyze contributions");
+                statement.execute("analyze " + FLAT_TABLE);
+            }
+            connection.commit();
+        }
+    }
+
+    private void deleteSeed() throws SQLException {
+        String prefix = CODE_PREFIX + "%";
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("drop table if exists " + FLAT_TABLE);
+            }
+            for (String sql : new String[]{
+                    "delete from contributions where citizen_id in (select id from citizens where personal_code like ?)",
+                    "delete from citizens where personal_code like ?",
+                    "delete from employers where company_code like ?"}) {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setString(1, prefix);
+                    statement.executeUpdate();
+                }
+            }
+        }
+    }
+}
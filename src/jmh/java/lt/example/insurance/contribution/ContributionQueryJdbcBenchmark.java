@@ -0,0 +1,255 @@
+package lt.example.insurance.contribution;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips of the eligibility and period statements against a real Postgres. Excluded from the
+ * default run; start it with {@code -Djmh.args=Jdbc}. Connection settings come from the
+ * {@code BENCH_JDBC_URL}, {@code BENCH_JDBC_USER} and {@code BENCH_JDBC_PASSWORD} environment
+ * variables, which forked benchmark JVMs inherit (defaults match the dev profile). The schema is migrated with Flyway and the seeded rows are
+ * removed again on tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContributionQueryJdbcBenchmark {
+
+    private static final int CITIZENS = 2_000;
+    private static final int EMPLOYERS = 2;
+    private static final int MONTHS = 36;
+    private static final LocalDate LAST_MONTH = LocalDate.of(2026, 1, 1);
+    private static final LocalDate WINDOW_FROM = LAST_MONTH.minusMonths(5);
+    private static final String CODE_PREFIX = "JMH";
+
+    // SQL Hibernate generates for ContributionRepository.countDistinctPaidMonths
+    private static final String COUNT_DISTINCT_PAID_MONTHS = """
+            select count(distinct c.month_date)
+            from contributions c
+            where c.citizen_id = ?
+              and c.month_date between ? and ?
+              and c.paid_at is not null
+            """;
+
+    // what the service runs today (PaidMonthIndex), for comparison
+    private static final String SELECT_CITIZEN_MASKS = """
+            select year, months
+            from citizen_paid_months
+            where citizen_id = ?
+              and year between ? and ?
+            """;
+
+    // SQL of findByCitizen_IdAndMonthDateBetween with the WITH_PARTIES entity graph
+    private static final String PERIOD_WITH_PARTIES = """
+            select c.id, c.month_date, c.amount, c.currency, c.paid_at, c.created_at, c.updated_at,
+                   ci.id, ci.personal_code, ci.first_name, ci.last_name,
+                   e.id, e.company_code, e.name
+            from contributions c
+            join citizens ci on ci.id = c.citizen_id
+            join employers e on e.id = c.employer_id
+            where c.citizen_id = ?
+              and c.month_date between ? and ?
+            """;
+
+    private HikariDataSource dataSource;
+    private UUID[] citizenIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(env("BENCH_JDBC_URL",
+                "jdbc:postgresql://localhost:5433/insurance_db?reWriteBatchedInserts=true"));
+        dataSource.setUsername(env("BENCH_JDBC_USER", "postgres"));
+        dataSource.setPassword(env("BENCH_JDBC_PASSWORD", "postgres"));
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        deleteSeed();
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        deleteSeed();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long countDistinctPaidMonths() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(COUNT_DISTINCT_PAID_MONTHS)) {
+            statement.setObject(1, randomCitizen());
+            statement.setDate(2, Date.valueOf(WINDOW_FROM));
+            statement.setDate(3, Date.valueOf(LAST_MONTH));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    @Benchmark
+    public int paidMonthBitmap() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_CITIZEN_MASKS)) {
+            statement.setObject(1, randomCitizen());
+            statement.setShort(2, (short) WINDOW_FROM.getYear());
+            statement.setShort(3, (short) LAST_MONTH.getYear());
+            int mask = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    mask ^= resultSet.getInt(2);
+                }
+            }
+            return mask;
+        }
+    }
+
+    @Benchmark
+    public void periodWithParties(Blackhole blackhole) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PERIOD_WITH_PARTIES)) {
+            statement.setObject(1, randomCitizen());
+            statement.setDate(2, Date.valueOf(LAST_MONTH.minusMonths(MONTHS - 1L)));
+            statement.setDate(3, Date.valueOf(LAST_MONTH));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    blackhole.consume(resultSet.getObject(1));
+                    blackhole.consume(resultSet.getBigDecimal(3));
+                    blackhole.consume(resultSet.getString(10));
+                    blackhole.consume(resultSet.getString(14));
+                }
+            }
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private UUID randomCitizen() {
+        return citizenIds[ThreadLocalRandom.current().nextInt(citizenIds.length)];
+    }
+
+    private void seed() throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        citizenIds = new UUID[CITIZENS];
+        UUID[] employerIds = new UUID[EMPLOYERS];
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement employers = connection.prepareStatement(
+                    "insert into employers (id, company_code, name, created_at, updated_at) values (?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < EMPLOYERS; i++) {
+                    employerIds[i] = UUID.randomUUID();
+                    employers.setObject(1, employerIds[i]);
+                    employers.setString(2, CODE_PREFIX + i);
+                    employers.setString(3, "Benchmark employer " + i);
+                    employers.setTimestamp(4, now);
+                    employers.setTimestamp(5, now);
+                    employers.addBatch();
+                }
+                employers.executeBatch();
+            }
+            try (PreparedStatement citizens = connection.prepareStatement("""
+                    insert into citizens (id, personal_code, first_name, last_name, date_of_birth, created_at, updated_at)
+                    values (?, ?, ?, ?, ?, ?, ?)
+                    """);
+                 PreparedStatement contributions = connection.prepareStatement("""
+                         insert into contributions (id, citizen_id, employer_id, month_date, amount, currency,
+                                                    paid_at, created_at, updated_at)
+                         values (?, ?, ?, ?, 1000.00, 'EUR', ?, ?, ?)
+                         """)) {
+                for (int i = 0; i < CITIZENS; i++) {
+                    citizenIds[i] = UUID.randomUUID();
+                    citizens.setObject(1, citizenIds[i]);
+                    citizens.setString(2, CODE_PREFIX + i);
+                    citizens.setString(3, "Bench");
+                    citizens.setString(4, "Citizen" + i);
+                    citizens.setDate(5, Date.valueOf(LocalDate.of(1990, 1, 1)));
+                    citizens.setTimestamp(6, now);
+                    citizens.setTimestamp(7, now);
+                    citizens.addBatch();
+
+                    for (int month = 0; month < MONTHS; month++) {
+                        for (UUID employerId : employerIds) {
+                            contributions.setObject(1, UUID.randomUUID());
+                            contributions.setObject(2, citizenIds[i]);
+                            contributions.setObject(3, employerId);
+                            contributions.setDate(4, Date.valueOf(LAST_MONTH.minusMonths(month)));
+                            // every third month is unpaid
+                            contributions.setTimestamp(5, month % 3 == 2 ? null : now);
+                            contributions.setTimestamp(6, now);
+                            contributions.setTimestamp(7, now);
+                            contributions.addBatch();
+                        }
+                    }
+                    if (i % 100 == 99) {
+                        citizens.executeBatch();
+                        contributions.executeBatch();
+                    }
+                }
+                citizens.executeBatch();
+                contributions.executeBatch();
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        insert into citizen_paid_months (citizen_id, year, months)
+                        select c.citizen_id, extract(year from c.month_date)::smallint,
+                               bit_or(1 << (extract(month from c.month_date)::int - 1))
+                        from contributions c
+                        join citizens ci on ci.id = c.citizen_id
+                        where ci.personal_code like '%s%%'
+                          and c.paid_at is not null
+                        group by 1, 2
+                        """.formatted(CODE_PREFIX));
+                statement.execute("analyze contributions");
+                statement.execute("analyze citizen_paid_months");
+            }
+            connection.commit();
+        }
+    }
+
+    private void deleteSeed() throws SQLException {
+        String prefix = CODE_PREFIX + "%";
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : new String[]{
+                    "delete from contributions where citizen_id in (select id from citizens where personal_code like ?)",
+                    "delete from citizens where personal_code like ?",
+                    "delete from employers where company_code like ?"}) {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setString(1, prefix);
+                    statement.executeUpdate();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summing contribution amounts as BigDecimal (the former entity type), as {@link Money} values and as
+ * raw minor units, the way rollups, the eligibility history and deletion jobs now accumulate them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContributionSummationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private BigDecimal[] decimals;
+    private Money[] amounts;
+    private long[] minorUnits;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        decimals = new BigDecimal[rows];
+        amounts = new Money[rows];
+        minorUnits = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            // 1.00 .. 5 000.00, as NUMERIC(12, 2) values come back from the driver
+            long cents = random.nextLong(100, 500_001);
+            decimals[i] = BigDecimal.valueOf(cents, Money.SCALE);
+            amounts[i] = Money.of(decimals[i], "EUR");
+            minorUnits[i] = cents;
+        }
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money sumMoney() {
+        Money total = new Money(0, "EUR");
+        for (Money amount : amounts) {
+            total = total.plus(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long sumMinorUnits() {
+        long total = 0;
+        for (long amount : minorUnits) {
+            total = Math.addExact(total, amount);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,60 @@
+package lt.example.insurance.contribution;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Window arithmetic plus the bitmap popcount behind every eligibility answer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EligibilityWindowBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 15);
+
+    @Param({"6", "24", "60"})
+    private int monthsBack;
+
+    private PaidMonths paidMonths;
+
+    @Setup
+    public void setUp() {
+        EligibilityWindow window = EligibilityWindow.endingAt(TODAY, monthsBack);
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Integer, Integer> masks = new HashMap<>();
+        for (int year = window.from().getYear(); year <= window.to().getYear(); year++) {
+            masks.put(year, random.nextInt(1 << 12));
+        }
+        paidMonths = PaidMonths.of(window.from().getYear(), window.to().getYear(), masks);
+    }
+
+    @Benchmark
+    public EligibilityWindow window() {
+        return EligibilityWindow.endingAt(TODAY, monthsBack);
+    }
+
+    @Benchmark
+    public int windowAndCount() {
+        EligibilityWindow window = EligibilityWindow.endingAt(TODAY, monthsBack);
+        return paidMonths.count(window.from(), window.to());
+    }
+}
@@ -0,0 +1,161 @@
+package lt.example.insurance.contribution;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lt.example.insurance.common.id.UuidV7;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched inserts into an unpartitioned copy of contributions with its (id, month_date) primary key,
+ * keyed by random v4 or time-ordered v7 UUIDs, on top of {@link #SEEDED_ROWS} rows seeded with keys
+ * of the same kind. Needs a real Postgres like {@link ContributionQueryJdbcBenchmark} (same
+ * {@code BENCH_JDBC_*} variables); start it with {@code -Djmh.args=PrimaryKeyInsertJdbc}. Insert time
+ * per batch is the score; on tear down the primary key index size, its leaf density (when pgstattuple
+ * is installed) and the WAL written by the warmup and measured inserts are printed, and the table is
+ * dropped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class PrimaryKeyInsertJdbcBenchmark {
+
+    public enum KeyType {
+        V4, V7
+    }
+
+    private static final int SEEDED_ROWS = 5_000_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int CITIZENS = 100_000;
+
+    private static final String INSERT = """
+            insert into %s (id, citizen_id, employer_id, month_date, amount, currency, paid_at, created_at, updated_at)
+            values (?, ?, ?, ?, 1000.00, 'EUR', now(), now(), now())
+            """;
+
+    // id columns only; the rest of the row is the same for both key types
+    private static final String SEED = """
+            insert into %s (id, citizen_id, employer_id, month_date, amount, currency, paid_at, created_at, updated_at)
+            select %s, gen_random_uuid(), gen_random_uuid(), date '2020-01-01' + (g %% 72) * interval '1 month',
+                   1000.00, 'EUR', now(), now(), now()
+            from generate_series(1, ?) g
+            """;
+
+    @Param({"V4", "V7"})
+    private KeyType keyType;
+
+    private HikariDataSource dataSource;
+    private String table;
+    private UUID[] citizenIds;
+    private String walBeforeMeasurement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(env("BENCH_JDBC_URL",
+                "jdbc:postgresql://localhost:5433/insurance_db?reWriteBatchedInserts=true"));
+        dataSource.setUsername(env("BENCH_JDBC_USER", "postgres"));
+        dataSource.setPassword(env("BENCH_JDBC_PASSWORD", "postgres"));
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        table = "pk_insert_bench_" + keyType.name().toLowerCase();
+        citizenIds = new UUID[CITIZENS];
+        for (int i = 0; i < CITIZENS; i++) {
+            citizenIds[i] = UUID.randomUUID();
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + table);
+            statement.execute("create table " + table + " (like contributions including defaults, primary key (id, month_date))");
+            try (PreparedStatement seed = connection.prepareStatement(SEED.formatted(table,
+                    keyType == KeyType.V7 ? "uuid_generate_v7()" : "gen_random_uuid()"))) {
+                seed.setInt(1, SEEDED_ROWS);
+                seed.executeUpdate();
+            }
+            statement.execute("vacuum analyze " + table);
+            statement.execute("checkpoint");
+            walBeforeMeasurement = queryString(statement, "select pg_current_wal_lsn()::text");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            String wal = queryString(statement, "select pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), '"
+                    + walBeforeMeasurement + "'))");
+            String indexSize = queryString(statement,
+                    "select pg_size_pretty(pg_relation_size('" + table + "_pkey'))");
+            String density = leafDensity(statement);
+            System.out.printf("%n%s keys: primary key index %s, leaf density %s, WAL written %s%n",
+                    keyType, indexSize, density, wal);
+            statement.execute("drop table " + table);
+        }
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int insertBatch() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(INSERT.formatted(table))) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                insert.setObject(1, keyType == KeyType.V7 ? UuidV7.generate() : UUID.randomUUID());
+                insert.setObject(2, citizenIds[random.nextInt(CITIZENS)]);
+                insert.setObject(3, citizenIds[random.nextInt(CITIZENS)]);
+                insert.setDate(4, Date.valueOf(LocalDate.of(2026, 1, 1)));
+                insert.addBatch();
+            }
+            int inserted = insert.executeBatch().length;
+            connection.commit();
+            return inserted;
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private String leafDensity(Statement statement) {
+        try {
+            return queryString(statement, "select avg_leaf_density || '%' from pgstatindex('" + table + "_pkey')");
+        } catch (SQLException e) {
+            // pgstattuple is not installed
+            return "n/a";
+        }
+    }
+
+    private static String queryString(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
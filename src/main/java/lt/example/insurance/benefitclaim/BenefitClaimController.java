@@ -0,0 +1,184 @@
+package lt.example.insurance.benefitclaim;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimCreateRequest;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimDecisionRequest;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimResponse;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimStatus;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+import lt.example.insurance.benefitclaim.dto.BenefitEligibilityResponse;
+import lt.example.insurance.common.api.NdjsonWriter;
+import lt.example.insurance.common.search.NameSearch;
+import lt.example.insurance.common.search.SearchPage;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Benefit claims", description = "Benefit claims, review and contribution-based decisions")
+public class BenefitClaimController {
+
+    private final BenefitClaimService benefitClaimService;
+    private final ObjectMapper objectMapper;
+
+    public BenefitClaimController(BenefitClaimService benefitClaimService, ObjectMapper objectMapper) {
+        this.benefitClaimService = benefitClaimService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping("/benefit-claims")
+    @Operation(summary = "Submit a benefit claim")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Claim submitted"),
+            @ApiResponse(responseCode = "400", description = "Validation failed"),
+            @ApiResponse(responseCode = "404", description = "Citizen not found")
+    })
+    public ResponseEntity<BenefitClaimResponse> create(@Valid @RequestBody BenefitClaimCreateRequest request) {
+        BenefitClaimResponse created = benefitClaimService.create(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    @GetMapping("/benefit-claims")
+    @Operation(summary = "List benefit claims, oldest submission first",
+            description = "Filter by status to get a review queue. Every claim carries its eligibility, evaluated "
+                    + "for the whole page at once. At most " + NameSearch.MAX_PAGE_SIZE + " per page.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Claims returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid page or page size")
+    })
+    public SearchPage<BenefitClaimResponse> list(
+            @RequestParam(name = "status", required = false) BenefitClaimStatus status,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return benefitClaimService.findQueue(status, page, size);
+    }
+
+    @GetMapping("/benefit-claims/{id}")
+    @Operation(summary = "Get benefit claim by ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Claim found"),
+            @ApiResponse(responseCode = "404", description = "Claim not found")
+    })
+    public BenefitClaimResponse getById(@PathVariable UUID id) {
+        return benefitClaimService.getById(id);
+    }
+
+    @GetMapping("/citizens/{citizenId}/benefit-claims")
+    @Operation(summary = "Get the benefit claims of a citizen, newest first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Claims returned"),
+            @ApiResponse(responseCode = "404", description = "Citizen not found")
+    })
+    public List<BenefitClaimResponse> getByCitizen(@PathVariable UUID citizenId) {
+        return benefitClaimService.findByCitizen(citizenId);
+    }
+
+    @GetMapping("/citizens/{citizenId}/benefit-eligibility")
+    @Operation(summary = "Evaluate the contribution rule of a benefit type for a citizen",
+            description = "Uses the configured rule of the type over the months before startDate (default: current month).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Eligibility evaluated"),
+            @ApiResponse(responseCode = "404", description = "Citizen not found")
+    })
+    public BenefitEligibilityResponse getEligibility(
+            @PathVariable UUID citizenId,
+            @RequestParam("type") BenefitClaimType type,
+            @RequestParam(name = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate) {
+        return benefitClaimService.evaluateEligibility(citizenId, type, startDate);
+    }
+
+    @GetMapping("/benefit-eligibility")
+    @Operation(summary = "Evaluate the contribution rule of a benefit type for every citizen",
+            description = "Streams one BenefitEligibilityResponse per line (NDJSON) in citizen ID order.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Eligibility results streamed")
+    })
+    public ResponseEntity<StreamingResponseBody> getPopulationEligibility(
+            @RequestParam("type") BenefitClaimType type,
+            @RequestParam(name = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate) {
+        StreamingResponseBody body = out -> {
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, out);
+            try {
+                benefitClaimService.evaluatePopulation(type, startDate, result -> {
+                    try {
+                        writer.write(result);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(NdjsonWriter.MEDIA_TYPE).body(body);
+    }
+
+    @PostMapping("/benefit-claims/{id}/review")
+    @Operation(summary = "Take a submitted claim into review")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Claim under review"),
+            @ApiResponse(responseCode = "404", description = "Claim not found"),
+            @ApiResponse(responseCode = "409", description = "Claim is not submitted")
+    })
+    public BenefitClaimResponse startReview(@PathVariable UUID id) {
+        return benefitClaimService.startReview(id);
+    }
+
+    @PostMapping("/benefit-claims/{id}/approve")
+    @Operation(summary = "Approve a claim under review")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Claim approved"),
+            @ApiResponse(responseCode = "404", description = "Claim not found"),
+            @ApiResponse(responseCode = "409", description = "Claim is not under review")
+    })
+    public BenefitClaimResponse approve(@PathVariable UUID id,
+                                        @Valid @RequestBody(required = false) BenefitClaimDecisionRequest request) {
+        return benefitClaimService.approve(id, request != null ? request.getReason() : null);
+    }
+
+    @PostMapping("/benefit-claims/{id}/reject")
+    @Operation(summary = "Reject a claim under review")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Claim rejected"),
+            @ApiResponse(responseCode = "404", description = "Claim not found"),
+            @ApiResponse(responseCode = "409", description = "Claim is not under review")
+    })
+    public BenefitClaimResponse reject(@PathVariable UUID id,
+                                       @Valid @RequestBody(required = false) BenefitClaimDecisionRequest request) {
+        return benefitClaimService.reject(id, request != null ? request.getReason() : null);
+    }
+
+    @PostMapping("/benefit-claims/decisions")
+    @Operation(summary = "Decide the oldest claims under review by their contribution history",
+            description = "Approves claims that meet the configured contribution rule of their type and rejects the rest; "
+                    + "the batch is evaluated in one pass. At most " + BenefitClaimService.MAX_DECISION_BATCH
+                    + " claims per call.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Decided claims returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    public List<BenefitClaimResponse> decideUnderReview(@RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return benefitClaimService.decideUnderReview(limit);
+    }
+}
@@ -0,0 +1,18 @@
+package lt.example.insurance.benefitclaim;
+
+import lt.example.insurance.benefitclaim.dto.BenefitClaimStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface BenefitClaimRepository extends JpaRepository<BenefitClaimEntity, UUID> {
+
+    Slice<BenefitClaimEntity> findAllBy(Pageable pageable);
+
+    Slice<BenefitClaimEntity> findByStatus(BenefitClaimStatus status, Pageable pageable);
+
+    List<BenefitClaimEntity> findByCitizen_IdOrderBySubmittedAtDesc(UUID citizenId);
+}
@@ -0,0 +1,248 @@
+package lt.example.insurance.benefitclaim;
+
+import io.micrometer.core.annotation.Timed;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimCreateRequest;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimResponse;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimStatus;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+import lt.example.insurance.benefitclaim.dto.BenefitEligibilityResponse;
+import lt.example.insurance.citizen.CitizenDirectory;
+import lt.example.insurance.citizen.CitizenRepository;
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.common.exception.ConflictException;
+import lt.example.insurance.common.exception.NotFoundException;
+import lt.example.insurance.common.search.NameSearch;
+import lt.example.insurance.common.search.SearchPage;
+import lt.example.insurance.config.MetricsConfig;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Benefit claims and their contribution-based eligibility. Eligibility is never looked up claim by
+ * claim: every list of claims is evaluated by the {@link EligibilityRuleEngine} with one grouped
+ * contribution query per chunk.
+ */
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class BenefitClaimService {
+
+    public static final int MAX_DECISION_BATCH = 1000;
+
+    private static final Sort QUEUE_ORDER = Sort.by("submittedAt", "id");
+
+    private final BenefitClaimRepository benefitClaimRepository;
+    private final CitizenRepository citizenRepository;
+    private final CitizenDirectory citizenDirectory;
+    private final EligibilityRuleEngine eligibilityRuleEngine;
+    private final Clock clock;
+
+    public BenefitClaimService(BenefitClaimRepository benefitClaimRepository,
+                               CitizenRepository citizenRepository,
+                               CitizenDirectory citizenDirectory,
+                               EligibilityRuleEngine eligibilityRuleEngine,
+                               Clock clock) {
+        this.benefitClaimRepository = benefitClaimRepository;
+        this.citizenRepository = citizenRepository;
+        this.citizenDirectory = citizenDirectory;
+        this.eligibilityRuleEngine = eligibilityRuleEngine;
+        this.clock = clock;
+    }
+
+    @Transactional
+    public BenefitClaimResponse create(BenefitClaimCreateRequest request) {
+        if (request.getEndDate() != null && request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BadRequestException("endDate cannot be before startDate");
+        }
+        requireCitizen(request.getCitizenId());
+
+        BenefitClaimEntity entity = new BenefitClaimEntity();
+        entity.setCitizen(citizenRepository.getReferenceById(request.getCitizenId()));
+        entity.setType(request.getType());
+        entity.setStatus(BenefitClaimStatus.SUBMITTED);
+        entity.setStartDate(request.getStartDate());
+        entity.setEndDate(request.getEndDate());
+        entity.setSubmittedAt(clock.instant());
+
+        return toResponses(List.of(benefitClaimRepository.save(entity))).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public BenefitClaimResponse getById(UUID id) {
+        return toResponses(List.of(findClaim(id))).get(0);
+    }
+
+    /**
+     * Pages through claims, oldest submission first, optionally only those in one status (a review queue).
+     */
+    @Transactional(readOnly = true)
+    public SearchPage<BenefitClaimResponse> findQueue(BenefitClaimStatus status, int page, int size) {
+        PageRequest pageable = NameSearch.pageable(page, size).withSort(QUEUE_ORDER);
+        Slice<BenefitClaimEntity> claims = status == null
+                ? benefitClaimRepository.findAllBy(pageable)
+                : benefitClaimRepository.findByStatus(status, pageable);
+
+        SearchPage<BenefitClaimResponse> result = new SearchPage<>();
+        result.setContent(toResponses(claims.getContent()));
+        result.setPage(claims.getNumber());
+        result.setSize(claims.getSize());
+        result.setHasNext(claims.hasNext());
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public List<BenefitClaimResponse> findByCitizen(UUID citizenId) {
+        requireCitizen(citizenId);
+        return toResponses(benefitClaimRepository.findByCitizen_IdOrderBySubmittedAtDesc(citizenId));
+    }
+
+    /**
+     * Evaluates the rule of a benefit type for one citizen without filing a claim; {@code startDate}
+     * defaults to the current month.
+     */
+    @Transactional(readOnly = true)
+    public BenefitEligibilityResponse evaluateEligibility(UUID citizenId, BenefitClaimType type, LocalDate startDate) {
+        requireCitizen(citizenId);
+        return eligibilityRuleEngine.evaluate(List.of(new EligibilityQuery(citizenId, type, benefitStart(startDate))))
+                .get(0);
+    }
+
+    /**
+     * Evaluates the rule of a benefit type for every citizen. Deliberately not transactional: each chunk
+     * of citizens is read in its own short read-only transaction, routed to a read replica when one is
+     * configured, instead of one snapshot for the whole run.
+     */
+    public void evaluatePopulation(BenefitClaimType type, LocalDate startDate, Consumer<BenefitEligibilityResponse> sink) {
+        eligibilityRuleEngine.evaluatePopulation(type, benefitStart(startDate), sink);
+    }
+
+    @Transactional
+    public BenefitClaimResponse startReview(UUID id) {
+        BenefitClaimEntity entity = findClaim(id);
+        requireStatus(entity, BenefitClaimStatus.SUBMITTED);
+        entity.setStatus(BenefitClaimStatus.UNDER_REVIEW);
+        return toResponses(List.of(entity)).get(0);
+    }
+
+    @Transactional
+    public BenefitClaimResponse approve(UUID id, String reason) {
+        return decide(id, BenefitClaimStatus.APPROVED, reason);
+    }
+
+    @Transactional
+    public BenefitClaimResponse reject(UUID id, String reason) {
+        return decide(id, BenefitClaimStatus.REJECTED, reason);
+    }
+
+    /**
+     * Decides up to {@code limit} claims under review, oldest first: claims meeting their type's
+     * contribution rule are approved, the others rejected, with the evaluated history as the reason.
+     * The whole batch is evaluated in one pass.
+     */
+    @Transactional
+    public List<BenefitClaimResponse> decideUnderReview(int limit) {
+        if (limit < 1 || limit > MAX_DECISION_BATCH) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_DECISION_BATCH);
+        }
+        List<BenefitClaimEntity> claims = benefitClaimRepository
+                .findByStatus(BenefitClaimStatus.UNDER_REVIEW, PageRequest.of(0, limit, QUEUE_ORDER))
+                .getContent();
+        List<BenefitEligibilityResponse> eligibility = evaluate(claims);
+
+        List<BenefitClaimResponse> decided = new ArrayList<>(claims.size());
+        for (int i = 0; i < claims.size(); i++) {
+            BenefitClaimEntity entity = claims.get(i);
+            BenefitEligibilityResponse result = eligibility.get(i);
+            entity.setStatus(result.isEligible() ? BenefitClaimStatus.APPROVED : BenefitClaimStatus.REJECTED);
+            entity.setDecidedAt(clock.instant());
+            entity.setDecisionReason(describe(result));
+            decided.add(toResponse(entity, result));
+        }
+        return decided;
+    }
+
+    private BenefitClaimResponse decide(UUID id, BenefitClaimStatus decision, String reason) {
+        BenefitClaimEntity entity = findClaim(id);
+        requireStatus(entity, BenefitClaimStatus.UNDER_REVIEW);
+        entity.setStatus(decision);
+        entity.setDecidedAt(clock.instant());
+        entity.setDecisionReason(reason);
+        return toResponses(List.of(entity)).get(0);
+    }
+
+    private BenefitClaimEntity findClaim(UUID id) {
+        return benefitClaimRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Benefit claim not found with id: " + id));
+    }
+
+    private void requireCitizen(UUID citizenId) {
+        if (citizenDirectory.find(citizenId).isEmpty()) {
+            throw new NotFoundException("Citizen not found with id: " + citizenId);
+        }
+    }
+
+    private static void requireStatus(BenefitClaimEntity entity, BenefitClaimStatus expected) {
+        if (entity.getStatus() != expected) {
+            throw new ConflictException("Benefit claim " + entity.getId() + " is " + entity.getStatus()
+                    + ", expected " + expected);
+        }
+    }
+
+    private List<BenefitClaimResponse> toResponses(List<BenefitClaimEntity> claims) {
+        List<BenefitEligibilityResponse> eligibility = evaluate(claims);
+        List<BenefitClaimResponse> responses = new ArrayList<>(claims.size());
+        for (int i = 0; i < claims.size(); i++) {
+            responses.add(toResponse(claims.get(i), eligibility.get(i)));
+        }
+        return responses;
+    }
+
+    private List<BenefitEligibilityResponse> evaluate(List<BenefitClaimEntity> claims) {
+        List<EligibilityQuery> queries = new ArrayList<>(claims.size());
+        for (BenefitClaimEntity claim : claims) {
+            // claims without a start date count from their submission
+            LocalDate start = claim.getStartDate() != null
+                    ? claim.getStartDate()
+                    : LocalDate.ofInstant(claim.getSubmittedAt(), clock.getZone());
+            queries.add(new EligibilityQuery(claim.getCitizen().getId(), claim.getType(), YearMonth.from(start)));
+        }
+        return eligibilityRuleEngine.evaluate(queries);
+    }
+
+    private YearMonth benefitStart(LocalDate startDate) {
+        return startDate != null ? YearMonth.from(startDate) : YearMonth.now(clock);
+    }
+
+    private static String describe(BenefitEligibilityResponse result) {
+        String window = YearMonth.from(result.getWindowFrom()) + " to " + YearMonth.from(result.getWindowTo());
+        if (result.isEligible()) {
+            return "Eligible: " + result.getPaidMonths() + " paid months from " + window;
+        }
+        return "Not eligible from " + window + ": " + String.join("; ", result.getUnmetRequirements());
+    }
+
+    private BenefitClaimResponse toResponse(BenefitClaimEntity entity, BenefitEligibilityResponse eligibility) {
+        BenefitClaimResponse response = new BenefitClaimResponse();
+        response.setId(entity.getId());
+        response.setCitizenId(entity.getCitizen().getId());
+        response.setType(entity.getType());
+        response.setStatus(entity.getStatus());
+        response.setStartDate(entity.getStartDate());
+        response.setEndDate(entity.getEndDate());
+        response.setSubmittedAt(entity.getSubmittedAt());
+        response.setDecidedAt(entity.getDecidedAt());
+        response.setDecisionReason(entity.getDecisionReason());
+        response.setEligibility(eligibility);
+        return response;
+    }
+}
@@ -0,0 +1,133 @@
+package lt.example.insurance.benefitclaim;
+
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+import lt.example.insurance.benefitclaim.dto.BenefitEligibilityResponse;
+import lt.example.insurance.common.money.Money;
+import lt.example.insurance.contribution.MonthlyContributionHistory;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A validated {@link EligibilityRuleProperties.Rule} reduced to primitive thresholds. Evaluation walks
+ * the window of a citizen's monthly vector once, accumulating paid months, amount and the longest paid
+ * run together; the per-employer criterion is only computed when the rule checks it.
+ */
+final class CompiledEligibilityRule {
+
+    private final BenefitClaimType type;
+    private final String currency;
+    private final int monthsBack;
+    private final int minPaidMonths;
+    private final long minTotalCents;
+    private final int minConsecutiveMonths;
+    private final int minMonthsWithOneEmployer;
+
+    private CompiledEligibilityRule(BenefitClaimType type, String currency, int monthsBack, int minPaidMonths,
+                                    long minTotalCents, int minConsecutiveMonths, int minMonthsWithOneEmployer) {
+        this.type = type;
+        this.currency = currency;
+        this.monthsBack = monthsBack;
+        this.minPaidMonths = minPaidMonths;
+        this.minTotalCents = minTotalCents;
+        this.minConsecutiveMonths = minConsecutiveMonths;
+        this.minMonthsWithOneEmployer = minMonthsWithOneEmployer;
+    }
+
+    static CompiledEligibilityRule compile(BenefitClaimType type, EligibilityRuleProperties.Rule rule, String currency) {
+        if (rule.monthsBack() < 1) {
+            throw invalid(type, "months-back must be at least 1");
+        }
+        for (int threshold : new int[]{rule.minPaidMonths(), rule.minConsecutiveMonths(), rule.minMonthsWithOneEmployer()}) {
+            if (threshold < 0 || threshold > rule.monthsBack()) {
+                throw invalid(type, "month thresholds must be between 0 and months-back");
+            }
+        }
+        long minTotalCents = 0;
+        if (rule.minTotalAmount() != null) {
+            if (rule.minTotalAmount().signum() < 0 || rule.minTotalAmount().scale() > 2) {
+                throw invalid(type, "min-total-amount must be a non-negative amount with at most two decimals");
+            }
+            minTotalCents = Money.toMinorUnits(rule.minTotalAmount());
+        }
+        return new CompiledEligibilityRule(type, currency, rule.monthsBack(), rule.minPaidMonths(), minTotalCents,
+                rule.minConsecutiveMonths(), rule.minMonthsWithOneEmployer());
+    }
+
+    /**
+     * First month of the window for a benefit starting in {@code benefitStart}.
+     */
+    YearMonth windowFrom(YearMonth benefitStart) {
+        return benefitStart.minusMonths(monthsBack);
+    }
+
+    /**
+     * Last month of the window: the month before the benefit starts.
+     */
+    YearMonth windowTo(YearMonth benefitStart) {
+        return benefitStart.minusMonths(1);
+    }
+
+    /**
+     * Evaluates the rule on a history that covers the window for {@code benefitStart}.
+     */
+    BenefitEligibilityResponse evaluate(UUID citizenId, MonthlyContributionHistory history, YearMonth benefitStart) {
+        int from = history.offset(windowFrom(benefitStart));
+        int to = history.offset(windowTo(benefitStart));
+
+        int paidMonths = 0;
+        int run = 0;
+        int longestRun = 0;
+        long totalCents = 0;
+        for (int month = from; month <= to; month++) {
+            if (history.isPaid(month)) {
+                paidMonths++;
+                run++;
+                longestRun = Math.max(longestRun, run);
+                totalCents += history.amountCents(month);
+            } else {
+                run = 0;
+            }
+        }
+        int withOneEmployer = minMonthsWithOneEmployer > 0 ? history.maxMonthsWithOneEmployer(from, to) : 0;
+
+        List<String> unmet = new ArrayList<>(0);
+        if (paidMonths < minPaidMonths) {
+            unmet.add("paid months: " + paidMonths + " of " + minPaidMonths + " required");
+        }
+        if (totalCents < minTotalCents) {
+            unmet.add("paid amount: " + Money.toDecimal(totalCents) + " of "
+                    + Money.toDecimal(minTotalCents) + " " + currency + " required");
+        }
+        if (longestRun < minConsecutiveMonths) {
+            unmet.add("consecutive paid months: " + longestRun + " of " + minConsecutiveMonths + " required");
+        }
+        if (withOneEmployer < minMonthsWithOneEmployer) {
+            unmet.add("paid months with one employer: " + withOneEmployer + " of " + minMonthsWithOneEmployer + " required");
+        }
+
+        BenefitEligibilityResponse response = new BenefitEligibilityResponse();
+        response.setCitizenId(citizenId);
+        response.setType(type);
+        response.setWindowFrom(windowFrom(benefitStart).atDay(1));
+        response.setWindowTo(windowTo(benefitStart).atDay(1));
+        response.setPaidMonths(paidMonths);
+        response.setRequiredPaidMonths(minPaidMonths);
+        response.setTotalPaidAmount(Money.toDecimal(totalCents));
+        response.setRequiredTotalAmount(minTotalCents > 0 ? Money.toDecimal(minTotalCents) : null);
+        response.setCurrency(currency);
+        response.setLongestPaidStreak(longestRun);
+        response.setRequiredConsecutiveMonths(minConsecutiveMonths);
+        response.setMaxMonthsWithOneEmployer(withOneEmployer);
+        response.setRequiredMonthsWithOneEmployer(minMonthsWithOneEmployer);
+        response.setEligible(unmet.isEmpty());
+        response.setUnmetRequirements(unmet);
+        return response;
+    }
+
+    private static IllegalStateException invalid(BenefitClaimType type, String problem) {
+        return new IllegalStateException("Invalid eligibility rule for " + type + ": " + problem);
+    }
+}
@@ -0,0 +1,12 @@
+package lt.example.insurance.benefitclaim;
+
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Would the citizen qualify for a benefit of this type starting in {@code benefitStart}.
+ */
+record EligibilityQuery(UUID citizenId, BenefitClaimType type, YearMonth benefitStart) {
+}
@@ -0,0 +1,117 @@
+package lt.example.insurance.benefitclaim;
+
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+import lt.example.insurance.benefitclaim.dto.BenefitEligibilityResponse;
+import lt.example.insurance.citizen.CitizenRepository;
+import lt.example.insurance.contribution.ContributionHistoryLoader;
+import lt.example.insurance.contribution.MonthlyContributionHistory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Evaluates the configured benefit rules. Rules are compiled once at startup (a missing or
+ * inconsistent rule fails the start); queries are answered in chunks of {@link #CHUNK_SIZE}, each with
+ * one grouped query loading the monthly vectors of its citizens over the union of the windows involved.
+ */
+@Component
+class EligibilityRuleEngine {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final Map<BenefitClaimType, CompiledEligibilityRule> rules = new EnumMap<>(BenefitClaimType.class);
+    private final String currency;
+    private final ContributionHistoryLoader historyLoader;
+    private final CitizenRepository citizenRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    EligibilityRuleEngine(EligibilityRuleProperties properties,
+                          ContributionHistoryLoader historyLoader,
+                          CitizenRepository citizenRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.currency = properties.currency();
+        for (BenefitClaimType type : BenefitClaimType.values()) {
+            EligibilityRuleProperties.Rule rule = properties.rules() != null ? properties.rules().get(type) : null;
+            if (rule == null) {
+                throw new IllegalStateException("No eligibility rule configured for " + type);
+            }
+            rules.put(type, CompiledEligibilityRule.compile(type, rule, currency));
+        }
+        this.historyLoader = historyLoader;
+        this.citizenRepository = citizenRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Results keep the order of {@code queries}; unknown citizens evaluate as having paid nothing.
+     */
+    List<BenefitEligibilityResponse> evaluate(List<EligibilityQuery> queries) {
+        List<BenefitEligibilityResponse> results = new ArrayList<>(queries.size());
+        for (int start = 0; start < queries.size(); start += CHUNK_SIZE) {
+            List<EligibilityQuery> chunk = queries.subList(start, Math.min(start + CHUNK_SIZE, queries.size()));
+            YearMonth from = null;
+            YearMonth to = null;
+            Set<UUID> citizenIds = new LinkedHashSet<>();
+            for (EligibilityQuery query : chunk) {
+                CompiledEligibilityRule rule = rules.get(query.type());
+                YearMonth windowFrom = rule.windowFrom(query.benefitStart());
+                YearMonth windowTo = rule.windowTo(query.benefitStart());
+                from = from == null || windowFrom.isBefore(from) ? windowFrom : from;
+                to = to == null || windowTo.isAfter(to) ? windowTo : to;
+                citizenIds.add(query.citizenId());
+            }
+
+            Map<UUID, MonthlyContributionHistory> histories = historyLoader.load(citizenIds, from, to, currency);
+            for (EligibilityQuery query : chunk) {
+                results.add(rules.get(query.type())
+                        .evaluate(query.citizenId(), histories.get(query.citizenId()), query.benefitStart()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Evaluates one benefit type for every citizen in ID order, handing results to the sink chunk by chunk.
+     * Each chunk is read in its own read-only transaction, so whole-population runs go to a read replica
+     * when one is configured; the sink is called after that transaction has ended.
+     */
+    void evaluatePopulation(BenefitClaimType type, YearMonth benefitStart, Consumer<BenefitEligibilityResponse> sink) {
+        CompiledEligibilityRule rule = rules.get(type);
+        YearMonth from = rule.windowFrom(benefitStart);
+        YearMonth to = rule.windowTo(benefitStart);
+
+        Pageable limit = PageRequest.ofSize(CHUNK_SIZE);
+        UUID after = new UUID(0L, 0L);
+        List<UUID> chunk;
+        do {
+            UUID chunkAfter = after;
+            PopulationChunk loaded = readOnlyTransaction.execute(status -> {
+                List<UUID> ids = citizenRepository.findIdsAfter(chunkAfter, limit);
+                return new PopulationChunk(ids, ids.isEmpty() ? Map.of() : historyLoader.load(ids, from, to, currency));
+            });
+            chunk = loaded.citizenIds();
+            for (UUID citizenId : chunk) {
+                sink.accept(rule.evaluate(citizenId, loaded.histories().get(citizenId), benefitStart));
+            }
+            if (!chunk.isEmpty()) {
+                after = chunk.get(chunk.size() - 1);
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+    }
+
+    private record PopulationChunk(List<UUID> citizenIds, Map<UUID, MonthlyContributionHistory> histories) {
+    }
+}
@@ -0,0 +1,34 @@
+package lt.example.insurance.benefitclaim;
+
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Contribution rules per benefit type ({@code eligibility.*}); every type needs a rule.
+ *
+ * @param currency amounts in this currency count towards {@link Rule#minTotalAmount()}
+ */
+@ConfigurationProperties(prefix = "eligibility")
+public record EligibilityRuleProperties(@DefaultValue("EUR") String currency,
+                                        Map<BenefitClaimType, Rule> rules) {
+
+    /**
+     * Requirements on the {@code monthsBack} months before the benefit starts; a zero or missing
+     * threshold is not checked.
+     *
+     * @param minPaidMonths            months with at least one paid contribution
+     * @param minTotalAmount           paid amount over the window
+     * @param minConsecutiveMonths     longest run of paid months
+     * @param minMonthsWithOneEmployer paid months from a single employer
+     */
+    public record Rule(int monthsBack,
+                       @DefaultValue("0") int minPaidMonths,
+                       BigDecimal minTotalAmount,
+                       @DefaultValue("0") int minConsecutiveMonths,
+                       @DefaultValue("0") int minMonthsWithOneEmployer) {
+    }
+}
@@ -0,0 +1,52 @@
+package lt.example.insurance.benefitclaim.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class BenefitClaimCreateRequest {
+
+    @NotNull
+    private UUID citizenId;
+
+    @NotNull
+    private BenefitClaimType type;
+
+    @NotNull
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    public UUID getCitizenId() {
+        return citizenId;
+    }
+
+    public void setCitizenId(UUID citizenId) {
+        this.citizenId = citizenId;
+    }
+
+    public BenefitClaimType getType() {
+        return type;
+    }
+
+    public void setType(BenefitClaimType type) {
+        this.type = type;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+}
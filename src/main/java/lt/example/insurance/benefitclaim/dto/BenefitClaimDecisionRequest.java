@@ -0,0 +1,17 @@
+package lt.example.insurance.benefitclaim.dto;
+
+import jakarta.validation.constraints.Size;
+
+public class BenefitClaimDecisionRequest {
+
+    @Size(max = 1000)
+    private String reason;
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,99 @@
+package lt.example.insurance.benefitclaim.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class BenefitClaimResponse {
+
+    private UUID id;
+    private UUID citizenId;
+    private BenefitClaimType type;
+    private BenefitClaimStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Instant submittedAt;
+    private Instant decidedAt;
+    private String decisionReason;
+    private BenefitEligibilityResponse eligibility;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getCitizenId() {
+        return citizenId;
+    }
+
+    public void setCitizenId(UUID citizenId) {
+        this.citizenId = citizenId;
+    }
+
+    public BenefitClaimType getType() {
+        return type;
+    }
+
+    public void setType(BenefitClaimType type) {
+        this.type = type;
+    }
+
+    public BenefitClaimStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BenefitClaimStatus status) {
+        this.status = status;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getDecidedAt() {
+        return decidedAt;
+    }
+
+    public void setDecidedAt(Instant decidedAt) {
+        this.decidedAt = decidedAt;
+    }
+
+    public String getDecisionReason() {
+        return decisionReason;
+    }
+
+    public void setDecisionReason(String decisionReason) {
+        this.decisionReason = decisionReason;
+    }
+
+    public BenefitEligibilityResponse getEligibility() {
+        return eligibility;
+    }
+
+    public void setEligibility(BenefitEligibilityResponse eligibility) {
+        this.eligibility = eligibility;
+    }
+}
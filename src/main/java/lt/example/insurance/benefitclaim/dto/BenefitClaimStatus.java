@@ -0,0 +1,12 @@
+package lt.example.insurance.benefitclaim.dto;
+
+/**
+ * Claims start as {@code SUBMITTED}; allowed transitions are SUBMITTED → UNDER_REVIEW and
+ * UNDER_REVIEW → APPROVED or REJECTED.
+ */
+public enum BenefitClaimStatus {
+    SUBMITTED,
+    UNDER_REVIEW,
+    APPROVED,
+    REJECTED
+}
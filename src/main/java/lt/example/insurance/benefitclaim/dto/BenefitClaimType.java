@@ -0,0 +1,8 @@
+package lt.example.insurance.benefitclaim.dto;
+
+public enum BenefitClaimType {
+    PENSION,
+    SICKNESS,
+    MATERNITY,
+    UNEMPLOYMENT
+}
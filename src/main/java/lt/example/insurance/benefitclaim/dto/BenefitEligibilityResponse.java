@@ -0,0 +1,149 @@
+package lt.example.insurance.benefitclaim.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a benefit type's contribution rule for one citizen. A {@code required*} value of zero (or a
+ * null required amount) means the rule does not check that criterion.
+ */
+public class BenefitEligibilityResponse {
+
+    private UUID citizenId;
+    private BenefitClaimType type;
+    private LocalDate windowFrom;
+    private LocalDate windowTo;
+    private int paidMonths;
+    private int requiredPaidMonths;
+    private BigDecimal totalPaidAmount;
+    private BigDecimal requiredTotalAmount;
+    private String currency;
+    private int longestPaidStreak;
+    private int requiredConsecutiveMonths;
+    private int maxMonthsWithOneEmployer;
+    private int requiredMonthsWithOneEmployer;
+    private boolean eligible;
+    private List<String> unmetRequirements;
+
+    public UUID getCitizenId() {
+        return citizenId;
+    }
+
+    public void setCitizenId(UUID citizenId) {
+        this.citizenId = citizenId;
+    }
+
+    public BenefitClaimType getType() {
+        return type;
+    }
+
+    public void setType(BenefitClaimType type) {
+        this.type = type;
+    }
+
+    public LocalDate getWindowFrom() {
+        return windowFrom;
+    }
+
+    public void setWindowFrom(LocalDate windowFrom) {
+        this.windowFrom = windowFrom;
+    }
+
+    public LocalDate getWindowTo() {
+        return windowTo;
+    }
+
+    public void setWindowTo(LocalDate windowTo) {
+        this.windowTo = windowTo;
+    }
+
+    public int getPaidMonths() {
+        return paidMonths;
+    }
+
+    public void setPaidMonths(int paidMonths) {
+        this.paidMonths = paidMonths;
+    }
+
+    public int getRequiredPaidMonths() {
+        return requiredPaidMonths;
+    }
+
+    public void setRequiredPaidMonths(int requiredPaidMonths) {
+        this.requiredPaidMonths = requiredPaidMonths;
+    }
+
+    public BigDecimal getTotalPaidAmount() {
+        return totalPaidAmount;
+    }
+
+    public void setTotalPaidAmount(BigDecimal totalPaidAmount) {
+        this.totalPaidAmount = totalPaidAmount;
+    }
+
+    public BigDecimal getRequiredTotalAmount() {
+        return requiredTotalAmount;
+    }
+
+    public void setRequiredTotalAmount(BigDecimal requiredTotalAmount) {
+        this.requiredTotalAmount = requiredTotalAmount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public int getLongestPaidStreak() {
+        return longestPaidStreak;
+    }
+
+    public void setLongestPaidStreak(int longestPaidStreak) {
+        this.longestPaidStreak = longestPaidStreak;
+    }
+
+    public int getRequiredConsecutiveMonths() {
+        return requiredConsecutiveMonths;
+    }
+
+    public void setRequiredConsecutiveMonths(int requiredConsecutiveMonths) {
+        this.requiredConsecutiveMonths = requiredConsecutiveMonths;
+    }
+
+    public int getMaxMonthsWithOneEmployer() {
+        return maxMonthsWithOneEmployer;
+    }
+
+    public void setMaxMonthsWithOneEmployer(int maxMonthsWithOneEmployer) {
+        this.maxMonthsWithOneEmployer = maxMonthsWithOneEmployer;
+    }
+
+    public int getRequiredMonthsWithOneEmployer() {
+        return requiredMonthsWithOneEmployer;
+    }
+
+    public void setRequiredMonthsWithOneEmployer(int requiredMonthsWithOneEmployer) {
+        this.requiredMonthsWithOneEmployer = requiredMonthsWithOneEmployer;
+    }
+
+    public boolean isEligible() {
+        return eligible;
+    }
+
+    public void setEligible(boolean eligible) {
+        this.eligible = eligible;
+    }
+
+    public List<String> getUnmetRequirements() {
+        return unmetRequirements;
+    }
+
+    public void setUnmetRequirements(List<String> unmetRequirements) {
+        this.unmetRequirements = unmetRequirements;
+    }
+}
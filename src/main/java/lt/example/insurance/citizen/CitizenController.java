@@ -1,15 +1,23 @@
 package lt.example.insurance.citizen;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.citizen.dto.CitizenEligibilityBatchRequest;
 import lt.example.insurance.citizen.dto.CitizenEligibilityResponse;
 import lt.example.insurance.citizen.dto.CitizenResponse;
 import lt.example.insurance.citizen.dto.CitizenUpdateRequest;
+import lt.example.insurance.common.api.ConditionalRequests;
+import lt.example.insurance.common.api.NdjsonWriter;
+import lt.example.insurance.common.search.NameSearch;
+import lt.example.insurance.common.search.SearchPage;
 import lt.example.insurance.contribution.ContributionService;
+import lt.example.insurance.contribution.EligibilityWindow;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,8 +30,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.UUID;
 
 @RestController
@@ -33,10 +45,17 @@ public class CitizenController {
 
     private final CitizenService citizenService;
     private final ContributionService contributionService;
+    private final ObjectMapper objectMapper;
+    private final EligibilityCacheProperties eligibilityCacheProperties;
 
-    public CitizenController(CitizenService citizenService, ContributionService contributionService) {
+    public CitizenController(CitizenService citizenService,
+                             ContributionService contributionService,
+                             ObjectMapper objectMapper,
+                             EligibilityCacheProperties eligibilityCacheProperties) {
         this.citizenService = citizenService;
         this.contributionService = contributionService;
+        this.objectMapper = objectMapper;
+        this.eligibilityCacheProperties = eligibilityCacheProperties;
     }
 
     @PostMapping
@@ -52,36 +71,88 @@ public class CitizenController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get citizen by ID")
+    @Operation(summary = "Get citizen by ID",
+            description = "Carries an ETag and Last-Modified; If-None-Match or If-Modified-Since is answered "
+                    + "with 304 without loading the citizen.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Citizen found"),
+            @ApiResponse(responseCode = "304", description = "Citizen unchanged"),
             @ApiResponse(responseCode = "404", description = "Citizen not found")
     })
-    public CitizenResponse getById(@PathVariable UUID id) {
-        return citizenService.getById(id);
+    public ResponseEntity<CitizenResponse> getById(@PathVariable UUID id, WebRequest request) {
+        return ConditionalRequests.ifModified(request, citizenService.getVersion(id),
+                () -> citizenService.getById(id));
     }
 
     @GetMapping
-    @Operation(summary = "Search citizens by last name")
+    @Operation(summary = "Search citizens by last name",
+            description = "Substring and similar-spelling matches, best match first. Without lastName, "
+                    + "citizens are listed in ID order. At most " + NameSearch.MAX_PAGE_SIZE + " per page.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Search completed")
+            @ApiResponse(responseCode = "200", description = "Search completed"),
+            @ApiResponse(responseCode = "400", description = "Invalid page or page size")
     })
-    public List<CitizenResponse> search(@RequestParam(name = "lastName", required = false) String lastName) {
-        return citizenService.search(lastName);
+    public SearchPage<CitizenResponse> search(
+            @RequestParam(name = "lastName", required = false) String lastName,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return citizenService.search(lastName, page, size);
     }
 
     @GetMapping("/{citizenId}/eligibility")
-    @Operation(summary = "Check contribution-based eligibility for a citizen")
+    @Operation(summary = "Check contribution-based eligibility for a citizen",
+            description = "Private Cache-Control max-age of citizens.eligibility.max-age, cut short at the end "
+                    + "of the current month, when the window moves on.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Eligibility calculated"),
             @ApiResponse(responseCode = "400", description = "Invalid parameters"),
             @ApiResponse(responseCode = "404", description = "Citizen not found")
     })
-    public CitizenEligibilityResponse getEligibility(
+    public ResponseEntity<CitizenEligibilityResponse> getEligibility(
             @PathVariable UUID citizenId,
             @RequestParam(name = "monthsBack", defaultValue = "6") int monthsBack,
             @RequestParam(name = "minMonthsPaid", defaultValue = "3") int minMonthsPaid) {
-        return contributionService.calculateEligibility(citizenId, monthsBack, minMonthsPaid);
+        CitizenEligibilityResponse eligibility =
+                contributionService.calculateEligibility(citizenId, monthsBack, minMonthsPaid);
+        Duration untilWindowMoves = contributionService.untilWindowMoves(eligibility.getWindowTo());
+        Duration maxAge = untilWindowMoves.compareTo(eligibilityCacheProperties.maxAge()) < 0
+                ? untilWindowMoves
+                : eligibilityCacheProperties.maxAge();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(maxAge).cachePrivate())
+                .body(eligibility);
+    }
+
+    @PostMapping("/eligibility/batch")
+    @Operation(summary = "Check eligibility for many citizens at once",
+            description = "Streams one CitizenEligibilityResponse per line (NDJSON). Evaluates the given citizen IDs, "
+                    + "or every citizen when none are given; unknown IDs are skipped.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Eligibility results streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters")
+    })
+    public ResponseEntity<StreamingResponseBody> getEligibilityBatch(
+            @Valid @RequestBody CitizenEligibilityBatchRequest request) {
+        EligibilityWindow window =
+                contributionService.eligibilityWindow(request.getMonthsBack(), request.getMinMonthsPaid());
+
+        StreamingResponseBody body = out -> {
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, out);
+            try {
+                contributionService.calculateEligibilityBatch(
+                        request.getCitizenIds(), window, request.getMinMonthsPaid(), result -> {
+                            try {
+                                writer.write(result);
+                            } catch (IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                        });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(NdjsonWriter.MEDIA_TYPE).body(body);
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,28 @@
+package lt.example.insurance.citizen;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cached citizen lookups for hot paths that only need existence and identity data.
+ * Entries are evicted by {@link CitizenService} on update and delete; misses are not cached.
+ */
+@Component
+public class CitizenDirectory {
+
+    public static final String CACHE_NAME = "citizens";
+
+    private final CitizenRepository citizenRepository;
+
+    public CitizenDirectory(CitizenRepository citizenRepository) {
+        this.citizenRepository = citizenRepository;
+    }
+
+    @Cacheable(cacheNames = CACHE_NAME, unless = "#result == null")
+    public Optional<CitizenSnapshot> find(UUID id) {
+        return citizenRepository.findById(id).map(CitizenSnapshot::of);
+    }
+}
@@ -1,14 +1,44 @@
 package lt.example.insurance.citizen;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface CitizenRepository extends JpaRepository<CitizenEntity, UUID> {
 
     boolean existsByPersonalCode(String personalCode);
 
-    List<CitizenEntity> findByLastNameContainingIgnoreCase(String lastName);
+    Slice<CitizenEntity> findAllBy(Pageable pageable);
+
+    @Query("select c.updatedAt from CitizenEntity c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Substring and fuzzy (trigram similarity) matches on last name, best matches first. Both
+     * predicates are served by the gin_trgm_ops index.
+     */
+    @Query(value = """
+            select c.*
+            from citizens c
+            where c.last_name ilike :pattern escape '\\'
+               or c.last_name % :term
+            order by similarity(c.last_name, :term) desc, c.last_name, c.id
+            """, nativeQuery = true)
+    Slice<CitizenEntity> searchByLastName(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+    @Query("""
+            select c.id
+            from CitizenEntity c
+            where c.id > :after
+            order by c.id
+            """)
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable limit);
 }
 
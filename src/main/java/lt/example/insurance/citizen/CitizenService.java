@@ -1,17 +1,26 @@
 package lt.example.insurance.citizen;
 
+import io.micrometer.core.annotation.Timed;
 import lt.example.insurance.citizen.dto.CitizenCreateRequest;
 import lt.example.insurance.citizen.dto.CitizenResponse;
 import lt.example.insurance.citizen.dto.CitizenUpdateRequest;
 import lt.example.insurance.common.exception.ConflictException;
 import lt.example.insurance.common.exception.NotFoundException;
+import lt.example.insurance.common.search.NameSearch;
+import lt.example.insurance.common.search.SearchPage;
+import lt.example.insurance.config.MetricsConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
 import java.util.UUID;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class CitizenService {
 
     private final CitizenRepository citizenRepository;
@@ -36,6 +45,15 @@ public class CitizenService {
         return toResponse(saved);
     }
 
+    /**
+     * Last update of the citizen, for conditional GETs; a primary-key lookup of one column.
+     */
+    @Transactional(readOnly = true)
+    public Instant getVersion(UUID id) {
+        return citizenRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new NotFoundException("Citizen not found with id: " + id));
+    }
+
     @Transactional(readOnly = true)
     public CitizenResponse getById(UUID id) {
         CitizenEntity entity = citizenRepository.findById(id)
@@ -43,18 +61,24 @@ public class CitizenService {
         return toResponse(entity);
     }
 
+    /**
+     * Ranked last-name search; a blank filter pages through all citizens in ID order.
+     */
     @Transactional(readOnly = true)
-    public List<CitizenResponse> search(String lastName) {
-        List<CitizenEntity> entities;
+    public SearchPage<CitizenResponse> search(String lastName, int page, int size) {
+        PageRequest pageable = NameSearch.pageable(page, size);
+        Slice<CitizenEntity> entities;
         if (lastName == null || lastName.isBlank()) {
-            entities = citizenRepository.findAll();
+            entities = citizenRepository.findAllBy(pageable.withSort(Sort.by("id")));
         } else {
-            entities = citizenRepository.findByLastNameContainingIgnoreCase(lastName);
+            String term = lastName.trim();
+            entities = citizenRepository.searchByLastName(term, NameSearch.containsPattern(term), pageable);
         }
-        return entities.stream().map(this::toResponse).toList();
+        return SearchPage.of(entities.map(this::toResponse));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CitizenDirectory.CACHE_NAME, key = "#id")
     public CitizenResponse update(UUID id, CitizenUpdateRequest request) {
         CitizenEntity entity = citizenRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Citizen not found with id: " + id));
@@ -68,6 +92,7 @@ public class CitizenService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CitizenDirectory.CACHE_NAME, key = "#id")
     public void delete(UUID id) {
         CitizenEntity entity = citizenRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Citizen not found with id: " + id));
@@ -0,0 +1,13 @@
+package lt.example.insurance.citizen;
+
+import java.util.UUID;
+
+/**
+ * Immutable identity data of a citizen, safe to keep in the in-process cache.
+ */
+public record CitizenSnapshot(UUID id, String personalCode, String firstName, String lastName) {
+
+    static CitizenSnapshot of(CitizenEntity entity) {
+        return new CitizenSnapshot(entity.getId(), entity.getPersonalCode(), entity.getFirstName(), entity.getLastName());
+    }
+}
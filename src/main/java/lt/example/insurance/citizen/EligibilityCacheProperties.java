@@ -0,0 +1,15 @@
+package lt.example.insurance.citizen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HTTP caching of single-citizen eligibility answers ({@code citizens.eligibility.*}).
+ *
+ * @param maxAge how long a client may reuse an answer; never past the end of the window's last month
+ */
+@ConfigurationProperties(prefix = "citizens.eligibility")
+public record EligibilityCacheProperties(@DefaultValue("5m") Duration maxAge) {
+}
@@ -0,0 +1,49 @@
+package lt.example.insurance.citizen.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public class CitizenEligibilityBatchRequest {
+
+    public static final int MAX_CITIZEN_IDS = 100_000;
+
+    /**
+     * Citizens to evaluate; when empty, every registered citizen is evaluated.
+     */
+    @Size(max = MAX_CITIZEN_IDS)
+    private List<@NotNull UUID> citizenIds;
+
+    @Min(1)
+    private int monthsBack = 6;
+
+    @Min(1)
+    private int minMonthsPaid = 3;
+
+    public List<UUID> getCitizenIds() {
+        return citizenIds;
+    }
+
+    public void setCitizenIds(List<UUID> citizenIds) {
+        this.citizenIds = citizenIds;
+    }
+
+    public int getMonthsBack() {
+        return monthsBack;
+    }
+
+    public void setMonthsBack(int monthsBack) {
+        this.monthsBack = monthsBack;
+    }
+
+    public int getMinMonthsPaid() {
+        return minMonthsPaid;
+    }
+
+    public void setMinMonthsPaid(int minMonthsPaid) {
+        this.minMonthsPaid = minMonthsPaid;
+    }
+}
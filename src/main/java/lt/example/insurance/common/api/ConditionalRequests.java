@@ -0,0 +1,43 @@
+package lt.example.insurance.common.api;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET of single-row resources whose representation changes only together with their
+ * updated_at. The caller passes the version from a cheap lookup; the body is loaded and mapped only
+ * when the client's copy (If-None-Match, or If-Modified-Since without it) is out of date.
+ */
+public final class ConditionalRequests {
+
+    // clients may keep the body but must revalidate it before every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Answers 304 when the client's copy matches the version, otherwise 200 with the loaded body.
+     * ETag and Last-Modified are set on both. The body is read after the version, so it is never
+     * older than its ETag; a concurrent update at worst costs the client one more full fetch.
+     */
+    public static <T> ResponseEntity<T> ifModified(WebRequest request, Instant version, Supplier<T> body) {
+        if (request.checkNotModified(etag(version), version.toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(body.get());
+    }
+
+    /**
+     * Strong entity tag of a version: updated_at in microseconds, the precision it is stored with.
+     */
+    public static String etag(Instant version) {
+        return "\"" + Long.toString(ChronoUnit.MICROS.between(Instant.EPOCH, version), 36) + "\"";
+    }
+}
@@ -1,10 +1,14 @@
 package lt.example.insurance.common.api;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import lt.example.insurance.common.exception.BadRequestException;
 import lt.example.insurance.common.exception.ConflictException;
 import lt.example.insurance.common.exception.NotFoundException;
+import lt.example.insurance.common.exception.ServiceUnavailableException;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -19,9 +23,20 @@ import java.util.stream.Collectors;
 public class GlobalExceptionHandler {
 
     private static final String TRACE_ID_KEY = "traceId";
+    static final String EXCEPTIONS_METRIC = "api.exceptions";
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final Counter notFoundCounter;
+    private final Counter conflictCounter;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.notFoundCounter = exceptionCounter(meterRegistry, NotFoundException.class, HttpStatus.NOT_FOUND);
+        this.conflictCounter = exceptionCounter(meterRegistry, ConflictException.class, HttpStatus.CONFLICT);
+    }
 
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(NotFoundException ex, HttpServletRequest request) {
+        notFoundCounter.increment();
         return buildResponseEntity(HttpStatus.NOT_FOUND, ex.getMessage(), request);
     }
 
@@ -32,9 +47,19 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ConflictException.class)
     public ResponseEntity<ErrorResponse> handleConflict(ConflictException ex, HttpServletRequest request) {
+        conflictCounter.increment();
         return buildResponseEntity(HttpStatus.CONFLICT, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex,
+                                                                  HttpServletRequest request) {
+        ErrorResponse body = buildResponseEntity(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request).getBody();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(body);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest request) {
         String validationMessage = ex.getBindingResult()
@@ -56,6 +81,14 @@ public class GlobalExceptionHandler {
         return buildResponseEntity(HttpStatus.INTERNAL_SERVER_ERROR, message, request);
     }
 
+    private static Counter exceptionCounter(MeterRegistry meterRegistry, Class<? extends RuntimeException> type, HttpStatus status) {
+        return Counter.builder(EXCEPTIONS_METRIC)
+                .description("Handled API exceptions by type")
+                .tag("exception", type.getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry);
+    }
+
     private String formatFieldError(FieldError fieldError) {
         String defaultMessage = fieldError.getDefaultMessage();
         if (defaultMessage == null || defaultMessage.isBlank()) {
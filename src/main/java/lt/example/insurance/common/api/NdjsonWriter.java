@@ -0,0 +1,38 @@
+package lt.example.insurance.common.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes newline-delimited JSON, one value per line, without flushing after every value.
+ * The target stream is left open; call {@link #flush()} once writing is done.
+ */
+public class NdjsonWriter {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType("application/x-ndjson");
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(Object value) throws IOException {
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
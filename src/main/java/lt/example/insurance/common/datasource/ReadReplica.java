@@ -0,0 +1,46 @@
+package lt.example.insurance.common.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * One replica pool and the outcome of its last lag check. A replica starts out unavailable and is
+ * only used once a check has seen it within the allowed lag.
+ */
+final class ReadReplica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    ReadReplica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    String name() {
+        return name;
+    }
+
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    boolean available() {
+        return available;
+    }
+
+    double lagSeconds() {
+        return lagSeconds;
+    }
+
+    void lagChecked(double lagSeconds, boolean withinLimit) {
+        this.lagSeconds = lagSeconds;
+        this.available = withinLimit;
+    }
+
+    void unreachable() {
+        this.lagSeconds = Double.NaN;
+        this.available = false;
+    }
+}
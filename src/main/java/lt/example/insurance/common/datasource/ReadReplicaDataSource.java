@@ -0,0 +1,83 @@
+package lt.example.insurance.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connections for read-only transactions: taken from the available replicas in turn, or from the
+ * primary when every replica is lagging or unreachable. A replica that refuses a connection is
+ * marked unavailable until the next successful lag check and the primary serves the request.
+ */
+public class ReadReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaDataSource.class);
+
+    private final DataSource primary;
+    private final List<ReadReplica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryFallbacks;
+
+    /**
+     * @param replicaPools replica pools by name, in the order they are used
+     */
+    public ReadReplicaDataSource(DataSource primary, Map<String, ? extends DataSource> replicaPools,
+                                 MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicaPools.size());
+        replicaPools.forEach((name, pool) -> replicas.add(new ReadReplica(name, pool)));
+        this.primaryFallbacks = Counter.builder("datasource.read_replicas.fallbacks")
+                .description("Read-only connections served by the primary because no replica was available")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReadReplica replica = replicas.get((start + i) % size);
+            if (!replica.available()) {
+                continue;
+            }
+            try {
+                return replica.dataSource().getConnection();
+            } catch (SQLException ex) {
+                replica.unreachable();
+                log.warn("Read replica {} refused a connection, skipping it until the next lag check: {}",
+                        replica.name(), ex.getMessage());
+            }
+        }
+        primaryFallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Read replica connections use the configured credentials");
+    }
+
+    List<ReadReplica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ReadReplica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package lt.example.insurance.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas serving read-only transactions ({@code datasource.read-replicas.*}).
+ *
+ * @param enabled          routes read-only transactions to the replicas; off keeps the single
+ *                         {@code spring.datasource} pool
+ * @param maxLag           a replica further behind the primary than this is skipped until it catches up
+ * @param lagCheckInterval delay between replica lag checks (ISO-8601, as it also drives {@code @Scheduled})
+ * @param lagQuery         returns the replica's lag in seconds; the default reads the standby's WAL
+ *                         replay position and reports 0 for an instance that is not in recovery
+ * @param replicas         replica pools, used in turn; username and password default to the primary's
+ */
+@ConfigurationProperties(prefix = "datasource.read-replicas")
+public record ReadReplicaProperties(@DefaultValue("false") boolean enabled,
+                                    @DefaultValue("5s") Duration maxLag,
+                                    @DefaultValue("PT2S") Duration lagCheckInterval,
+                                    @DefaultValue(DEFAULT_LAG_QUERY) String lagQuery,
+                                    @DefaultValue List<Replica> replicas) {
+
+    static final String DEFAULT_LAG_QUERY = """
+            select case
+                     when not pg_is_in_recovery() then 0
+                     when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                     else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+                   end
+            """;
+
+    /**
+     * @param url             JDBC URL of the replica
+     * @param username        defaults to {@code spring.datasource.username}
+     * @param password        defaults to {@code spring.datasource.password}
+     * @param maximumPoolSize connections kept open to this replica
+     */
+    public record Replica(String url,
+                          String username,
+                          String password,
+                          @DefaultValue("10") int maximumPoolSize) {
+    }
+}
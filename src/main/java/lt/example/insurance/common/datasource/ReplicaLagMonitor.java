@@ -0,0 +1,75 @@
+package lt.example.insurance.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Measures the lag of every read replica and takes replicas out of rotation while they are further
+ * behind than {@link ReadReplicaProperties#maxLag()} or cannot be reached. Runs right after start,
+ * so replicas serve reads from the first check on. Each replica's lag in seconds is published as the
+ * {@code datasource.read_replicas.lag} gauge (NaN while unreachable).
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final ReadReplicaDataSource readReplicaDataSource;
+    private final ReadReplicaProperties properties;
+
+    public ReplicaLagMonitor(ReadReplicaDataSource readReplicaDataSource, ReadReplicaProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.readReplicaDataSource = readReplicaDataSource;
+        this.properties = properties;
+        for (ReadReplica replica : readReplicaDataSource.replicas()) {
+            Gauge.builder("datasource.read_replicas.lag", replica, ReadReplica::lagSeconds)
+                    .description("Replication lag of a read replica at the last check")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.read-replicas.lag-check-interval:PT2S}")
+    public void checkLag() {
+        double maxLagSeconds = properties.maxLag().toMillis() / 1000.0;
+        for (ReadReplica replica : readReplicaDataSource.replicas()) {
+            boolean wasAvailable = replica.available();
+            try {
+                double lagSeconds = queryLag(replica);
+                replica.lagChecked(lagSeconds, lagSeconds <= maxLagSeconds);
+            } catch (SQLException | RuntimeException ex) {
+                replica.unreachable();
+                if (wasAvailable) {
+                    log.warn("Read replica {} is unreachable, reads go to the primary: {}", replica.name(), ex.getMessage());
+                }
+                continue;
+            }
+            if (wasAvailable && !replica.available()) {
+                log.warn("Read replica {} lags {}s behind the primary, reads go elsewhere until it catches up",
+                        replica.name(), replica.lagSeconds());
+            } else if (!wasAvailable && replica.available()) {
+                log.info("Read replica {} is serving reads (lag {}s)", replica.name(), replica.lagSeconds());
+            }
+        }
+    }
+
+    private double queryLag(ReadReplica replica) throws SQLException {
+        try (Connection connection = replica.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(properties.lagQuery())) {
+            if (!resultSet.next()) {
+                throw new SQLException("Lag query returned no row");
+            }
+            double lagSeconds = resultSet.getDouble(1);
+            return resultSet.wasNull() ? 0 : lagSeconds;
+        }
+    }
+}
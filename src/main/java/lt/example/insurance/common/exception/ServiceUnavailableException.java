@@ -0,0 +1,8 @@
+package lt.example.insurance.common.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,46 @@
+package lt.example.insurance.common.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered version 7 UUIDs (RFC 9562) for primary keys: 48 bits of Unix milliseconds, a 12-bit
+ * counter within the millisecond and 62 random bits. New keys land at the right edge of the primary
+ * key B-tree instead of on a random leaf, so inserts fill pages in order rather than splitting them.
+ * Ids from one JVM are strictly increasing; if the clock steps back, or more than 4 096 ids are drawn
+ * in one millisecond, the timestamp runs ahead of the clock until it catches up. The random bits keep
+ * ids as hard to guess as {@link UUID#randomUUID()} within a millisecond. Inserts done in SQL use
+ * {@code uuid_generate_v7()} (V13) with the same layout.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // (unix millis << 12) | counter of the last id handed out
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static UUID generate(long epochMillis) {
+        long timeAndCounter = LAST.updateAndGet(last -> Math.max(last + 1, epochMillis << 12));
+        long mostSignificant = (timeAndCounter >>> 12) << 16 | 0x7000L | (timeAndCounter & 0xFFFL);
+        long leastSignificant = RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Unix milliseconds encoded in a version 7 UUID.
+     */
+    public static long epochMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
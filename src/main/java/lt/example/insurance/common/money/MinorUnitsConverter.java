@@ -0,0 +1,23 @@
+package lt.example.insurance.common.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Maps a {@code long} amount in minor units to a NUMERIC(p, 2) column; see {@link Money}.
+ */
+@Converter
+public class MinorUnitsConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long minorUnits) {
+        return minorUnits != null ? Money.toDecimal(minorUnits) : null;
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal amount) {
+        return amount != null ? Money.toMinorUnits(amount) : null;
+    }
+}
@@ -0,0 +1,83 @@
+package lt.example.insurance.common.money;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * An amount in one currency as a whole number of minor units (cents). Amounts are stored as
+ * NUMERIC(p, 2), so converting to and from the column is exact, and a {@code long} holds every stored
+ * amount as well as every rollup total. Sums over many amounts should accumulate
+ * {@link #minorUnits()} in a {@code long} rather than chain {@link #plus}; arithmetic throws on
+ * overflow instead of wrapping.
+ */
+public record Money(long minorUnits, String currency) implements Comparable<Money> {
+
+    /** Decimal places of every amount column. */
+    public static final int SCALE = 2;
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+    }
+
+    /**
+     * @throws ArithmeticException when the amount has more than two decimals or does not fit a long
+     */
+    public static Money of(BigDecimal amount, String currency) {
+        return new Money(toMinorUnits(amount), currency);
+    }
+
+    /**
+     * Exact conversion of a decimal amount to minor units.
+     *
+     * @throws ArithmeticException when the amount has more than two decimals or does not fit a long
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Exact conversion of minor units to a decimal amount with two decimals.
+     */
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toDecimal(minorUnits);
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency;
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+}
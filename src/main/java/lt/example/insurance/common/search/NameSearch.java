@@ -0,0 +1,44 @@
+package lt.example.insurance.common.search;
+
+import lt.example.insurance.common.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Shared rules for the trigram-backed name searches: bounded pages and LIKE-safe patterns.
+ */
+public final class NameSearch {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // deep OFFSET paging scans every skipped match, so results stop after this many rows
+    public static final int MAX_RESULTS = 10_000;
+
+    private NameSearch() {
+    }
+
+    public static PageRequest pageable(int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (page < 0 || ((long) page + 1) * size > MAX_RESULTS) {
+            throw new BadRequestException("page must be between 0 and " + (MAX_RESULTS / size - 1));
+        }
+        return PageRequest.of(page, size);
+    }
+
+    /**
+     * Case-insensitive substring pattern for {@code ilike ... escape '\'}, with the LIKE wildcards in
+     * the term escaped.
+     */
+    public static String containsPattern(String term) {
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
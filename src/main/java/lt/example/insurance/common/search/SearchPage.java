@@ -0,0 +1,57 @@
+package lt.example.insurance.common.search;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * One page of search results. No total is computed; {@code hasNext} tells whether another page follows.
+ */
+public class SearchPage<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public static <T> SearchPage<T> of(Slice<T> slice) {
+        SearchPage<T> page = new SearchPage<>();
+        page.setContent(slice.getContent());
+        page.setPage(slice.getNumber());
+        page.setSize(slice.getSize());
+        page.setHasNext(slice.hasNext());
+        return page;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,13 @@
+package lt.example.insurance.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async} methods run on the auto-configured application task executor, which is backed by
+ * virtual threads when {@code spring.threads.virtual.enabled} is set on Java 21+.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
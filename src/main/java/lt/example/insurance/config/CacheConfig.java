@@ -0,0 +1,14 @@
+package lt.example.insurance.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caching advice wraps transactional advice, so {@code @CacheEvict} on a service method runs after
+ * the transaction has committed and a concurrent reader cannot re-cache the old state.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+}
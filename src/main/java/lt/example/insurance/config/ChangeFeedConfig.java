@@ -0,0 +1,13 @@
+package lt.example.insurance.config;
+
+import lt.example.insurance.contribution.ContributionEventProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds the settings of the contribution outbox and change feed; scheduling is enabled by {@link JobConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(ContributionEventProperties.class)
+public class ChangeFeedConfig {
+}
@@ -0,0 +1,11 @@
+package lt.example.insurance.config;
+
+import lt.example.insurance.benefitclaim.EligibilityRuleProperties;
+import lt.example.insurance.citizen.EligibilityCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({EligibilityRuleProperties.class, EligibilityCacheProperties.class})
+public class EligibilityConfig {
+}
@@ -0,0 +1,31 @@
+package lt.example.insurance.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lt.example.insurance.contribution.ContributionIdempotencyProperties;
+import lt.example.insurance.contribution.ContributionIdempotencyService;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds the settings of the contribution Idempotency-Key store and gives its front cache its own
+ * size and an expiry of {@code contributions.idempotency.ttl} instead of the shared Caffeine spec, so
+ * a response is never replayed from memory after its key expired; scheduling is enabled by {@link JobConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(ContributionIdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> idempotencyCacheCustomizer(
+            ContributionIdempotencyProperties properties) {
+        return cacheManager -> cacheManager.registerCustomCache(ContributionIdempotencyService.CACHE_NAME,
+                Caffeine.newBuilder()
+                        .maximumSize(properties.frontCacheSize())
+                        .expireAfterWrite(properties.ttl())
+                        .recordStats()
+                        .build());
+    }
+}
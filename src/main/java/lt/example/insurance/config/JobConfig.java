@@ -0,0 +1,15 @@
+package lt.example.insurance.config;
+
+import lt.example.insurance.job.JobProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the polling schedule of the background job worker.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(JobProperties.class)
+public class JobConfig {
+}
@@ -0,0 +1,22 @@
+package lt.example.insurance.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on service classes. Each public method is recorded under
+ * {@link #SERVICE_TIMER} with {@code class} and {@code method} tags and a percentile histogram.
+ * HikariCP and Hibernate statistics meters are registered by Spring Boot auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "insurance.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,13 @@
+package lt.example.insurance.config;
+
+import lt.example.insurance.contribution.ContributionPartitionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds the settings of the contributions partition upkeep; scheduling is enabled by {@link JobConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(ContributionPartitionProperties.class)
+public class PartitionConfig {
+}
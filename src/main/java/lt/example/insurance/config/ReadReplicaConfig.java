@@ -0,0 +1,85 @@
+package lt.example.insurance.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lt.example.insurance.common.datasource.ReadReplicaDataSource;
+import lt.example.insurance.common.datasource.ReadReplicaProperties;
+import lt.example.insurance.common.datasource.ReplicaLagMonitor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the read replicas and everything else to the primary. The
+ * application {@link DataSource} is a {@link LazyConnectionDataSourceProxy}: it takes a physical
+ * connection only at the first statement, once the transaction manager has marked the connection
+ * read-only, and then picks the primary pool or {@link ReadReplicaDataSource}. Flyway migrates the
+ * primary pool directly. Chunked scans that are deliberately not transactional (batch eligibility,
+ * population rule evaluation) read each chunk in a read-only {@code TransactionTemplate} so that they
+ * are routed too. Without {@code datasource.read-replicas.enabled} Spring Boot's single pool is used as
+ * before.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "datasource.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaDataSource readReplicaDataSource(HikariDataSource primaryDataSource,
+                                                       DataSourceProperties dataSourceProperties,
+                                                       ReadReplicaProperties properties,
+                                                       MeterRegistry meterRegistry) {
+        List<ReadReplicaProperties.Replica> replicas = properties.replicas();
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("datasource.read-replicas.enabled is set but no replica is configured");
+        }
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReadReplicaProperties.Replica replica = replicas.get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (i + 1));
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+            pool.setMaximumPoolSize(replica.maximumPoolSize());
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(pool.getPoolName(), pool);
+        }
+        return new ReadReplicaDataSource(primaryDataSource, pools, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaDataSource readReplicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readReplicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaDataSource readReplicaDataSource,
+                                               ReadReplicaProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(readReplicaDataSource, properties, meterRegistry);
+    }
+}
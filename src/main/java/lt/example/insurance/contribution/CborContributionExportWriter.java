@@ -0,0 +1,73 @@
+package lt.example.insurance.contribution;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes a CBOR sequence (RFC 8742) of {@link ContributionExportTable} chunks of up to
+ * {@code chunkSize} rows. Dictionaries are scoped to a chunk, so memory stays bounded by the chunk
+ * size however many citizens the export covers.
+ */
+class CborContributionExportWriter implements ContributionExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private final int chunkSize;
+
+    private final List<ContributionExportTable.Citizen> citizens = new ArrayList<>();
+    private final List<ContributionExportTable.Employer> employers = new ArrayList<>();
+    private final Map<UUID, Integer> citizenIndexes = new HashMap<>();
+    private final Map<UUID, Integer> employerIndexes = new HashMap<>();
+    private final List<ContributionExportTable.Row> rows = new ArrayList<>();
+
+    CborContributionExportWriter(ObjectMapper cborMapper, OutputStream out, int chunkSize) throws IOException {
+        this.generator = cborMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.writer = cborMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void write(ContributionExportRow row) throws IOException {
+        int citizen = citizenIndexes.computeIfAbsent(row.citizenId(), id -> {
+            citizens.add(new ContributionExportTable.Citizen(id, row.personalCode()));
+            return citizens.size() - 1;
+        });
+        int employer = employerIndexes.computeIfAbsent(row.employerId(), id -> {
+            employers.add(new ContributionExportTable.Employer(id, row.companyCode()));
+            return employers.size() - 1;
+        });
+        rows.add(new ContributionExportTable.Row(row.id(), citizen, employer, row.monthDate(),
+                row.amount(), row.currency(), row.paidAt()));
+        if (rows.size() == chunkSize) {
+            writeChunk();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (!rows.isEmpty()) {
+            writeChunk();
+        }
+        generator.flush();
+    }
+
+    private void writeChunk() throws IOException {
+        writer.writeValue(generator, new ContributionExportTable(citizens, employers, rows));
+        citizens.clear();
+        employers.clear();
+        citizenIndexes.clear();
+        employerIndexes.clear();
+        rows.clear();
+    }
+}
@@ -0,0 +1,81 @@
+package lt.example.insurance.contribution;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.example.insurance.contribution.dto.ContributionEventHead;
+import lt.example.insurance.contribution.dto.ContributionEventPage;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Contribution change feed", description = "Created and deleted contributions in commit order")
+public class ContributionChangeFeedController {
+
+    private final ContributionChangeFeedService contributionChangeFeedService;
+
+    public ContributionChangeFeedController(ContributionChangeFeedService contributionChangeFeedService) {
+        this.contributionChangeFeedService = contributionChangeFeedService;
+    }
+
+    @GetMapping("/contribution-events")
+    @Operation(summary = "Get contribution changes after a sequence number",
+            description = "Events are numbered without gaps in commit order. Store lastSequence and pass it as after "
+                    + "on the next call; keep reading while hasMore is true. Events appear shortly after commit. "
+                    + "Events older than contributions.events.retention are purged, so a new consumer starts from "
+                    + "GET /contribution-events/head: store latestSequence, load GET /contributions, then read "
+                    + "after the stored number. A consumer whose position was purged gets a 400 and does the same.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Events returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid after or limit, or the events after it were purged")
+    })
+    public ContributionEventPage getEvents(
+            @RequestParam(name = "after", defaultValue = "0") long after,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit) {
+        return contributionChangeFeedService.findAfter(after, limit);
+    }
+
+    @GetMapping("/contribution-events/head")
+    @Operation(summary = "Get the oldest retained and the latest sequence number",
+            description = "The starting point of a new consumer: take latestSequence before loading the "
+                    + "contributions list and pass it as after. Both are 0 while the feed is empty.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Feed head returned")
+    })
+    public ContributionEventHead getHead() {
+        return contributionChangeFeedService.findHead();
+    }
+
+    @GetMapping(value = "/contribution-events/stream", produces = "text/event-stream")
+    @Operation(summary = "Stream contribution changes as Server-Sent Events",
+            description = "Sends the events after the given sequence number (Last-Event-ID takes precedence over "
+                    + "after), then new events as they are numbered. The stream ends after "
+                    + "contributions.events.stream-duration; clients reconnect with their Last-Event-ID. At most "
+                    + "contributions.events.max-streams streams are open per instance; beyond that the answer is "
+                    + "503 with Retry-After, and clients can poll GET /contribution-events instead.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "400", description = "Invalid position, or the events after it were purged"),
+            @ApiResponse(responseCode = "503", description = "Too many open event streams")
+    })
+    public ResponseEntity<SseEmitter> streamEvents(
+            @RequestParam(name = "after", defaultValue = "0") long after,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        long position = lastEventId != null ? lastEventId : after;
+        contributionChangeFeedService.checkPosition(position);
+
+        SseEmitter emitter = contributionChangeFeedService.openStream(position);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
@@ -0,0 +1,249 @@
+package lt.example.insurance.contribution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PreDestroy;
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.common.exception.ServiceUnavailableException;
+import lt.example.insurance.contribution.dto.ContributionEventHead;
+import lt.example.insurance.contribution.dto.ContributionEventPage;
+import lt.example.insurance.contribution.dto.ContributionEventResponse;
+import lt.example.insurance.contribution.dto.ContributionEventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reads the contribution change feed: outbox events in {@code sequence_number} order, after the last
+ * number a consumer has processed. A consumer syncs by reading pages until {@code hasMore} is false
+ * and storing {@code lastSequence}; each read is one index range scan, so syncing costs the number of
+ * changes since the last sync. The event stream delivers the same events as Server-Sent Events; each
+ * open stream polls on a thread of the feed's own pool of {@link ContributionEventProperties#maxStreams()}
+ * threads, so idle subscribers never hold the MVC async executor that serves exports and NDJSON streams.
+ */
+@Service
+public class ContributionChangeFeedService {
+
+    public static final int MAX_PAGE_SIZE = 10_000;
+
+    static final Duration KEEP_ALIVE = Duration.ofSeconds(15);
+
+    // the emitter outlives the stream loop so that its final writes are not cut off
+    private static final Duration EMITTER_TIMEOUT_MARGIN = Duration.ofMinutes(1);
+
+    private static final String SELECT_EVENTS = """
+            select sequence_number, event_type, contribution_id, citizen_id, employer_id, month_date,
+                   amount, currency, paid_at, occurred_at
+            from contribution_events
+            where sequence_number > ?
+            order by sequence_number
+            limit ?
+            """;
+
+    // min and max of the unique sequence index; 0 and 0 before the first event is numbered
+    private static final String SELECT_HEAD = """
+            select coalesce(min(sequence_number), 0) as oldest, coalesce(max(sequence_number), 0) as latest
+            from contribution_events
+            where sequence_number is not null
+            """;
+
+    private static final RowMapper<ContributionEventResponse> EVENT = (resultSet, rowNum) -> {
+        ContributionEventResponse event = new ContributionEventResponse();
+        event.setSequence(resultSet.getLong("sequence_number"));
+        event.setType(ContributionEventType.valueOf(resultSet.getString("event_type")));
+        event.setContributionId(resultSet.getObject("contribution_id", UUID.class));
+        event.setCitizenId(resultSet.getObject("citizen_id", UUID.class));
+        event.setEmployerId(resultSet.getObject("employer_id", UUID.class));
+        event.setMonthDate(resultSet.getDate("month_date").toLocalDate());
+        event.setAmount(resultSet.getBigDecimal("amount"));
+        event.setCurrency(resultSet.getString("currency"));
+        Timestamp paidAt = resultSet.getTimestamp("paid_at");
+        event.setPaidAt(paidAt != null ? paidAt.toInstant() : null);
+        event.setOccurredAt(resultSet.getTimestamp("occurred_at").toInstant());
+        return event;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter eventWriter;
+    private final ContributionEventProperties properties;
+    private final Clock clock;
+    private final Semaphore freeStreams;
+    private final ExecutorService streamExecutor;
+
+    public ContributionChangeFeedService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                         ContributionEventProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        // an SSE data field must stay on one line
+        this.eventWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.properties = properties;
+        this.clock = clock;
+        this.freeStreams = new Semaphore(properties.maxStreams());
+        this.streamExecutor = Executors.newFixedThreadPool(properties.maxStreams(),
+                new CustomizableThreadFactory("change-feed-stream-"));
+    }
+
+    /**
+     * Events numbered after {@code after}, oldest first. Fails when the events right after
+     * {@code after} were already purged, as the consumer would silently miss them.
+     */
+    @Transactional(readOnly = true)
+    public ContributionEventPage findAfter(long after, int limit) {
+        if (after < 0) {
+            throw new BadRequestException("after cannot be negative");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<ContributionEventResponse> events = readAfter(after, limit + 1);
+        boolean hasMore = events.size() > limit;
+        if (hasMore) {
+            events = events.subList(0, limit);
+        }
+
+        ContributionEventPage page = new ContributionEventPage();
+        page.setEvents(events);
+        page.setLastSequence(events.isEmpty() ? after : events.get(events.size() - 1).getSequence());
+        page.setHasMore(hasMore);
+        return page;
+    }
+
+    /**
+     * Oldest retained and latest numbered sequence. A new consumer, or one whose position was purged,
+     * stores {@code latestSequence}, then reads the contributions list, then follows the feed after the
+     * stored number; events between the two reads are replayed, which is harmless as they carry the
+     * contribution id.
+     */
+    @Transactional(readOnly = true)
+    public ContributionEventHead findHead() {
+        return jdbcTemplate.queryForObject(SELECT_HEAD, (resultSet, rowNum) -> {
+            ContributionEventHead head = new ContributionEventHead();
+            head.setOldestSequence(resultSet.getLong("oldest"));
+            head.setLatestSequence(resultSet.getLong("latest"));
+            return head;
+        });
+    }
+
+    /**
+     * Fails like {@link #findAfter} for a position the feed cannot continue from; call before
+     * opening a stream, whose errors can no longer change the response status.
+     */
+    @Transactional(readOnly = true)
+    public void checkPosition(long after) {
+        findAfter(after, 1);
+    }
+
+    /**
+     * Opens an event stream starting after {@code after} and returns its emitter; the stream runs on
+     * the feed's own pool until the client disconnects or
+     * {@link ContributionEventProperties#streamDuration()} has passed.
+     *
+     * @throws ServiceUnavailableException when {@link ContributionEventProperties#maxStreams()} streams
+     *                                     are already open
+     */
+    public SseEmitter openStream(long after) {
+        if (!freeStreams.tryAcquire()) {
+            throw new ServiceUnavailableException("At most " + properties.maxStreams()
+                    + " change feed streams can be open; retry later or read GET /api/v1/contribution-events");
+        }
+        SseEmitter emitter = new SseEmitter(properties.streamDuration().plus(EMITTER_TIMEOUT_MARGIN).toMillis());
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(ex -> open.set(false));
+        try {
+            streamExecutor.execute(() -> {
+                try {
+                    stream(after, emitter, open);
+                    emitter.complete();
+                } catch (InterruptedIOException ex) {
+                    emitter.complete();
+                } catch (IOException ex) {
+                    // the client went away; the container ends the request
+                } catch (RuntimeException ex) {
+                    emitter.completeWithError(ex);
+                } finally {
+                    freeStreams.release();
+                }
+            });
+        } catch (RuntimeException ex) {
+            freeStreams.release();
+            throw ex;
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // interrupts the polling pauses; clients reconnect to another instance with their Last-Event-ID
+        streamExecutor.shutdownNow();
+    }
+
+    /**
+     * Sends the events after {@code after} as Server-Sent Events (id = sequence, event = type), then
+     * keeps polling for new ones every {@link ContributionEventProperties#pollInterval()} while the
+     * emitter is open and {@link ContributionEventProperties#streamDuration()} has not passed.
+     */
+    void stream(long after, SseEmitter emitter, AtomicBoolean open) throws IOException {
+        Instant end = clock.instant().plus(properties.streamDuration());
+        Instant lastWrite = clock.instant();
+        long cursor = after;
+        emitter.send(SseEmitter.event().reconnectTime(properties.pollInterval().toMillis()));
+        while (open.get() && clock.instant().isBefore(end)) {
+            List<ContributionEventResponse> events = readAfter(cursor, MAX_PAGE_SIZE);
+            for (ContributionEventResponse event : events) {
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(event.getSequence()))
+                        .name(event.getType().name())
+                        .data(eventWriter.writeValueAsString(event)));
+                cursor = event.getSequence();
+            }
+            if (!events.isEmpty()) {
+                lastWrite = clock.instant();
+            } else if (Duration.between(lastWrite, clock.instant()).compareTo(KEEP_ALIVE) >= 0) {
+                // also detects a client that went away while nothing changed
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+                lastWrite = clock.instant();
+            }
+            if (events.size() < MAX_PAGE_SIZE) {
+                pause();
+            }
+        }
+    }
+
+    private List<ContributionEventResponse> readAfter(long after, int limit) {
+        List<ContributionEventResponse> events = jdbcTemplate.query(SELECT_EVENTS, EVENT, after, limit);
+        if (!events.isEmpty() && events.get(0).getSequence() != after + 1) {
+            ContributionEventHead head = findHead();
+            throw new BadRequestException("Change feed events after " + after + " were purged (oldest retained: "
+                    + head.getOldestSequence() + ", latest: " + head.getLatestSequence() + "); store the latest "
+                    + "sequence, resynchronize from GET /api/v1/contributions and continue after it");
+        }
+        return events;
+    }
+
+    private void pause() throws InterruptedIOException {
+        try {
+            Thread.sleep(properties.pollInterval().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Change feed stream interrupted");
+        }
+    }
+}
@@ -5,25 +5,42 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.example.insurance.common.api.ConditionalRequests;
+import lt.example.insurance.contribution.dto.ContributionBatchRequest;
+import lt.example.insurance.contribution.dto.ContributionBatchResponse;
 import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionCursorPage;
+import lt.example.insurance.contribution.dto.ContributionDeletionRequest;
+import lt.example.insurance.contribution.dto.ContributionImportResponse;
 import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.contribution.dto.ContributionTable;
+import lt.example.insurance.contribution.dto.ContributionTablePage;
+import lt.example.insurance.job.dto.JobResponse;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -33,23 +50,137 @@ import java.util.UUID;
 @Tag(name = "Contributions", description = "Contribution management and queries")
 public class ContributionController {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final ContributionService contributionService;
+    private final ContributionIdempotencyService contributionIdempotencyService;
+    private final ContributionExportService contributionExportService;
+    private final ContributionImportService contributionImportService;
+    private final ContributionJobService contributionJobService;
 
-    public ContributionController(ContributionService contributionService) {
+    public ContributionController(ContributionService contributionService,
+                                  ContributionIdempotencyService contributionIdempotencyService,
+                                  ContributionExportService contributionExportService,
+                                  ContributionImportService contributionImportService,
+                                  ContributionJobService contributionJobService) {
         this.contributionService = contributionService;
+        this.contributionIdempotencyService = contributionIdempotencyService;
+        this.contributionExportService = contributionExportService;
+        this.contributionImportService = contributionImportService;
+        this.contributionJobService = contributionJobService;
     }
 
     @PostMapping("/contributions")
-    @Operation(summary = "Create a new contribution")
+    @Operation(summary = "Create a new contribution",
+            description = "With an Idempotency-Key header, a retry of a completed request returns the original "
+                    + "response (marked with Idempotent-Replayed: true) instead of creating it again. Keys expire "
+                    + "after contributions.idempotency.ttl.")
     @ApiResponses({
-            @ApiResponse(responseCode = "201", description = "Contribution created"),
-            @ApiResponse(responseCode = "400", description = "Validation failed"),
+            @ApiResponse(responseCode = "201", description = "Contribution created, or the original response replayed"),
+            @ApiResponse(responseCode = "400", description = "Validation failed or invalid Idempotency-Key"),
             @ApiResponse(responseCode = "404", description = "Citizen or employer not found"),
-            @ApiResponse(responseCode = "409", description = "Contribution already exists for citizen, employer and month")
+            @ApiResponse(responseCode = "409", description = "Contribution already exists for citizen, employer and month, "
+                    + "or the Idempotency-Key was used for a different request")
+    })
+    public ResponseEntity<ContributionResponse> create(
+            @Valid @RequestBody ContributionCreateRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            ContributionResponse created = contributionService.create(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        }
+        IdempotentContribution created = contributionIdempotencyService.create(request, idempotencyKey);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+        if (created.replayed()) {
+            response.header(IDEMPOTENT_REPLAYED, "true");
+        }
+        return response.body(created.response());
+    }
+
+    @PostMapping("/contributions/batch")
+    @Operation(summary = "Create many contributions in one request",
+            description = "Rows are validated as a whole; business outcomes (missing citizen or employer, "
+                    + "duplicates) are reported per row and do not fail the batch.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed, per-row results returned"),
+            @ApiResponse(responseCode = "400", description = "Validation failed")
+    })
+    public ContributionBatchResponse createBatch(@Valid @RequestBody ContributionBatchRequest request) {
+        return contributionService.createBatch(request.getItems());
+    }
+
+    @PostMapping(value = "/contributions/imports", consumes = "text/csv")
+    @Operation(summary = "Import a payroll CSV file",
+            description = "The body is a CSV file with a header naming at least citizen_id, employer_id, month_date, "
+                    + "amount and currency (paid_at optional; other columns are ignored). Rows are validated like "
+                    + "single creates and bulk-loaded in chunks; rejected lines are listed by the errors endpoint.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "File processed, import summary returned"),
+            @ApiResponse(responseCode = "400", description = "Empty file or missing header columns")
+    })
+    public ResponseEntity<ContributionImportResponse> importCsv(InputStream body) throws IOException {
+        ContributionImportResponse imported = contributionImportService.importCsv(body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(imported);
+    }
+
+    @PostMapping(value = "/contributions/import-jobs", consumes = "text/csv")
+    @Operation(summary = "Import a payroll CSV file in the background",
+            description = "Same file format as the synchronous import. The file is stored and processed by a "
+                    + "background job; the job id is also the import id for the import summary and errors endpoints.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Import job queued"),
+            @ApiResponse(responseCode = "400", description = "Empty file or missing header columns")
+    })
+    public ResponseEntity<JobResponse> submitImportJob(InputStream body) throws IOException {
+        return accepted(contributionJobService.submitImport(body));
+    }
+
+    @PostMapping("/contributions/deletion-jobs")
+    @Operation(summary = "Delete matching contributions in the background",
+            description = "Deletes every contribution matching all given criteria in chunks; at least one "
+                    + "criterion is required.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Deletion job queued"),
+            @ApiResponse(responseCode = "400", description = "No criteria or invalid month range")
+    })
+    public ResponseEntity<JobResponse> submitDeletionJob(@RequestBody ContributionDeletionRequest request) {
+        return accepted(contributionJobService.submitDeletion(request));
+    }
+
+    @PostMapping("/contributions/paid-months/recomputation-jobs")
+    @Operation(summary = "Rebuild the paid-month index from all contributions in the background")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Recomputation job queued")
+    })
+    public ResponseEntity<JobResponse> submitPaidMonthRecomputationJob() {
+        return accepted(contributionJobService.submitPaidMonthRecomputation());
+    }
+
+    @GetMapping("/contributions/imports/{importId}")
+    @Operation(summary = "Get the summary of a payroll import")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import found"),
+            @ApiResponse(responseCode = "404", description = "Import not found")
+    })
+    public ContributionImportResponse getImport(@PathVariable UUID importId) {
+        return contributionImportService.getImport(importId);
+    }
+
+    @GetMapping("/contributions/imports/{importId}/errors")
+    @Operation(summary = "Download the rejected lines of a payroll import as CSV")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Error report streamed"),
+            @ApiResponse(responseCode = "404", description = "Import not found")
     })
-    public ResponseEntity<ContributionResponse> create(@Valid @RequestBody ContributionCreateRequest request) {
-        ContributionResponse created = contributionService.create(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    public ResponseEntity<StreamingResponseBody> getImportErrors(@PathVariable UUID importId) {
+        contributionImportService.getImport(importId);
+        StreamingResponseBody body = out -> contributionImportService.writeErrors(importId, out);
+        return ResponseEntity.ok()
+                .contentType(ContributionExportFormat.CSV.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"contribution-import-" + importId + "-errors.csv\"")
+                .body(body);
     }
 
     @GetMapping("/contributions")
@@ -64,14 +195,74 @@ public class ContributionController {
         return contributionService.findPage(citizenId, pageable);
     }
 
+    @GetMapping(path = "/contributions", produces = MediaType.APPLICATION_CBOR_VALUE)
+    @Operation(summary = "List contributions as CBOR",
+            description = "Same page as the JSON listing, with every citizen and employer listed once per response "
+                    + "and referenced from the rows by position.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Contributions returned"),
+            @ApiResponse(responseCode = "404", description = "Citizen not found (when citizenId is provided)")
+    })
+    public ContributionTablePage listTable(
+            @RequestParam(name = "citizenId", required = false) UUID citizenId,
+            @PageableDefault(page = 0, size = 20) Pageable pageable) {
+        return ContributionTables.of(contributionService.findPage(citizenId, pageable));
+    }
+
+    @GetMapping("/contributions/cursor")
+    @Operation(summary = "List contributions with keyset (cursor) pagination",
+            description = "Rows are ordered by month and ID. Pass nextCursor from the previous page to continue; "
+                    + "no total count is computed.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Contributions returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+            @ApiResponse(responseCode = "404", description = "Citizen not found (when citizenId is provided)")
+    })
+    public ContributionCursorPage listByCursor(
+            @RequestParam(name = "citizenId", required = false) UUID citizenId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return contributionService.findSeekPage(citizenId, cursor, size);
+    }
+
+    @GetMapping("/contributions/export")
+    @Operation(summary = "Stream contributions for a month range as NDJSON, CSV or CBOR",
+            description = "Rows are read through a database cursor and written as they arrive, ordered by month and ID. "
+                    + "format=cbor writes a CBOR sequence of chunks of up to " + ContributionExportService.FETCH_SIZE
+                    + " rows, each listing its citizens and employers once.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid range or format")
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "citizenId", required = false) UUID citizenId,
+            @RequestParam(name = "employerId", required = false) UUID employerId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        ContributionExportFilter filter = new ContributionExportFilter(citizenId, employerId, from, to);
+        ContributionExportFormat exportFormat = ContributionExportFormat.fromParameter(format);
+
+        StreamingResponseBody body = out -> contributionExportService.export(filter, exportFormat, out);
+        String fileName = "contributions-" + from + "-" + to + "." + exportFormat.getFileExtension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
     @GetMapping("/contributions/{id}")
-    @Operation(summary = "Get contribution by ID")
+    @Operation(summary = "Get contribution by ID",
+            description = "Carries an ETag and Last-Modified covering the contribution, its citizen and its employer; "
+                    + "If-None-Match or If-Modified-Since is answered with 304 without loading them.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Contribution found"),
+            @ApiResponse(responseCode = "304", description = "Contribution unchanged"),
             @ApiResponse(responseCode = "404", description = "Contribution not found")
     })
-    public ContributionResponse getById(@PathVariable UUID id) {
-        return contributionService.getById(id);
+    public ResponseEntity<ContributionResponse> getById(@PathVariable UUID id, WebRequest request) {
+        return ConditionalRequests.ifModified(request, contributionService.getVersion(id),
+                () -> contributionService.getById(id));
     }
 
     @GetMapping("/citizens/{citizenId}/contributions")
@@ -87,6 +278,20 @@ public class ContributionController {
         return contributionService.findByCitizenAndPeriod(citizenId, from, to);
     }
 
+    @GetMapping(path = "/citizens/{citizenId}/contributions", produces = MediaType.APPLICATION_CBOR_VALUE)
+    @Operation(summary = "Get contributions for a citizen in a date range as CBOR",
+            description = "The citizen and every employer are listed once and referenced from the rows by position.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Contributions returned"),
+            @ApiResponse(responseCode = "404", description = "Citizen not found")
+    })
+    public ContributionTable getTableByCitizenAndPeriod(
+            @PathVariable UUID citizenId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ContributionTables.of(contributionService.findByCitizenAndPeriod(citizenId, from, to));
+    }
+
     @DeleteMapping("/contributions/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Delete a contribution")
@@ -97,5 +302,10 @@ public class ContributionController {
     public void delete(@PathVariable UUID id) {
         contributionService.delete(id);
     }
-}
 
+    private static ResponseEntity<JobResponse> accepted(JobResponse job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/jobs/" + job.getId()))
+                .body(job);
+    }
+}
@@ -0,0 +1,152 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Column positions of a payroll import file, resolved from its header line. Columns are located by
+ * header name, so the column order is free and extra columns are ignored; a file produced by the CSV
+ * export can be imported as is. Quoted fields follow RFC 4180 but may not span lines.
+ */
+final class ContributionCsvLayout {
+
+    static final String CITIZEN_ID = "citizen_id";
+    static final String EMPLOYER_ID = "employer_id";
+    static final String MONTH_DATE = "month_date";
+    static final String AMOUNT = "amount";
+    static final String CURRENCY = "currency";
+    static final String PAID_AT = "paid_at";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(CITIZEN_ID, EMPLOYER_ID, MONTH_DATE, AMOUNT, CURRENCY);
+
+    private final int citizenIdColumn;
+    private final int employerIdColumn;
+    private final int monthDateColumn;
+    private final int amountColumn;
+    private final int currencyColumn;
+    private final int paidAtColumn;
+    private final int minColumns;
+
+    private ContributionCsvLayout(List<String> columns) {
+        citizenIdColumn = columns.indexOf(CITIZEN_ID);
+        employerIdColumn = columns.indexOf(EMPLOYER_ID);
+        monthDateColumn = columns.indexOf(MONTH_DATE);
+        amountColumn = columns.indexOf(AMOUNT);
+        currencyColumn = columns.indexOf(CURRENCY);
+        paidAtColumn = columns.indexOf(PAID_AT);
+        minColumns = 1 + Math.max(paidAtColumn, REQUIRED_COLUMNS.stream().mapToInt(columns::indexOf).max().orElseThrow());
+    }
+
+    /**
+     * Resolves the layout from a header line, which may start with a UTF-8 byte order mark.
+     */
+    static ContributionCsvLayout of(String header) {
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> fields = parseLine(header);
+        if (fields == null) {
+            throw new BadRequestException("Import file header has an unterminated quoted field");
+        }
+        List<String> columns = new ArrayList<>();
+        for (String column : fields) {
+            columns.add(column.trim().toLowerCase(Locale.ROOT));
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.contains(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new BadRequestException("Import file header is missing columns: " + String.join(", ", missing));
+        }
+        return new ContributionCsvLayout(columns);
+    }
+
+    ContributionImportRow toRow(long lineNumber, String line) {
+        List<String> fields = parseLine(line);
+        if (fields == null) {
+            return ContributionImportRow.unparseable(lineNumber, "unterminated quoted field");
+        }
+        // a trailing empty paid_at may be cut off entirely
+        int required = paidAtColumn == minColumns - 1 ? minColumns - 1 : minColumns;
+        if (fields.size() < required) {
+            return ContributionImportRow.unparseable(lineNumber,
+                    "expected at least " + required + " columns but found " + fields.size());
+        }
+
+        List<String> errors = new ArrayList<>();
+        ContributionCreateRequest request = new ContributionCreateRequest();
+        request.setCitizenId(parse(fields, citizenIdColumn, "citizenId", UUID::fromString, errors));
+        request.setEmployerId(parse(fields, employerIdColumn, "employerId", UUID::fromString, errors));
+        request.setMonthDate(parse(fields, monthDateColumn, "monthDate", LocalDate::parse, errors));
+        request.setAmount(parse(fields, amountColumn, "amount", BigDecimal::new, errors));
+        request.setCurrency(field(fields, currencyColumn));
+        if (paidAtColumn >= 0) {
+            request.setPaidAt(parse(fields, paidAtColumn, "paidAt", Instant::parse, errors));
+        }
+        return errors.isEmpty()
+                ? ContributionImportRow.parsed(lineNumber, request)
+                : ContributionImportRow.unparseable(lineNumber, String.join("; ", errors));
+    }
+
+    private static <T> T parse(List<String> fields, int column, String name, Function<String, T> parser, List<String> errors) {
+        String value = field(fields, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException ex) {
+            errors.add(name + ": invalid value '" + value + "'");
+            return null;
+        }
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits one CSV line; returns {@code null} when a quoted field is not closed on this line.
+     */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
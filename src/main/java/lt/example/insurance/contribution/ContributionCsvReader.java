@@ -0,0 +1,47 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads payroll import CSV line by line; see {@link ContributionCsvLayout} for the accepted format.
+ */
+class ContributionCsvReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final ContributionCsvLayout layout;
+    private long lineNumber;
+
+    ContributionCsvReader(Reader source) throws IOException {
+        this.reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source, 64 * 1024);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new BadRequestException("Import file is empty");
+        }
+        lineNumber = 1;
+        layout = ContributionCsvLayout.of(header);
+    }
+
+    /**
+     * Returns the next non-blank data line, or {@code null} at the end of the file.
+     */
+    ContributionImportRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                return layout.toRow(lineNumber, line);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,42 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page, ordered by (monthDate, id).
+ * Clients receive it as an opaque URL-safe token.
+ */
+record ContributionCursor(LocalDate monthDate, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    static ContributionCursor of(ContributionEntity entity) {
+        return new ContributionCursor(entity.getMonthDate(), entity.getId());
+    }
+
+    static ContributionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            return new ContributionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+
+    String encode() {
+        String raw = monthDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
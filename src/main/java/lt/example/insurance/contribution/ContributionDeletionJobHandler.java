@@ -0,0 +1,128 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.contribution.PaidMonthIndex.CitizenMonth;
+import lt.example.insurance.contribution.dto.ContributionDeletionRequest;
+import lt.example.insurance.job.Job;
+import lt.example.insurance.job.JobChunk;
+import lt.example.insurance.job.JobHandler;
+import lt.example.insurance.job.JobService;
+import lt.example.insurance.job.JobType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Deletes the contributions matching a {@link ContributionDeletionRequest} in chunks of
+ * {@link #CHUNK_SIZE} rows, re-derives the paid-month bits of every month it emptied, subtracts the
+ * rows from the rollups and records their DELETED events in the same transaction. Deleted rows
+ * no longer match, so resuming needs no checkpoint; contributions created after submission that match
+ * the filter are deleted as well.
+ */
+@Component
+class ContributionDeletionJobHandler implements JobHandler {
+
+    static final int CHUNK_SIZE = 5_000;
+
+    private final JobService jobService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PaidMonthIndex paidMonthIndex;
+    private final ContributionRollups contributionRollups;
+    private final Clock clock;
+
+    ContributionDeletionJobHandler(JobService jobService, JdbcTemplate jdbcTemplate, PaidMonthIndex paidMonthIndex,
+                                   ContributionRollups contributionRollups, Clock clock) {
+        this.jobService = jobService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.paidMonthIndex = paidMonthIndex;
+        this.contributionRollups = contributionRollups;
+        this.clock = clock;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.CONTRIBUTION_DELETION;
+    }
+
+    @Override
+    public JobChunk processChunk(Job job) {
+        ContributionDeletionRequest request = jobService.payload(job, ContributionDeletionRequest.class);
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("""
+                with deleted as (
+                    delete from contributions
+                    where (id, month_date) in (select id, month_date
+                                               from contributions
+                """);
+        appendFilter(sql, args, request);
+        sql.append("""
+                                               limit ?)
+                    returning id, citizen_id, employer_id, month_date, amount, currency, paid_at
+                ),
+                events as (
+                    insert into contribution_events (event_type, contribution_id, citizen_id, employer_id, month_date,
+                                                     amount, currency, paid_at, occurred_at)
+                    select 'DELETED', id, citizen_id, employer_id, month_date, amount, currency, paid_at, ?
+                    from deleted
+                )
+                select citizen_id, employer_id, month_date, (amount * 100)::bigint as amount_minor_units, currency, paid_at
+                from deleted
+                """);
+        args.add(CHUNK_SIZE);
+        args.add(Timestamp.from(clock.instant()));
+
+        Set<CitizenMonth> paidMonths = new LinkedHashSet<>();
+        ContributionRollups.Delta rollups = new ContributionRollups.Delta();
+        List<UUID> deleted = jdbcTemplate.query(sql.toString(), (resultSet, rowNum) -> {
+            UUID citizenId = resultSet.getObject("citizen_id", UUID.class);
+            LocalDate monthDate = resultSet.getDate("month_date").toLocalDate();
+            boolean paid = resultSet.getTimestamp("paid_at") != null;
+            if (paid) {
+                paidMonths.add(new CitizenMonth(citizenId, monthDate));
+            }
+            rollups.add(citizenId, resultSet.getObject("employer_id", UUID.class), monthDate,
+                    resultSet.getString("currency"), resultSet.getLong("amount_minor_units"), paid, -1);
+            return citizenId;
+        }, args.toArray());
+        paidMonthIndex.refreshMonths(paidMonths);
+        contributionRollups.apply(rollups);
+
+        long processed = job.processedItems() + deleted.size();
+        return deleted.size() < CHUNK_SIZE ? JobChunk.done(null, processed) : JobChunk.next(null, processed);
+    }
+
+    long countMatching(ContributionDeletionRequest request) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("select count(*) from contributions\n");
+        appendFilter(sql, args, request);
+        return jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+    }
+
+    private static void appendFilter(StringBuilder sql, List<Object> args, ContributionDeletionRequest request) {
+        sql.append("where true\n");
+        if (request.getCitizenId() != null) {
+            sql.append("  and citizen_id = ?\n");
+            args.add(request.getCitizenId());
+        }
+        if (request.getEmployerId() != null) {
+            sql.append("  and employer_id = ?\n");
+            args.add(request.getEmployerId());
+        }
+        if (request.getFrom() != null) {
+            sql.append("  and month_date >= ?\n");
+            args.add(Date.valueOf(request.getFrom().withDayOfMonth(1)));
+        }
+        if (request.getTo() != null) {
+            sql.append("  and month_date < ?\n");
+            args.add(Date.valueOf(request.getTo().withDayOfMonth(1).plusMonths(1)));
+        }
+    }
+}
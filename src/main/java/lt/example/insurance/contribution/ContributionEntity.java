@@ -1,26 +1,40 @@
 package lt.example.insurance.contribution;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lt.example.insurance.citizen.CitizenEntity;
+import lt.example.insurance.common.id.UuidV7;
+import lt.example.insurance.common.money.MinorUnitsConverter;
+import lt.example.insurance.common.money.Money;
 import lt.example.insurance.employer.EmployerEntity;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
 @Table(name = "contributions")
+@NamedEntityGraph(name = ContributionEntity.WITH_PARTIES, attributeNodes = {
+        @NamedAttributeNode("citizen"),
+        @NamedAttributeNode("employer")
+})
 public class ContributionEntity {
 
+    /**
+     * Fetches citizen and employer in the same statement, so mapping to a response does not trigger lazy loads.
+     */
+    public static final String WITH_PARTIES = "ContributionEntity.withParties";
+
     @Id
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
@@ -36,8 +50,9 @@ public class ContributionEntity {
     @Column(name = "month_date", nullable = false)
     private LocalDate monthDate;
 
+    @Convert(converter = MinorUnitsConverter.class)
     @Column(name = "amount", nullable = false, precision = 12, scale = 2)
-    private BigDecimal amount;
+    private long amountMinorUnits;
 
     @Column(name = "currency", nullable = false, length = 3)
     private String currency;
@@ -59,7 +74,7 @@ public class ContributionEntity {
     void prePersist() {
         Instant now = Instant.now();
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UuidV7.generate();
         }
         if (createdAt == null) {
             createdAt = now;
@@ -104,20 +119,24 @@ public class ContributionEntity {
         this.monthDate = monthDate;
     }
 
-    public BigDecimal getAmount() {
-        return amount;
+    public Money getAmount() {
+        return new Money(amountMinorUnits, currency);
     }
 
-    public void setAmount(BigDecimal amount) {
-        this.amount = amount;
+    /**
+     * Sets the amount together with its currency.
+     */
+    public void setAmount(Money amount) {
+        this.amountMinorUnits = amount.minorUnits();
+        this.currency = amount.currency();
     }
 
-    public String getCurrency() {
-        return currency;
+    public long getAmountMinorUnits() {
+        return amountMinorUnits;
     }
 
-    public void setCurrency(String currency) {
-        this.currency = currency;
+    public String getCurrency() {
+        return currency;
     }
 
     public Instant getPaidAt() {
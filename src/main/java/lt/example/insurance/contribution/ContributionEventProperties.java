@@ -0,0 +1,31 @@
+package lt.example.insurance.contribution;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the contribution outbox and change feed ({@code contributions.events.*}).
+ *
+ * @param sequenceInterval  delay between numbering runs of committed events (ISO-8601, as it also
+ *                          drives {@code @Scheduled}); the lower bound of the feed's latency
+ * @param sequenceBatchSize events numbered per run at most
+ * @param pollInterval      delay between reads of an open event stream that found nothing new
+ * @param streamDuration    an event stream is ended after this long and the client reconnects with
+ *                          its Last-Event-ID; keep it below {@code spring.mvc.async.request-timeout}
+ * @param maxStreams        event streams open at once per instance, each holding one thread of the
+ *                          feed's own pool; further streams are answered with 503
+ * @param retention         numbered events older than this are purged (the newest is always kept);
+ *                          a consumer further behind must resynchronize from the contributions list
+ * @param purgeCron         schedule of the purge
+ */
+@ConfigurationProperties(prefix = "contributions.events")
+public record ContributionEventProperties(@DefaultValue("PT0.2S") Duration sequenceInterval,
+                                          @DefaultValue("10000") int sequenceBatchSize,
+                                          @DefaultValue("1s") Duration pollInterval,
+                                          @DefaultValue("25m") Duration streamDuration,
+                                          @DefaultValue("16") int maxStreams,
+                                          @DefaultValue("30d") Duration retention,
+                                          @DefaultValue("0 45 3 * * *") String purgeCron) {
+}
@@ -0,0 +1,99 @@
+package lt.example.insurance.contribution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+
+/**
+ * Gives committed outbox events their change-feed {@code sequence_number}. Only events whose
+ * transaction id is below the oldest still-running transaction are numbered: no transaction that
+ * could add an event ordered before them is left, so numbers handed out in (tx_id, event_id) order
+ * never go to an event a reader has already passed. One instance numbers at a time (transaction
+ * advisory lock); the others skip the run. A long-running writing transaction holds back the
+ * numbering of everything that committed after it started, until it ends.
+ */
+@Component
+class ContributionEventSequencer {
+
+    private static final Logger log = LoggerFactory.getLogger(ContributionEventSequencer.class);
+
+    private static final String TRY_LOCK = "select pg_try_advisory_xact_lock(hashtext('contribution_event_sequencer'))";
+
+    private static final String NUMBER_EVENTS = """
+            with numbered as (
+                select event_id,
+                       (select coalesce(max(sequence_number), 0) from contribution_events)
+                           + row_number() over (order by tx_id, event_id) as sequence_number
+                from contribution_events
+                where sequence_number is null
+                  and tx_id < pg_snapshot_xmin(pg_current_snapshot())
+                order by tx_id, event_id
+                limit ?
+            )
+            update contribution_events e
+            set sequence_number = numbered.sequence_number
+            from numbered
+            where e.event_id = numbered.event_id
+            """;
+
+    // the newest event stays, so a consumer can always tell whether its position was purged
+    private static final String DELETE_EXPIRED = """
+            delete from contribution_events
+            where occurred_at < ?
+              and sequence_number < (select max(sequence_number) from contribution_events)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ContributionEventProperties properties;
+    private final Clock clock;
+
+    ContributionEventSequencer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               ContributionEventProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${contributions.events.sequence-interval:PT0.2S}")
+    void numberEvents() {
+        try {
+            int numbered;
+            do {
+                numbered = numberBatch();
+            } while (numbered == properties.sequenceBatchSize());
+        } catch (RuntimeException ex) {
+            log.warn("Numbering contribution events failed: {}", ex.getMessage());
+        }
+    }
+
+    int numberBatch() {
+        Integer numbered = transactionTemplate.execute(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK, Boolean.class))) {
+                return 0;
+            }
+            return jdbcTemplate.update(NUMBER_EVENTS, properties.sequenceBatchSize());
+        });
+        return numbered != null ? numbered : 0;
+    }
+
+    @Scheduled(cron = "${contributions.events.purge-cron:0 45 3 * * *}")
+    void purgeExpired() {
+        try {
+            int deleted = jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(clock.instant().minus(properties.retention())));
+            if (deleted > 0) {
+                log.info("Purged {} contribution event(s) older than {}", deleted, properties.retention());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Purging contribution events failed: {}", ex.getMessage());
+        }
+    }
+}
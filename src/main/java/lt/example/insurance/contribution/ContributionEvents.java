@@ -0,0 +1,65 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.money.Money;
+import lt.example.insurance.contribution.dto.ContributionEventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes the contribution outbox ({@code contribution_events}) read by the change feed. Calls join
+ * the caller's transaction, so an event exists exactly when its change committed. The bulk paths
+ * (CSV import, deletion jobs) insert their events in the same statement as the change instead.
+ */
+@Component
+public class ContributionEvents {
+
+    private static final String INSERT_EVENT = """
+            insert into contribution_events (event_type, contribution_id, citizen_id, employer_id, month_date,
+                                             amount, currency, paid_at, occurred_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    public ContributionEvents(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    public void created(Collection<ContributionEntity> contributions) {
+        append(ContributionEventType.CREATED, contributions);
+    }
+
+    public void deleted(ContributionEntity contribution) {
+        append(ContributionEventType.DELETED, List.of(contribution));
+    }
+
+    private void append(ContributionEventType type, Collection<ContributionEntity> contributions) {
+        if (contributions.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(clock.instant());
+        List<Object[]> rows = new ArrayList<>(contributions.size());
+        for (ContributionEntity contribution : contributions) {
+            rows.add(new Object[]{
+                    type.name(),
+                    contribution.getId(),
+                    contribution.getCitizen().getId(),
+                    contribution.getEmployer().getId(),
+                    Date.valueOf(contribution.getMonthDate()),
+                    Money.toDecimal(contribution.getAmountMinorUnits()),
+                    contribution.getCurrency(),
+                    contribution.getPaidAt() != null ? Timestamp.from(contribution.getPaidAt()) : null,
+                    now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+}
@@ -0,0 +1,21 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Export selection: a mandatory month range, optionally narrowed to one citizen and/or employer.
+ */
+public record ContributionExportFilter(UUID citizenId, UUID employerId, LocalDate from, LocalDate to) {
+
+    public ContributionExportFilter {
+        if (from == null || to == null) {
+            throw new BadRequestException("from and to are required");
+        }
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from cannot be after to");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.api.NdjsonWriter;
+import lt.example.insurance.common.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+public enum ContributionExportFormat {
+    NDJSON(NdjsonWriter.MEDIA_TYPE, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv"),
+    /** CBOR sequence of dictionary-encoded chunks, see {@link CborContributionExportWriter}. */
+    CBOR(MediaType.parseMediaType("application/cbor-seq"), "cbor");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    ContributionExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public static ContributionExportFormat fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unsupported export format: " + value);
+        }
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
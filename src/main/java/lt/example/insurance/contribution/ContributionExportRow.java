@@ -0,0 +1,20 @@
+package lt.example.insurance.contribution;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Flat export representation of a contribution; parties are referenced by ID and business code only.
+ */
+public record ContributionExportRow(UUID id,
+                                    UUID citizenId,
+                                    String personalCode,
+                                    UUID employerId,
+                                    String companyCode,
+                                    LocalDate monthDate,
+                                    BigDecimal amount,
+                                    String currency,
+                                    Instant paidAt) {
+}
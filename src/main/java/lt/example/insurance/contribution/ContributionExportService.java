@@ -0,0 +1,106 @@
+package lt.example.insurance.contribution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams contributions straight from a JDBC result set to the response. Inside a transaction the
+ * PostgreSQL driver reads through a server-side cursor in chunks of {@link #FETCH_SIZE} rows and
+ * no entities are materialized, so heap use does not depend on the number of exported rows.
+ */
+@Service
+public class ContributionExportService {
+
+    static final int FETCH_SIZE = 1_000;
+
+    private static final String SELECT_EXPORT_ROWS = """
+            select c.id, c.citizen_id, ci.personal_code, c.employer_id, e.company_code,
+                   c.month_date, c.amount, c.currency, c.paid_at
+            from contributions c
+            join citizens ci on ci.id = c.citizen_id
+            join employers e on e.id = c.employer_id
+            where c.month_date between ? and ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+
+    public ContributionExportService(DataSource dataSource,
+                                     ObjectMapper objectMapper,
+                                     MappingJackson2CborHttpMessageConverter cborConverter) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+    }
+
+    @Transactional(readOnly = true)
+    public void export(ContributionExportFilter filter, ContributionExportFormat format, OutputStream out)
+            throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT_EXPORT_ROWS);
+        List<Object> args = new ArrayList<>();
+        args.add(filter.from());
+        args.add(filter.to());
+        if (filter.citizenId() != null) {
+            sql.append("  and c.citizen_id = ?\n");
+            args.add(filter.citizenId());
+        }
+        if (filter.employerId() != null) {
+            sql.append("  and c.employer_id = ?\n");
+            args.add(filter.employerId());
+        }
+        sql.append("order by c.month_date, c.id");
+
+        ContributionExportWriter writer = newWriter(format, out);
+        try {
+            jdbcTemplate.query(sql.toString(), resultSet -> {
+                try {
+                    writer.write(toRow(resultSet));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }, args.toArray());
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.finish();
+    }
+
+    private ContributionExportWriter newWriter(ContributionExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonContributionExportWriter(objectMapper, out);
+            case CSV -> new CsvContributionExportWriter(out);
+            case CBOR -> new CborContributionExportWriter(cborMapper, out, FETCH_SIZE);
+        };
+    }
+
+    private ContributionExportRow toRow(ResultSet resultSet) throws SQLException {
+        Timestamp paidAt = resultSet.getTimestamp("paid_at");
+        return new ContributionExportRow(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("citizen_id", UUID.class),
+                resultSet.getString("personal_code"),
+                resultSet.getObject("employer_id", UUID.class),
+                resultSet.getString("company_code"),
+                resultSet.getObject("month_date", LocalDate.class),
+                resultSet.getBigDecimal("amount"),
+                resultSet.getString("currency"),
+                paidAt != null ? paidAt.toInstant() : null);
+    }
+}
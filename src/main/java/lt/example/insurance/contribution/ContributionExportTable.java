@@ -0,0 +1,31 @@
+package lt.example.insurance.contribution;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One chunk of a binary export: the chunk's citizens and employers are listed once, and rows refer
+ * to them by position. Each chunk is self-contained, so a reader never needs earlier chunks.
+ */
+public record ContributionExportTable(List<Citizen> citizens,
+                                      List<Employer> employers,
+                                      List<Row> rows) {
+
+    public record Citizen(UUID id, String personalCode) {
+    }
+
+    public record Employer(UUID id, String companyCode) {
+    }
+
+    public record Row(UUID id,
+                      int citizen,
+                      int employer,
+                      LocalDate monthDate,
+                      BigDecimal amount,
+                      String currency,
+                      Instant paidAt) {
+    }
+}
@@ -0,0 +1,13 @@
+package lt.example.insurance.contribution;
+
+import java.io.IOException;
+
+/**
+ * Serializes export rows to the response stream one at a time.
+ */
+interface ContributionExportWriter {
+
+    void write(ContributionExportRow row) throws IOException;
+
+    void finish() throws IOException;
+}
@@ -0,0 +1,65 @@
+package lt.example.insurance.contribution;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Loads {@link MonthlyContributionHistory} vectors for many citizens with one grouped query.
+ */
+@Component
+public class ContributionHistoryLoader {
+
+    // one row per citizen, employer and month; amounts in other currencies count as paid months only.
+    // The sum is returned in minor units (exact for NUMERIC(12, 2)), so it is read without a BigDecimal.
+    private static final String SELECT_MONTHS = """
+            select citizen_id, employer_id, month_date,
+                   (coalesce(sum(amount) filter (where currency = ?), 0) * 100)::bigint as amount_minor_units
+            from contributions
+            where citizen_id = any (?)
+              and month_date >= ?
+              and month_date < ?
+              and paid_at is not null
+            group by citizen_id, employer_id, month_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContributionHistoryLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns a history spanning {@code [from, to]} for every given citizen, empty when nothing was paid.
+     */
+    public Map<UUID, MonthlyContributionHistory> load(Collection<UUID> citizenIds, YearMonth from, YearMonth to,
+                                                      String currency) {
+        Map<UUID, MonthlyContributionHistory.Builder> builders = new HashMap<>(citizenIds.size() * 2);
+        for (UUID citizenId : citizenIds) {
+            builders.put(citizenId, MonthlyContributionHistory.builder(from, to));
+        }
+        jdbcTemplate.query(SELECT_MONTHS, ps -> {
+            ps.setString(1, currency);
+            Array ids = ps.getConnection().createArrayOf("uuid", citizenIds.toArray());
+            ps.setArray(2, ids);
+            ps.setDate(3, Date.valueOf(from.atDay(1)));
+            ps.setDate(4, Date.valueOf(to.plusMonths(1).atDay(1)));
+        }, resultSet -> {
+            builders.get(resultSet.getObject("citizen_id", UUID.class)).add(
+                    resultSet.getObject("employer_id", UUID.class),
+                    YearMonth.from(resultSet.getDate("month_date").toLocalDate()),
+                    resultSet.getLong("amount_minor_units"));
+        });
+
+        Map<UUID, MonthlyContributionHistory> histories = new HashMap<>(builders.size() * 2);
+        builders.forEach((citizenId, builder) -> histories.put(citizenId, builder.build()));
+        return histories;
+    }
+}
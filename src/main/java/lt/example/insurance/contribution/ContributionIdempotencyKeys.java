@@ -0,0 +1,123 @@
+package lt.example.insurance.contribution;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The persisted Idempotency-Key store of contribution creation. A key is claimed by inserting its
+ * row in the creating transaction; a concurrent request with the same key blocks on that insert
+ * until the first transaction ends and then reads its response. Calls join the caller's transaction.
+ */
+@Component
+class ContributionIdempotencyKeys {
+
+    private static final Logger log = LoggerFactory.getLogger(ContributionIdempotencyKeys.class);
+
+    private static final String SELECT_KEY = """
+            select request_hash, response
+            from contribution_idempotency_keys
+            where idempotency_key = ?
+              and created_at >= ?
+              and response is not null
+            """;
+
+    // an expired row is taken over as if it did not exist
+    private static final String CLAIM_KEY = """
+            insert into contribution_idempotency_keys (idempotency_key, request_hash, created_at)
+            values (?, ?, ?)
+            on conflict (idempotency_key)
+            do update set request_hash = excluded.request_hash,
+                          response = null,
+                          created_at = excluded.created_at
+            where contribution_idempotency_keys.created_at < ?
+            """;
+
+    private static final String COMPLETE_KEY = """
+            update contribution_idempotency_keys
+            set response = ?
+            where idempotency_key = ?
+            """;
+
+    private static final String DELETE_EXPIRED = "delete from contribution_idempotency_keys where created_at < ?";
+
+    /**
+     * A completed key: the hash of the request that created it and the response to replay.
+     */
+    record StoredResponse(byte[] requestHash, ContributionResponse response) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ContributionIdempotencyProperties properties;
+    private final Clock clock;
+
+    ContributionIdempotencyKeys(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                ContributionIdempotencyProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    Optional<StoredResponse> find(String key) {
+        List<StoredResponse> rows = jdbcTemplate.query(SELECT_KEY, (resultSet, rowNum) ->
+                new StoredResponse(resultSet.getBytes("request_hash"), read(resultSet.getString("response"))),
+                key, expiredBefore());
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Inserts the key unless a live row exists; returns whether this caller now owns the key.
+     */
+    boolean claim(String key, byte[] requestHash) {
+        return jdbcTemplate.update(CLAIM_KEY, key, requestHash, Timestamp.from(clock.instant()), expiredBefore()) == 1;
+    }
+
+    void complete(String key, ContributionResponse response) {
+        jdbcTemplate.update(COMPLETE_KEY, write(response), key);
+    }
+
+    @Scheduled(cron = "${contributions.idempotency.purge-cron:0 15 * * * *}")
+    void purgeExpired() {
+        try {
+            int deleted = jdbcTemplate.update(DELETE_EXPIRED, expiredBefore());
+            if (deleted > 0) {
+                log.info("Purged {} expired contribution idempotency key(s)", deleted);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Purging contribution idempotency keys failed: {}", ex.getMessage());
+        }
+    }
+
+    private Timestamp expiredBefore() {
+        return Timestamp.from(clock.instant().minus(properties.ttl()));
+    }
+
+    private String write(ContributionResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private ContributionResponse read(String json) {
+        try {
+            return objectMapper.readValue(json, ContributionResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package lt.example.insurance.contribution;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the Idempotency-Key store of contribution creation ({@code contributions.idempotency.*}).
+ *
+ * @param ttl            how long a key replays its original response; afterwards it may be used again.
+ *                       Entries of the in-memory front cache expire after the same time
+ * @param purgeCron      schedule of the removal of expired keys
+ * @param frontCacheSize responses held in the in-memory front cache at most, apart from the budget of
+ *                       the shared citizen and employer caches
+ */
+@ConfigurationProperties(prefix = "contributions.idempotency")
+public record ContributionIdempotencyProperties(@DefaultValue("24h") Duration ttl,
+                                                @DefaultValue("0 15 * * * *") String purgeCron,
+                                                @DefaultValue("10000") long frontCacheSize) {
+}
@@ -0,0 +1,105 @@
+package lt.example.insurance.contribution;
+
+import io.micrometer.core.annotation.Timed;
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.common.exception.ConflictException;
+import lt.example.insurance.config.MetricsConfig;
+import lt.example.insurance.contribution.ContributionIdempotencyKeys.StoredResponse;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+/**
+ * Contribution creation keyed by a client-chosen Idempotency-Key. A retry of a completed request is
+ * answered with the original response from an in-memory front cache, or else from one primary-key
+ * lookup in {@link ContributionIdempotencyKeys}; neither touches the contribution tables. Reusing a
+ * key for a different request is a conflict. Failed creates store nothing, so their retries run again.
+ */
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class ContributionIdempotencyService {
+
+    public static final String CACHE_NAME = "contributionIdempotencyKeys";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final ContributionService contributionService;
+    private final ContributionIdempotencyKeys idempotencyKeys;
+    private final Cache responses;
+    private final TransactionTemplate transactionTemplate;
+
+    public ContributionIdempotencyService(ContributionService contributionService,
+                                          ContributionIdempotencyKeys idempotencyKeys,
+                                          CacheManager cacheManager,
+                                          PlatformTransactionManager transactionManager) {
+        this.contributionService = contributionService;
+        this.idempotencyKeys = idempotencyKeys;
+        this.responses = cacheManager.getCache(CACHE_NAME);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public IdempotentContribution create(ContributionCreateRequest request, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        byte[] requestHash = requestHash(request);
+
+        StoredResponse cached = responses.get(idempotencyKey, StoredResponse.class);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        IdempotentContribution outcome = transactionTemplate.execute(status -> {
+            Optional<StoredResponse> stored = idempotencyKeys.find(idempotencyKey);
+            if (stored.isPresent()) {
+                return replay(stored.get(), requestHash);
+            }
+            if (!idempotencyKeys.claim(idempotencyKey, requestHash)) {
+                // a concurrent request with this key committed while the claim waited for it
+                return replay(idempotencyKeys.find(idempotencyKey).orElseThrow(() ->
+                        new ConflictException("A request with this Idempotency-Key is still in progress")), requestHash);
+            }
+            IdempotentContribution created = new IdempotentContribution(contributionService.create(request), false);
+            idempotencyKeys.complete(idempotencyKey, created.response());
+            return created;
+        });
+        responses.put(idempotencyKey, new StoredResponse(requestHash, outcome.response()));
+        return outcome;
+    }
+
+    private static IdempotentContribution replay(StoredResponse stored, byte[] requestHash) {
+        if (!MessageDigest.isEqual(stored.requestHash(), requestHash)) {
+            throw new ConflictException("Idempotency-Key was already used for a different request");
+        }
+        return new IdempotentContribution(stored.response(), true);
+    }
+
+    /**
+     * SHA-256 of the request fields in the form they are stored, so equivalent spellings of the same
+     * request (amount scale, currency case) replay instead of conflicting.
+     */
+    static byte[] requestHash(ContributionCreateRequest request) {
+        BigDecimal amount = request.getAmount();
+        String canonical = String.join("|",
+                String.valueOf(request.getCitizenId()),
+                String.valueOf(request.getEmployerId()),
+                String.valueOf(request.getMonthDate()),
+                amount != null ? amount.stripTrailingZeros().toPlainString() : "null",
+                request.getCurrency() != null ? ContributionService.normalizeCurrency(request.getCurrency()) : "null",
+                String.valueOf(request.getPaidAt()));
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
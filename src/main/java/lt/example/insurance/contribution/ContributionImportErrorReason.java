@@ -0,0 +1,11 @@
+package lt.example.insurance.contribution;
+
+/**
+ * Why an import row was not loaded; stored in contribution_import_errors.reason.
+ */
+enum ContributionImportErrorReason {
+    INVALID_ROW,
+    CITIZEN_NOT_FOUND,
+    EMPLOYER_NOT_FOUND,
+    DUPLICATE
+}
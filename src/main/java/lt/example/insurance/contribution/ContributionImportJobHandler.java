@@ -0,0 +1,73 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.contribution.dto.ContributionImportStatus;
+import lt.example.insurance.job.Job;
+import lt.example.insurance.job.JobChunk;
+import lt.example.insurance.job.JobHandler;
+import lt.example.insurance.job.JobInputLine;
+import lt.example.insurance.job.JobService;
+import lt.example.insurance.job.JobType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a payroll import from the lines stored at upload. The job id doubles as the import id, so the
+ * per-line results are available through the regular import endpoints; the checkpoint is the number
+ * of the last line merged.
+ */
+@Component
+class ContributionImportJobHandler implements JobHandler {
+
+    private final JobService jobService;
+    private final ContributionImportService importService;
+
+    ContributionImportJobHandler(JobService jobService, ContributionImportService importService) {
+        this.jobService = jobService;
+        this.importService = importService;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.CONTRIBUTION_IMPORT;
+    }
+
+    @Override
+    public JobChunk processChunk(Job job) {
+        long afterLine = job.checkpoint() != null ? Long.parseLong(job.checkpoint()) : 0;
+        List<JobInputLine> lines = jobService.readInput(job.id(), afterLine, ContributionImportService.CHUNK_SIZE);
+        if (lines.isEmpty()) {
+            return JobChunk.done(job.checkpoint(), job.processedItems());
+        }
+
+        ContributionCsvLayout layout = ContributionCsvLayout.of(jobService.payload(job, ImportPayload.class).header());
+        List<ContributionImportRow> rows = new ArrayList<>(lines.size());
+        for (JobInputLine line : lines) {
+            rows.add(layout.toRow(line.lineNumber(), line.line()));
+        }
+        importService.importChunk(job.id(), rows);
+
+        String checkpoint = Long.toString(lines.get(lines.size() - 1).lineNumber());
+        long processed = job.processedItems() + lines.size();
+        return lines.size() < ContributionImportService.CHUNK_SIZE
+                ? JobChunk.done(checkpoint, processed)
+                : JobChunk.next(checkpoint, processed);
+    }
+
+    @Override
+    public void onCompleted(Job job) {
+        importService.finishImport(job.id(), ContributionImportStatus.COMPLETED, null);
+    }
+
+    @Override
+    public void onFailed(Job job, String message) {
+        importService.finishImport(job.id(), ContributionImportStatus.FAILED, message);
+    }
+
+    /**
+     * The header line is kept with the job; data lines are stored from line 2 on.
+     */
+    record ImportPayload(String header) {
+    }
+}
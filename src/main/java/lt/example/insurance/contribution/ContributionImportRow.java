@@ -0,0 +1,18 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+
+/**
+ * One parsed data line of an import file. {@code error} is set when the line could not be parsed;
+ * bean validation of {@code request} happens later.
+ */
+record ContributionImportRow(long lineNumber, ContributionCreateRequest request, String error) {
+
+    static ContributionImportRow parsed(long lineNumber, ContributionCreateRequest request) {
+        return new ContributionImportRow(lineNumber, request, null);
+    }
+
+    static ContributionImportRow unparseable(long lineNumber, String error) {
+        return new ContributionImportRow(lineNumber, null, error);
+    }
+}
@@ -0,0 +1,406 @@
+package lt.example.insurance.contribution;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Validator;
+import lt.example.insurance.common.id.UuidV7;
+import lt.example.insurance.common.exception.NotFoundException;
+import lt.example.insurance.config.MetricsConfig;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionImportResponse;
+import lt.example.insurance.contribution.dto.ContributionImportStatus;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Loads payroll CSV files. The upload is read as a stream and processed in chunks of
+ * {@link #CHUNK_SIZE} lines, each in its own transaction: rows are validated against the
+ * {@link ContributionCreateRequest} constraints, valid rows are bulk-loaded with COPY into a
+ * temporary staging table and merged into contributions with a single statement that also
+ * records every rejected line and updates citizen_paid_months. Rejected lines are kept in
+ * contribution_import_errors and can be downloaded as CSV. Files submitted as background jobs run
+ * through the same chunk logic via {@link ContributionImportJobHandler}.
+ */
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class ContributionImportService {
+
+    static final int CHUNK_SIZE = 20_000;
+    static final int FETCH_SIZE = 1_000;
+
+    private static final String ERRORS_CSV_HEADER = "line_number,reason,message";
+
+    private static final String CREATE_STAGING_TABLE = """
+            create temporary table if not exists contribution_import_staging (
+                line_number bigint        not null,
+                citizen_id  uuid          not null,
+                employer_id uuid          not null,
+                month_date  date          not null,
+                amount      numeric(12,2) not null,
+                currency    varchar(3)    not null,
+                paid_at     timestamp
+            ) on commit delete rows
+            """;
+
+    private static final String COPY_STAGING = """
+            copy contribution_import_staging
+                (line_number, citizen_id, employer_id, month_date, amount, currency, paid_at)
+            from stdin with (format csv)
+            """;
+
+    // Classifies every staged line, records the rejected ones, inserts the rest, sets their
+    // paid-month bits, adds them to the rollups and records their CREATED events. ON CONFLICT only
+    // guards against concurrent writers of the same key; such lines are counted as rejected without
+    // an error row.
+    private static final String MERGE_STAGING = """
+            with classified as (
+                select s.*,
+                       case
+                           when ci.id is null then 'CITIZEN_NOT_FOUND'
+                           when e.id is null then 'EMPLOYER_NOT_FOUND'
+                           when row_number() over (partition by s.citizen_id, s.employer_id, s.month_date
+                                                   order by s.line_number) > 1 then 'DUPLICATE_IN_FILE'
+                           when exists (select 1
+                                        from contributions c
+                                        where c.citizen_id = s.citizen_id
+                                          and c.employer_id = s.employer_id
+                                          and c.month_date = s.month_date) then 'DUPLICATE'
+                       end as problem
+                from contribution_import_staging s
+                left join citizens ci on ci.id = s.citizen_id
+                left join employers e on e.id = s.employer_id
+            ),
+            rejected as (
+                insert into contribution_import_errors (import_id, line_number, reason, message)
+                select ?, line_number,
+                       case problem when 'DUPLICATE_IN_FILE' then 'DUPLICATE' else problem end,
+                       case problem
+                           when 'CITIZEN_NOT_FOUND' then 'Citizen not found with id: ' || citizen_id
+                           when 'EMPLOYER_NOT_FOUND' then 'Employer not found with id: ' || employer_id
+                           when 'DUPLICATE_IN_FILE' then 'Repeats an earlier line for the same citizen, employer and month'
+                           else 'Contribution already exists for citizen, employer and month'
+                       end
+                from classified
+                where problem is not null
+                returning line_number
+            ),
+            inserted as (
+                insert into contributions (id, citizen_id, employer_id, month_date, amount, currency,
+                                           paid_at, created_at, updated_at)
+                select uuid_generate_v7(), citizen_id, employer_id, month_date, amount, currency, paid_at, ?, ?
+                from classified
+                where problem is null
+                on conflict on constraint uq_contributions_citizen_employer_month do nothing
+                returning id, citizen_id, employer_id, month_date, amount, currency, paid_at
+            ),
+            paid as (
+                insert into citizen_paid_months (citizen_id, year, months)
+                select citizen_id, extract(year from month_date)::smallint,
+                       bit_or(1 << (extract(month from month_date)::integer - 1))
+                from inserted
+                where paid_at is not null
+                group by citizen_id, extract(year from month_date)
+                on conflict (citizen_id, year)
+                do update set months = citizen_paid_months.months | excluded.months
+            ),
+            employer_months as (
+                insert into employer_monthly_contributions
+                    (employer_id, month_date, currency, contributions, paid_contributions, total_amount, paid_amount)
+                select employer_id, date_trunc('month', month_date)::date, currency, count(*), count(paid_at),
+                       sum(amount), coalesce(sum(amount) filter (where paid_at is not null), 0)
+                from inserted
+                group by employer_id, date_trunc('month', month_date), currency
+                order by 1, 2, 3
+                on conflict (employer_id, month_date, currency)
+                do update set contributions = employer_monthly_contributions.contributions + excluded.contributions,
+                              paid_contributions = employer_monthly_contributions.paid_contributions + excluded.paid_contributions,
+                              total_amount = employer_monthly_contributions.total_amount + excluded.total_amount,
+                              paid_amount = employer_monthly_contributions.paid_amount + excluded.paid_amount
+            ),
+            citizen_years as (
+                insert into citizen_yearly_contributions
+                    (citizen_id, year, currency, contributions, paid_contributions, total_amount, paid_amount)
+                select citizen_id, extract(year from month_date)::smallint, currency, count(*), count(paid_at),
+                       sum(amount), coalesce(sum(amount) filter (where paid_at is not null), 0)
+                from inserted
+                group by citizen_id, extract(year from month_date), currency
+                order by 1, 2, 3
+                on conflict (citizen_id, year, currency)
+                do update set contributions = citizen_yearly_contributions.contributions + excluded.contributions,
+                              paid_contributions = citizen_yearly_contributions.paid_contributions + excluded.paid_contributions,
+                              total_amount = citizen_yearly_contributions.total_amount + excluded.total_amount,
+                              paid_amount = citizen_yearly_contributions.paid_amount + excluded.paid_amount
+            ),
+            currency_months as (
+                insert into currency_monthly_contributions
+                    (month_date, currency, contributions, paid_contributions, total_amount, paid_amount)
+                select date_trunc('month', month_date)::date, currency, count(*), count(paid_at),
+                       sum(amount), coalesce(sum(amount) filter (where paid_at is not null), 0)
+                from inserted
+                group by date_trunc('month', month_date), currency
+                order by 1, 2
+                on conflict (month_date, currency)
+                do update set contributions = currency_monthly_contributions.contributions + excluded.contributions,
+                              paid_contributions = currency_monthly_contributions.paid_contributions + excluded.paid_contributions,
+                              total_amount = currency_monthly_contributions.total_amount + excluded.total_amount,
+                              paid_amount = currency_monthly_contributions.paid_amount + excluded.paid_amount
+            ),
+            events as (
+                insert into contribution_events (event_type, contribution_id, citizen_id, employer_id, month_date,
+                                                 amount, currency, paid_at, occurred_at)
+                select 'CREATED', id, citizen_id, employer_id, month_date, amount, currency, paid_at, ?
+                from inserted
+            )
+            select (select count(*) from inserted) as created,
+                   (select count(*) from rejected) as rejected
+            """;
+
+    private static final String INSERT_ERROR = """
+            insert into contribution_import_errors (import_id, line_number, reason, message)
+            values (?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_IMPORT = """
+            insert into contribution_imports (id, status, started_at)
+            values (?, ?, ?)
+            """;
+
+    private static final String ADD_PROGRESS = """
+            update contribution_imports
+            set received_rows = received_rows + ?,
+                created_rows = created_rows + ?,
+                rejected_rows = rejected_rows + ?
+            where id = ?
+            """;
+
+    private static final String FINISH_IMPORT = """
+            update contribution_imports
+            set status = ?, failure_message = ?, finished_at = ?
+            where id = ?
+            """;
+
+    private static final String SELECT_IMPORT = """
+            select id, status, received_rows, created_rows, rejected_rows, failure_message, started_at, finished_at
+            from contribution_imports
+            where id = ?
+            """;
+
+    private static final String SELECT_ERRORS = """
+            select line_number, reason, message
+            from contribution_import_errors
+            where import_id = ?
+            order by line_number
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final Clock clock;
+
+    public ContributionImportService(DataSource dataSource,
+                                     PlatformTransactionManager transactionManager,
+                                     Validator validator,
+                                     Clock clock) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.clock = clock;
+    }
+
+    /**
+     * Imports a CSV file and returns the final summary. Chunks already committed stay in place if a
+     * later chunk fails; the import is then marked {@link ContributionImportStatus#FAILED}.
+     */
+    public ContributionImportResponse importCsv(InputStream csv) throws IOException {
+        try (ContributionCsvReader reader =
+                     new ContributionCsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            UUID importId = UuidV7.generate();
+            startImport(importId);
+            try {
+                List<ContributionImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+                ContributionImportRow row;
+                while ((row = reader.next()) != null) {
+                    chunk.add(row);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        importChunkInTransaction(importId, chunk);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    importChunkInTransaction(importId, chunk);
+                }
+                finishImport(importId, ContributionImportStatus.COMPLETED, null);
+            } catch (IOException | RuntimeException ex) {
+                finishImport(importId, ContributionImportStatus.FAILED, ex.getMessage());
+                throw ex;
+            }
+            return getImport(importId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ContributionImportResponse getImport(UUID importId) {
+        List<ContributionImportResponse> found = jdbcTemplate.query(SELECT_IMPORT, (resultSet, rowNum) -> {
+            ContributionImportResponse response = new ContributionImportResponse();
+            response.setId(resultSet.getObject("id", UUID.class));
+            response.setStatus(ContributionImportStatus.valueOf(resultSet.getString("status")));
+            response.setReceivedRows(resultSet.getLong("received_rows"));
+            response.setCreatedRows(resultSet.getLong("created_rows"));
+            response.setRejectedRows(resultSet.getLong("rejected_rows"));
+            response.setFailureMessage(resultSet.getString("failure_message"));
+            response.setStartedAt(resultSet.getTimestamp("started_at").toInstant());
+            Timestamp finishedAt = resultSet.getTimestamp("finished_at");
+            response.setFinishedAt(finishedAt != null ? finishedAt.toInstant() : null);
+            return response;
+        }, importId);
+        if (found.isEmpty()) {
+            throw new NotFoundException("Contribution import not found with id: " + importId);
+        }
+        return found.get(0);
+    }
+
+    /**
+     * Streams the rejected lines of an import as CSV ({@value #ERRORS_CSV_HEADER}).
+     */
+    @Transactional(readOnly = true)
+    public void writeErrors(UUID importId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(ERRORS_CSV_HEADER);
+        writer.write('\n');
+        try {
+            jdbcTemplate.query(SELECT_ERRORS, resultSet -> {
+                try {
+                    writer.write(Long.toString(resultSet.getLong("line_number")));
+                    writer.write(',');
+                    writer.write(resultSet.getString("reason"));
+                    writer.write(',');
+                    writer.write(CsvContributionExportWriter.escape(resultSet.getString("message")));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }, importId);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Registers a running import whose chunks are fed by the caller.
+     */
+    void startImport(UUID importId) {
+        jdbcTemplate.update(INSERT_IMPORT, importId, ContributionImportStatus.RUNNING.name(), now());
+    }
+
+    /**
+     * Validates, stages and merges one chunk of rows. Joins the caller's transaction, which must also
+     * carry the staging table's lifetime (it is emptied on commit).
+     */
+    void importChunk(UUID importId, List<ContributionImportRow> chunk) {
+        List<ContributionImportRow> valid = new ArrayList<>(chunk.size());
+        List<Object[]> invalid = new ArrayList<>();
+        for (ContributionImportRow row : chunk) {
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error == null) {
+                valid.add(row);
+            } else {
+                invalid.add(new Object[]{importId, row.lineNumber(),
+                        ContributionImportErrorReason.INVALID_ROW.name(), truncate(error)});
+            }
+        }
+
+        if (!invalid.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ERROR, invalid);
+        }
+        long created = 0;
+        if (!valid.isEmpty()) {
+            copyToStaging(valid);
+            Timestamp now = now();
+            created = jdbcTemplate.queryForObject(MERGE_STAGING,
+                    (resultSet, rowNum) -> resultSet.getLong("created"), importId, now, now, now);
+        }
+        jdbcTemplate.update(ADD_PROGRESS, chunk.size(), created, chunk.size() - created, importId);
+    }
+
+    void finishImport(UUID importId, ContributionImportStatus status, String failureMessage) {
+        jdbcTemplate.update(FINISH_IMPORT, status.name(), truncate(failureMessage), now(), importId);
+    }
+
+    private void importChunkInTransaction(UUID importId, List<ContributionImportRow> chunk) {
+        transactionTemplate.executeWithoutResult(status -> importChunk(importId, chunk));
+    }
+
+    private void copyToStaging(List<ContributionImportRow> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        for (ContributionImportRow row : rows) {
+            ContributionCreateRequest request = row.request();
+            csv.append(row.lineNumber()).append(',')
+                    .append(request.getCitizenId()).append(',')
+                    .append(request.getEmployerId()).append(',')
+                    .append(request.getMonthDate()).append(',')
+                    .append(request.getAmount().toPlainString()).append(',')
+                    .append(CsvContributionExportWriter.escape(ContributionService.normalizeCurrency(request.getCurrency())))
+                    .append(',');
+            if (request.getPaidAt() != null) {
+                // same local-time rendering as binding a java.sql.Timestamp
+                csv.append(Timestamp.from(request.getPaidAt()));
+            }
+            csv.append('\n');
+        }
+
+        // the transaction's connection, so staging and merge share the session and its temp table
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            jdbcTemplate.execute(CREATE_STAGING_TABLE);
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING, new StringReader(csv.toString()));
+        } catch (SQLException | IOException ex) {
+            throw new IllegalStateException("Bulk load into staging table failed", ex);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private String validate(ContributionCreateRequest request) {
+        String violations = validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return violations.isEmpty() ? null : violations;
+    }
+
+    private Timestamp now() {
+        return Timestamp.from(clock.instant());
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
@@ -0,0 +1,83 @@
+package lt.example.insurance.contribution;
+
+import io.micrometer.core.annotation.Timed;
+import lt.example.insurance.citizen.CitizenRepository;
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.config.MetricsConfig;
+import lt.example.insurance.contribution.ContributionImportJobHandler.ImportPayload;
+import lt.example.insurance.contribution.dto.ContributionDeletionRequest;
+import lt.example.insurance.job.JobService;
+import lt.example.insurance.job.JobType;
+import lt.example.insurance.job.dto.JobResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Submits the long-running contribution operations as background jobs. Each submission is one short
+ * transaction; the work itself is done chunk by chunk by the job handlers.
+ */
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class ContributionJobService {
+
+    private final JobService jobService;
+    private final ContributionImportService importService;
+    private final ContributionDeletionJobHandler deletionJobHandler;
+    private final CitizenRepository citizenRepository;
+
+    public ContributionJobService(JobService jobService,
+                                  ContributionImportService importService,
+                                  ContributionDeletionJobHandler deletionJobHandler,
+                                  CitizenRepository citizenRepository) {
+        this.jobService = jobService;
+        this.importService = importService;
+        this.deletionJobHandler = deletionJobHandler;
+        this.citizenRepository = citizenRepository;
+    }
+
+    /**
+     * Stores the uploaded file with the job and registers an import with the job's id. The header is
+     * checked up front; data lines are parsed and validated by the job.
+     */
+    @Transactional
+    public JobResponse submitImport(InputStream csv) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8), 64 * 1024);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new BadRequestException("Import file is empty");
+        }
+        ContributionCsvLayout.of(header);
+
+        UUID jobId = jobService.submit(JobType.CONTRIBUTION_IMPORT, new ImportPayload(header), null);
+        jobService.setTotalItems(jobId, jobService.attachInput(jobId, reader, 2));
+        importService.startImport(jobId);
+        return jobService.get(jobId);
+    }
+
+    @Transactional
+    public JobResponse submitDeletion(ContributionDeletionRequest request) {
+        if (request.getCitizenId() == null && request.getEmployerId() == null
+                && request.getFrom() == null && request.getTo() == null) {
+            throw new BadRequestException("At least one of citizenId, employerId, from or to is required");
+        }
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw new BadRequestException("from must not be after to");
+        }
+        UUID jobId = jobService.submit(JobType.CONTRIBUTION_DELETION, request,
+                deletionJobHandler.countMatching(request));
+        return jobService.get(jobId);
+    }
+
+    @Transactional
+    public JobResponse submitPaidMonthRecomputation() {
+        UUID jobId = jobService.submit(JobType.PAID_MONTH_RECOMPUTATION, null, citizenRepository.count());
+        return jobService.get(jobId);
+    }
+}
@@ -0,0 +1,10 @@
+package lt.example.insurance.contribution;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Natural key of a contribution, mirroring the uq_contributions_citizen_employer_month constraint.
+ */
+public record ContributionKey(UUID citizenId, UUID employerId, LocalDate monthDate) {
+}
@@ -0,0 +1,51 @@
+package lt.example.insurance.contribution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Year;
+
+/**
+ * Creates the yearly contributions partitions ahead of time, on start and then daily. The work is
+ * done by the {@code ensure_contribution_partitions} database function, which also moves rows of a
+ * new year out of the default partition. Failures are only logged: rows of a missing year are still
+ * accepted by the default partition and move once the next run succeeds.
+ */
+@Component
+class ContributionPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(ContributionPartitionMaintainer.class);
+
+    private static final String ENSURE_PARTITIONS = "select ensure_contribution_partitions(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContributionPartitionProperties properties;
+    private final Clock clock;
+
+    ContributionPartitionMaintainer(JdbcTemplate jdbcTemplate, ContributionPartitionProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${contributions.partitions.cron:0 30 2 * * *}")
+    void ensurePartitions() {
+        int currentYear = Year.now(clock).getValue();
+        try {
+            Integer created = jdbcTemplate.queryForObject(ENSURE_PARTITIONS, Integer.class,
+                    currentYear, currentYear + properties.yearsAhead());
+            if (created != null && created > 0) {
+                log.info("Created {} contributions partition(s) up to {}", created, currentYear + properties.yearsAhead());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Creating contributions partitions failed: {}", ex.getMessage());
+        }
+    }
+}
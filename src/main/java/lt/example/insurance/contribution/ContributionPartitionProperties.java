@@ -0,0 +1,15 @@
+package lt.example.insurance.contribution;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Upkeep of the yearly contributions partitions ({@code contributions.partitions.*}).
+ *
+ * @param yearsAhead partitions are kept in place from the current year through this many years after it
+ * @param cron       when the partitions are checked, in addition to application start
+ */
+@ConfigurationProperties(prefix = "contributions.partitions")
+public record ContributionPartitionProperties(@DefaultValue("2") int yearsAhead,
+                                              @DefaultValue("0 30 2 * * *") String cron) {
+}
@@ -0,0 +1,74 @@
+package lt.example.insurance.contribution;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.example.insurance.contribution.dto.MonthlyContributionTotalResponse;
+import lt.example.insurance.contribution.dto.YearlyContributionTotalResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Contribution reports", description = "Contribution totals per employer, citizen and currency")
+public class ContributionReportController {
+
+    private final ContributionReportService contributionReportService;
+
+    public ContributionReportController(ContributionReportService contributionReportService) {
+        this.contributionReportService = contributionReportService;
+    }
+
+    @GetMapping("/employers/{employerId}/contribution-totals")
+    @Operation(summary = "Get monthly contribution totals of an employer",
+            description = "One row per month and currency between the months of from and to (inclusive).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Totals returned"),
+            @ApiResponse(responseCode = "400", description = "from is after to"),
+            @ApiResponse(responseCode = "404", description = "Employer not found")
+    })
+    public List<MonthlyContributionTotalResponse> getEmployerTotals(
+            @PathVariable UUID employerId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return contributionReportService.findEmployerMonthlyTotals(employerId, from, to);
+    }
+
+    @GetMapping("/citizens/{citizenId}/contribution-totals")
+    @Operation(summary = "Get yearly contribution totals of a citizen",
+            description = "One row per year and currency between fromYear and toYear (inclusive).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Totals returned"),
+            @ApiResponse(responseCode = "400", description = "fromYear is after toYear"),
+            @ApiResponse(responseCode = "404", description = "Citizen not found")
+    })
+    public List<YearlyContributionTotalResponse> getCitizenTotals(
+            @PathVariable UUID citizenId,
+            @RequestParam("fromYear") int fromYear,
+            @RequestParam("toYear") int toYear) {
+        return contributionReportService.findCitizenYearlyTotals(citizenId, fromYear, toYear);
+    }
+
+    @GetMapping("/contribution-totals")
+    @Operation(summary = "Get monthly contribution totals per currency",
+            description = "One row per month and currency between the months of from and to (inclusive).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Totals returned"),
+            @ApiResponse(responseCode = "400", description = "from is after to")
+    })
+    public List<MonthlyContributionTotalResponse> getTotals(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "currency", required = false) String currency) {
+        return contributionReportService.findMonthlyTotals(from, to, currency);
+    }
+}
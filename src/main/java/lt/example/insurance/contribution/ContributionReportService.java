@@ -0,0 +1,137 @@
+package lt.example.insurance.contribution;
+
+import io.micrometer.core.annotation.Timed;
+import lt.example.insurance.citizen.CitizenDirectory;
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.common.exception.NotFoundException;
+import lt.example.insurance.config.MetricsConfig;
+import lt.example.insurance.contribution.dto.MonthlyContributionTotalResponse;
+import lt.example.insurance.contribution.dto.YearlyContributionTotalResponse;
+import lt.example.insurance.employer.EmployerDirectory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Contribution totals for reporting, read only from the rollup tables maintained by
+ * {@link ContributionRollups}: the cost of a report depends on the number of periods and currencies
+ * it covers, not on the number of contributions in them. Month ranges are inclusive and compare
+ * whole months.
+ */
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class ContributionReportService {
+
+    // rollup years are SMALLINT; calendar years outside this range are never stored
+    static final int MIN_YEAR = 1;
+    static final int MAX_YEAR = 9999;
+
+    private static final String SELECT_EMPLOYER_MONTHS = """
+            select month_date, currency, contributions, paid_contributions, total_amount, paid_amount
+            from employer_monthly_contributions
+            where employer_id = ?
+              and month_date between ? and ?
+              and contributions > 0
+            order by month_date, currency
+            """;
+
+    private static final String SELECT_CITIZEN_YEARS = """
+            select year, currency, contributions, paid_contributions, total_amount, paid_amount
+            from citizen_yearly_contributions
+            where citizen_id = ?
+              and year between ? and ?
+              and contributions > 0
+            order by year, currency
+            """;
+
+    private static final String SELECT_CURRENCY_MONTHS = """
+            select month_date, currency, contributions, paid_contributions, total_amount, paid_amount
+            from currency_monthly_contributions
+            where month_date between ? and ?
+              and (cast(? as varchar) is null or currency = ?)
+              and contributions > 0
+            order by month_date, currency
+            """;
+
+    private static final RowMapper<MonthlyContributionTotalResponse> MONTHLY_TOTAL = (resultSet, rowNum) -> {
+        MonthlyContributionTotalResponse response = new MonthlyContributionTotalResponse();
+        response.setMonth(resultSet.getDate("month_date").toLocalDate());
+        response.setCurrency(resultSet.getString("currency"));
+        response.setContributions(resultSet.getLong("contributions"));
+        response.setPaidContributions(resultSet.getLong("paid_contributions"));
+        response.setTotalAmount(resultSet.getBigDecimal("total_amount"));
+        response.setPaidAmount(resultSet.getBigDecimal("paid_amount"));
+        return response;
+    };
+
+    private static final RowMapper<YearlyContributionTotalResponse> YEARLY_TOTAL = (resultSet, rowNum) -> {
+        YearlyContributionTotalResponse response = new YearlyContributionTotalResponse();
+        response.setYear(resultSet.getInt("year"));
+        response.setCurrency(resultSet.getString("currency"));
+        response.setContributions(resultSet.getLong("contributions"));
+        response.setPaidContributions(resultSet.getLong("paid_contributions"));
+        response.setTotalAmount(resultSet.getBigDecimal("total_amount"));
+        response.setPaidAmount(resultSet.getBigDecimal("paid_amount"));
+        return response;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CitizenDirectory citizenDirectory;
+    private final EmployerDirectory employerDirectory;
+
+    public ContributionReportService(JdbcTemplate jdbcTemplate,
+                                     CitizenDirectory citizenDirectory,
+                                     EmployerDirectory employerDirectory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.citizenDirectory = citizenDirectory;
+        this.employerDirectory = employerDirectory;
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlyContributionTotalResponse> findEmployerMonthlyTotals(UUID employerId, LocalDate from, LocalDate to) {
+        if (employerDirectory.find(employerId).isEmpty()) {
+            throw new NotFoundException("Employer not found with id: " + employerId);
+        }
+        requireOrdered(from, to);
+        return jdbcTemplate.query(SELECT_EMPLOYER_MONTHS, MONTHLY_TOTAL,
+                employerId, Date.valueOf(from.withDayOfMonth(1)), Date.valueOf(to.withDayOfMonth(1)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<YearlyContributionTotalResponse> findCitizenYearlyTotals(UUID citizenId, int fromYear, int toYear) {
+        if (citizenDirectory.find(citizenId).isEmpty()) {
+            throw new NotFoundException("Citizen not found with id: " + citizenId);
+        }
+        if (fromYear < MIN_YEAR || toYear > MAX_YEAR) {
+            throw new BadRequestException("fromYear and toYear must be between " + MIN_YEAR + " and " + MAX_YEAR);
+        }
+        if (fromYear > toYear) {
+            throw new BadRequestException("fromYear cannot be after toYear");
+        }
+        return jdbcTemplate.query(SELECT_CITIZEN_YEARS, YEARLY_TOTAL,
+                citizenId, (short) fromYear, (short) toYear);
+    }
+
+    /**
+     * Totals of all contributions per month and currency, optionally for one currency only.
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyContributionTotalResponse> findMonthlyTotals(LocalDate from, LocalDate to, String currency) {
+        requireOrdered(from, to);
+        String normalized = currency == null || currency.isBlank() ? null : ContributionService.normalizeCurrency(currency);
+        return jdbcTemplate.query(SELECT_CURRENCY_MONTHS, MONTHLY_TOTAL,
+                Date.valueOf(from.withDayOfMonth(1)), Date.valueOf(to.withDayOfMonth(1)), normalized, normalized);
+    }
+
+    private static void requireOrdered(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from cannot be after to");
+        }
+    }
+}
@@ -2,22 +2,93 @@ package lt.example.insurance.contribution;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ContributionRepository extends JpaRepository<ContributionEntity, UUID> {
 
     boolean existsByCitizen_IdAndEmployer_IdAndMonthDate(UUID citizenId, UUID employerId, LocalDate monthDate);
 
+    @EntityGraph(ContributionEntity.WITH_PARTIES)
+    Optional<ContributionEntity> findWithPartiesById(UUID id);
+
+    /**
+     * Version of the {@link #findWithPartiesById} representation: it embeds the citizen's and the
+     * employer's names, so a change to either row changes it too.
+     */
+    @Query("""
+            select greatest(c.updatedAt, ci.updatedAt, e.updatedAt)
+            from ContributionEntity c
+            join c.citizen ci
+            join c.employer e
+            where c.id = :id
+            """)
+    Optional<Instant> findVersionById(@Param("id") UUID id);
+
+    @Override
+    @EntityGraph(ContributionEntity.WITH_PARTIES)
+    Page<ContributionEntity> findAll(Pageable pageable);
+
+    @EntityGraph(ContributionEntity.WITH_PARTIES)
     List<ContributionEntity> findByCitizen_IdAndMonthDateBetween(UUID citizenId, LocalDate from, LocalDate to);
 
+    @EntityGraph(ContributionEntity.WITH_PARTIES)
     Page<ContributionEntity> findByCitizen_Id(UUID citizenId, Pageable pageable);
 
+    @EntityGraph(ContributionEntity.WITH_PARTIES)
+    @Query("""
+            select c
+            from ContributionEntity c
+            order by c.monthDate, c.id
+            """)
+    List<ContributionEntity> findSeekFirst(Pageable limit);
+
+    @EntityGraph(ContributionEntity.WITH_PARTIES)
+    @Query("""
+            select c
+            from ContributionEntity c
+            where c.monthDate >= :monthDate
+              and (c.monthDate > :monthDate or c.id > :id)
+            order by c.monthDate, c.id
+            """)
+    List<ContributionEntity> findSeekAfter(
+            @Param("monthDate") LocalDate monthDate,
+            @Param("id") UUID id,
+            Pageable limit);
+
+    @EntityGraph(ContributionEntity.WITH_PARTIES)
+    @Query("""
+            select c
+            from ContributionEntity c
+            where c.citizen.id = :citizenId
+            order by c.monthDate, c.id
+            """)
+    List<ContributionEntity> findSeekFirstByCitizen(@Param("citizenId") UUID citizenId, Pageable limit);
+
+    @EntityGraph(ContributionEntity.WITH_PARTIES)
+    @Query("""
+            select c
+            from ContributionEntity c
+            where c.citizen.id = :citizenId
+              and c.monthDate >= :monthDate
+              and (c.monthDate > :monthDate or c.id > :id)
+            order by c.monthDate, c.id
+            """)
+    List<ContributionEntity> findSeekAfterByCitizen(
+            @Param("citizenId") UUID citizenId,
+            @Param("monthDate") LocalDate monthDate,
+            @Param("id") UUID id,
+            Pageable limit);
+
     List<ContributionEntity> findByCitizen_IdAndMonthDateBetweenAndPaidAtIsNotNull(UUID citizenId, LocalDate from, LocalDate to);
 
     @Query("""
@@ -31,5 +102,16 @@ public interface ContributionRepository extends JpaRepository<ContributionEntity
             @Param("citizenId") UUID citizenId,
             @Param("from") LocalDate from,
             @Param("to") LocalDate to);
-}
 
+    @Query("""
+            select new lt.example.insurance.contribution.ContributionKey(c.citizen.id, c.employer.id, c.monthDate)
+            from ContributionEntity c
+            where c.citizen.id in :citizenIds
+              and c.employer.id in :employerIds
+              and c.monthDate in :monthDates
+            """)
+    List<ContributionKey> findExistingKeys(
+            @Param("citizenIds") Collection<UUID> citizenIds,
+            @Param("employerIds") Collection<UUID> employerIds,
+            @Param("monthDates") Collection<LocalDate> monthDates);
+}
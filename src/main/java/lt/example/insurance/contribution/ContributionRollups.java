@@ -0,0 +1,174 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.money.Money;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Maintains the contribution rollup tables (per employer and month, per citizen and year, per currency
+ * and month). Writers collect the signed changes of a statement or batch in a {@link Delta} and apply
+ * it with one batched upsert per table; each upsert adds to the stored totals, so concurrent writers
+ * never overwrite each other. Keys are applied in sorted order to keep row lock order stable. All calls
+ * join the caller's transaction.
+ */
+@Component
+public class ContributionRollups {
+
+    private static final String ADD_EMPLOYER_MONTH = """
+            insert into employer_monthly_contributions
+                (employer_id, month_date, currency, contributions, paid_contributions, total_amount, paid_amount)
+            values (?, ?, ?, ?, ?, ?, ?)
+            on conflict (employer_id, month_date, currency)
+            do update set contributions = employer_monthly_contributions.contributions + excluded.contributions,
+                          paid_contributions = employer_monthly_contributions.paid_contributions + excluded.paid_contributions,
+                          total_amount = employer_monthly_contributions.total_amount + excluded.total_amount,
+                          paid_amount = employer_monthly_contributions.paid_amount + excluded.paid_amount
+            """;
+
+    private static final String ADD_CITIZEN_YEAR = """
+            insert into citizen_yearly_contributions
+                (citizen_id, year, currency, contributions, paid_contributions, total_amount, paid_amount)
+            values (?, ?, ?, ?, ?, ?, ?)
+            on conflict (citizen_id, year, currency)
+            do update set contributions = citizen_yearly_contributions.contributions + excluded.contributions,
+                          paid_contributions = citizen_yearly_contributions.paid_contributions + excluded.paid_contributions,
+                          total_amount = citizen_yearly_contributions.total_amount + excluded.total_amount,
+                          paid_amount = citizen_yearly_contributions.paid_amount + excluded.paid_amount
+            """;
+
+    private static final String ADD_CURRENCY_MONTH = """
+            insert into currency_monthly_contributions
+                (month_date, currency, contributions, paid_contributions, total_amount, paid_amount)
+            values (?, ?, ?, ?, ?, ?)
+            on conflict (month_date, currency)
+            do update set contributions = currency_monthly_contributions.contributions + excluded.contributions,
+                          paid_contributions = currency_monthly_contributions.paid_contributions + excluded.paid_contributions,
+                          total_amount = currency_monthly_contributions.total_amount + excluded.total_amount,
+                          paid_amount = currency_monthly_contributions.paid_amount + excluded.paid_amount
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContributionRollups(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void added(Collection<ContributionEntity> contributions) {
+        Delta delta = new Delta();
+        for (ContributionEntity contribution : contributions) {
+            delta.add(contribution, 1);
+        }
+        apply(delta);
+    }
+
+    public void removed(ContributionEntity contribution) {
+        Delta delta = new Delta();
+        delta.add(contribution, -1);
+        apply(delta);
+    }
+
+    public void apply(Delta delta) {
+        if (delta.byCurrencyMonth.isEmpty()) {
+            return;
+        }
+        List<Object[]> employerMonths = new ArrayList<>(delta.byEmployerMonth.size());
+        delta.byEmployerMonth.forEach((key, totals) -> employerMonths.add(totals.args(
+                key.employerId(), Date.valueOf(key.month()), key.currency())));
+        jdbcTemplate.batchUpdate(ADD_EMPLOYER_MONTH, employerMonths);
+
+        List<Object[]> citizenYears = new ArrayList<>(delta.byCitizenYear.size());
+        delta.byCitizenYear.forEach((key, totals) -> citizenYears.add(totals.args(
+                key.citizenId(), (short) key.year(), key.currency())));
+        jdbcTemplate.batchUpdate(ADD_CITIZEN_YEAR, citizenYears);
+
+        List<Object[]> currencyMonths = new ArrayList<>(delta.byCurrencyMonth.size());
+        delta.byCurrencyMonth.forEach((key, totals) -> currencyMonths.add(totals.args(
+                Date.valueOf(key.month()), key.currency())));
+        jdbcTemplate.batchUpdate(ADD_CURRENCY_MONTH, currencyMonths);
+    }
+
+    /**
+     * Signed changes to the rollups, summed per rollup key.
+     */
+    public static final class Delta {
+
+        private final Map<EmployerMonth, Totals> byEmployerMonth = new TreeMap<>(Comparator
+                .comparing(EmployerMonth::employerId)
+                .thenComparing(EmployerMonth::month)
+                .thenComparing(EmployerMonth::currency));
+        private final Map<CitizenYear, Totals> byCitizenYear = new TreeMap<>(Comparator
+                .comparing(CitizenYear::citizenId)
+                .thenComparingInt(CitizenYear::year)
+                .thenComparing(CitizenYear::currency));
+        private final Map<CurrencyMonth, Totals> byCurrencyMonth = new TreeMap<>(Comparator
+                .comparing(CurrencyMonth::month)
+                .thenComparing(CurrencyMonth::currency));
+
+        /**
+         * Counts one contribution in ({@code sign} 1) or out ({@code sign} -1).
+         */
+        public void add(UUID citizenId, UUID employerId, LocalDate monthDate, String currency,
+                        long amountMinorUnits, boolean paid, int sign) {
+            LocalDate month = monthDate.withDayOfMonth(1);
+            byEmployerMonth.computeIfAbsent(new EmployerMonth(employerId, month, currency), key -> new Totals())
+                    .add(amountMinorUnits, paid, sign);
+            byCitizenYear.computeIfAbsent(new CitizenYear(citizenId, month.getYear(), currency), key -> new Totals())
+                    .add(amountMinorUnits, paid, sign);
+            byCurrencyMonth.computeIfAbsent(new CurrencyMonth(month, currency), key -> new Totals())
+                    .add(amountMinorUnits, paid, sign);
+        }
+
+        void add(ContributionEntity contribution, int sign) {
+            add(contribution.getCitizen().getId(), contribution.getEmployer().getId(), contribution.getMonthDate(),
+                    contribution.getCurrency(), contribution.getAmountMinorUnits(), contribution.getPaidAt() != null, sign);
+        }
+    }
+
+    private static final class Totals {
+
+        private long contributions;
+        private long paidContributions;
+        // minor units, summed without allocating; converted to NUMERIC once per upserted row
+        private long totalAmount;
+        private long paidAmount;
+
+        void add(long amountMinorUnits, boolean paid, int sign) {
+            long signed = sign < 0 ? Math.negateExact(amountMinorUnits) : amountMinorUnits;
+            contributions += sign;
+            totalAmount = Math.addExact(totalAmount, signed);
+            if (paid) {
+                paidContributions += sign;
+                paidAmount = Math.addExact(paidAmount, signed);
+            }
+        }
+
+        Object[] args(Object... key) {
+            Object[] args = new Object[key.length + 4];
+            System.arraycopy(key, 0, args, 0, key.length);
+            args[key.length] = contributions;
+            args[key.length + 1] = paidContributions;
+            args[key.length + 2] = Money.toDecimal(totalAmount);
+            args[key.length + 3] = Money.toDecimal(paidAmount);
+            return args;
+        }
+    }
+
+    private record EmployerMonth(UUID employerId, LocalDate month, String currency) {
+    }
+
+    private record CitizenYear(UUID citizenId, int year, String currency) {
+    }
+
+    private record CurrencyMonth(LocalDate month, String currency) {
+    }
+}
@@ -1,42 +1,90 @@
 package lt.example.insurance.contribution;
 
+import io.micrometer.core.annotation.Timed;
+import lt.example.insurance.citizen.CitizenDirectory;
 import lt.example.insurance.citizen.CitizenEntity;
 import lt.example.insurance.citizen.CitizenRepository;
+import lt.example.insurance.citizen.CitizenSnapshot;
 import lt.example.insurance.citizen.dto.CitizenEligibilityResponse;
 import lt.example.insurance.common.exception.BadRequestException;
 import lt.example.insurance.common.exception.ConflictException;
 import lt.example.insurance.common.exception.NotFoundException;
+import lt.example.insurance.common.money.Money;
+import lt.example.insurance.config.MetricsConfig;
+import lt.example.insurance.contribution.dto.ContributionBatchItemResult;
+import lt.example.insurance.contribution.dto.ContributionBatchItemStatus;
+import lt.example.insurance.contribution.dto.ContributionBatchResponse;
 import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionCursorPage;
 import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.employer.EmployerDirectory;
 import lt.example.insurance.employer.EmployerEntity;
 import lt.example.insurance.employer.EmployerRepository;
+import lt.example.insurance.employer.EmployerSnapshot;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class ContributionService {
 
+    public static final int MAX_SEEK_PAGE_SIZE = 1000;
+
+    static final int ELIGIBILITY_CHUNK_SIZE = 1000;
+
     private final ContributionRepository contributionRepository;
     private final CitizenRepository citizenRepository;
     private final EmployerRepository employerRepository;
+    private final CitizenDirectory citizenDirectory;
+    private final EmployerDirectory employerDirectory;
+    private final PaidMonthIndex paidMonthIndex;
+    private final ContributionRollups contributionRollups;
+    private final ContributionEvents contributionEvents;
+    private final TransactionTemplate readOnlyTransaction;
     private final Clock clock;
 
     public ContributionService(ContributionRepository contributionRepository,
                                CitizenRepository citizenRepository,
                                EmployerRepository employerRepository,
+                               CitizenDirectory citizenDirectory,
+                               EmployerDirectory employerDirectory,
+                               PaidMonthIndex paidMonthIndex,
+                               ContributionRollups contributionRollups,
+                               ContributionEvents contributionEvents,
+                               PlatformTransactionManager transactionManager,
                                Clock clock) {
         this.contributionRepository = contributionRepository;
         this.citizenRepository = citizenRepository;
         this.employerRepository = employerRepository;
+        this.citizenDirectory = citizenDirectory;
+        this.employerDirectory = employerDirectory;
+        this.paidMonthIndex = paidMonthIndex;
+        this.contributionRollups = contributionRollups;
+        this.contributionEvents = contributionEvents;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
         this.clock = clock;
     }
 
@@ -45,31 +93,106 @@ public class ContributionService {
         UUID citizenId = request.getCitizenId();
         UUID employerId = request.getEmployerId();
 
-        CitizenEntity citizen = citizenRepository.findById(citizenId)
-                .orElseThrow(() -> new NotFoundException("Citizen not found with id: " + citizenId));
-        EmployerEntity employer = employerRepository.findById(employerId)
+        CitizenSnapshot citizen = requireCitizen(citizenId);
+        EmployerSnapshot employer = employerDirectory.find(employerId)
                 .orElseThrow(() -> new NotFoundException("Employer not found with id: " + employerId));
 
         if (contributionRepository.existsByCitizen_IdAndEmployer_IdAndMonthDate(citizenId, employerId, request.getMonthDate())) {
             throw new ConflictException("Contribution already exists for citizen, employer and month");
         }
 
-        ContributionEntity entity = new ContributionEntity();
-        entity.setCitizen(citizen);
-        entity.setEmployer(employer);
-        entity.setMonthDate(request.getMonthDate());
-        entity.setAmount(request.getAmount());
-        String normalizedCurrency = request.getCurrency().trim().toUpperCase(Locale.ROOT);
-        entity.setCurrency(normalizedCurrency);
-        entity.setPaidAt(request.getPaidAt());
+        // existence is known from the cached snapshots, so attach uninitialized references
+        ContributionEntity saved = contributionRepository.save(newContribution(request,
+                citizenRepository.getReferenceById(citizenId), employerRepository.getReferenceById(employerId)));
+        if (saved.getPaidAt() != null) {
+            paidMonthIndex.markPaid(citizenId, saved.getMonthDate());
+        }
+        contributionRollups.added(List.of(saved));
+        contributionEvents.created(List.of(saved));
+        return toResponse(saved, citizenSummary(citizen), employerSummary(employer));
+    }
+
+    /**
+     * Creates many contributions in one transaction. Citizens, employers and existing
+     * (citizen, employer, month) keys are resolved with one set-based query each, and the
+     * accepted rows are inserted through Hibernate JDBC batching. Rows that cannot be
+     * created are reported per index instead of failing the whole batch.
+     */
+    @Transactional
+    public ContributionBatchResponse createBatch(List<ContributionCreateRequest> requests) {
+        Set<UUID> citizenIds = new HashSet<>();
+        Set<UUID> employerIds = new HashSet<>();
+        Set<LocalDate> monthDates = new HashSet<>();
+        for (ContributionCreateRequest request : requests) {
+            citizenIds.add(request.getCitizenId());
+            employerIds.add(request.getEmployerId());
+            monthDates.add(request.getMonthDate());
+        }
+
+        Map<UUID, CitizenEntity> citizens = citizenRepository.findAllById(citizenIds).stream()
+                .collect(Collectors.toMap(CitizenEntity::getId, Function.identity()));
+        Map<UUID, EmployerEntity> employers = employerRepository.findAllById(employerIds).stream()
+                .collect(Collectors.toMap(EmployerEntity::getId, Function.identity()));
+        Set<ContributionKey> takenKeys = new HashSet<>(
+                contributionRepository.findExistingKeys(citizenIds, employerIds, monthDates));
+
+        List<ContributionBatchItemResult> results = new ArrayList<>(requests.size());
+        List<ContributionEntity> accepted = new ArrayList<>();
+        List<ContributionBatchItemResult> acceptedResults = new ArrayList<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            ContributionCreateRequest request = requests.get(index);
+            CitizenEntity citizen = citizens.get(request.getCitizenId());
+            EmployerEntity employer = employers.get(request.getEmployerId());
+
+            if (citizen == null) {
+                results.add(batchItemResult(index, ContributionBatchItemStatus.CITIZEN_NOT_FOUND,
+                        "Citizen not found with id: " + request.getCitizenId()));
+            } else if (employer == null) {
+                results.add(batchItemResult(index, ContributionBatchItemStatus.EMPLOYER_NOT_FOUND,
+                        "Employer not found with id: " + request.getEmployerId()));
+            } else if (!takenKeys.add(new ContributionKey(
+                    request.getCitizenId(), request.getEmployerId(), request.getMonthDate()))) {
+                results.add(batchItemResult(index, ContributionBatchItemStatus.DUPLICATE,
+                        "Contribution already exists for citizen, employer and month"));
+            } else {
+                ContributionBatchItemResult result =
+                        batchItemResult(index, ContributionBatchItemStatus.CREATED, null);
+                results.add(result);
+                accepted.add(newContribution(request, citizen, employer));
+                acceptedResults.add(result);
+            }
+        }
+
+        contributionRepository.saveAll(accepted);
+        paidMonthIndex.markPaid(accepted);
+        contributionRollups.added(accepted);
+        contributionEvents.created(accepted);
+        for (int i = 0; i < accepted.size(); i++) {
+            acceptedResults.get(i).setContributionId(accepted.get(i).getId());
+        }
+
+        ContributionBatchResponse response = new ContributionBatchResponse();
+        response.setReceived(requests.size());
+        response.setCreated(accepted.size());
+        response.setRejected(requests.size() - accepted.size());
+        response.setResults(results);
+        return response;
+    }
 
-        ContributionEntity saved = contributionRepository.save(entity);
-        return toResponse(saved);
+    /**
+     * Version of the contribution for conditional GETs: the latest update of the contribution, its
+     * citizen and its employer, read without loading or mapping any of them.
+     */
+    @Transactional(readOnly = true)
+    public Instant getVersion(UUID id) {
+        return contributionRepository.findVersionById(id)
+                .orElseThrow(() -> new NotFoundException("Contribution not found with id: " + id));
     }
 
     @Transactional(readOnly = true)
     public ContributionResponse getById(UUID id) {
-        ContributionEntity entity = contributionRepository.findById(id)
+        ContributionEntity entity = contributionRepository.findWithPartiesById(id)
                 .orElseThrow(() -> new NotFoundException("Contribution not found with id: " + id));
         return toResponse(entity);
     }
@@ -77,8 +200,7 @@ public class ContributionService {
     @Transactional(readOnly = true)
     public List<ContributionResponse> findByCitizenAndPeriod(UUID citizenId, LocalDate from, LocalDate to) {
         // Ensure citizen exists to return 404 if not
-        citizenRepository.findById(citizenId)
-                .orElseThrow(() -> new NotFoundException("Citizen not found with id: " + citizenId));
+        requireCitizen(citizenId);
 
         List<ContributionEntity> entities = contributionRepository
                 .findByCitizen_IdAndMonthDateBetween(citizenId, from, to);
@@ -89,72 +211,234 @@ public class ContributionService {
     @Transactional(readOnly = true)
     public Page<ContributionResponse> findPage(UUID citizenId, Pageable pageable) {
         if (citizenId != null) {
-            citizenRepository.findById(citizenId)
-                    .orElseThrow(() -> new NotFoundException("Citizen not found with id: " + citizenId));
+            requireCitizen(citizenId);
             return contributionRepository.findByCitizen_Id(citizenId, pageable).map(this::toResponse);
         }
         return contributionRepository.findAll(pageable).map(this::toResponse);
     }
 
+    /**
+     * Keyset variant of {@link #findPage}: continues after the (monthDate, id) position encoded in
+     * the cursor, so the cost of a page does not depend on its depth and no count query is issued.
+     */
+    @Transactional(readOnly = true)
+    public ContributionCursorPage findSeekPage(UUID citizenId, String cursor, int size) {
+        if (size < 1 || size > MAX_SEEK_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_SEEK_PAGE_SIZE);
+        }
+        ContributionCursor after = cursor == null || cursor.isBlank() ? null : ContributionCursor.decode(cursor);
+        // one extra row tells whether another page follows
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<ContributionEntity> rows;
+        if (citizenId != null) {
+            requireCitizen(citizenId);
+            rows = after == null
+                    ? contributionRepository.findSeekFirstByCitizen(citizenId, limit)
+                    : contributionRepository.findSeekAfterByCitizen(citizenId, after.monthDate(), after.id(), limit);
+        } else {
+            rows = after == null
+                    ? contributionRepository.findSeekFirst(limit)
+                    : contributionRepository.findSeekAfter(after.monthDate(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<ContributionEntity> content = hasNext ? rows.subList(0, size) : rows;
+
+        ContributionCursorPage page = new ContributionCursorPage();
+        page.setContent(content.stream().map(this::toResponse).toList());
+        page.setSize(size);
+        page.setHasNext(hasNext);
+        page.setNextCursor(hasNext ? ContributionCursor.of(content.get(size - 1)).encode() : null);
+        return page;
+    }
+
     @Transactional(readOnly = true)
     public CitizenEligibilityResponse calculateEligibility(UUID citizenId, int monthsBack, int minMonthsPaid) {
+        EligibilityWindow window = eligibilityWindow(monthsBack, minMonthsPaid);
+
+        requireCitizen(citizenId);
+
+        int paidMonths = paidMonthIndex.countPaidMonths(citizenId, window.from(), window.to());
+        return toEligibilityResponse(citizenId, window, paidMonths, minMonthsPaid);
+    }
+
+    /**
+     * Validates the eligibility parameters and resolves the month window they describe.
+     */
+    public EligibilityWindow eligibilityWindow(int monthsBack, int minMonthsPaid) {
         if (monthsBack < 1 || minMonthsPaid < 1) {
             throw new BadRequestException("monthsBack and minMonthsPaid must be at least 1");
         }
         if (minMonthsPaid > monthsBack) {
             throw new BadRequestException("minMonthsPaid cannot be greater than monthsBack");
         }
+        return EligibilityWindow.endingAt(LocalDate.now(clock), monthsBack);
+    }
 
-        citizenRepository.findById(citizenId)
-                .orElseThrow(() -> new NotFoundException("Citizen not found with id: " + citizenId));
+    /**
+     * Time left until a window ending with {@code windowTo} slides: from the first day of the next
+     * month the same parameters describe a different range, so an answer must not be reused longer.
+     */
+    public Duration untilWindowMoves(LocalDate windowTo) {
+        Instant nextMonth = windowTo.plusMonths(1).atStartOfDay(clock.getZone()).toInstant();
+        Duration remaining = Duration.between(clock.instant(), nextMonth);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * Evaluates eligibility for many citizens, handing each result to the sink as soon as its chunk
+     * is computed. Every chunk costs one paid-month bitmap lookup; unknown citizen IDs are skipped. When
+     * no IDs are given, all citizens are walked in ID order. Deliberately not transactional: each
+     * chunk is read in its own short read-only transaction (so it can run on a read replica) instead of
+     * one snapshot for the whole run, and results reach the sink after that transaction has ended.
+     */
+    public void calculateEligibilityBatch(List<UUID> citizenIds,
+                                          EligibilityWindow window,
+                                          int minMonthsPaid,
+                                          Consumer<CitizenEligibilityResponse> sink) {
+        if (citizenIds != null && !citizenIds.isEmpty()) {
+            List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(citizenIds));
+            for (int start = 0; start < distinctIds.size(); start += ELIGIBILITY_CHUNK_SIZE) {
+                List<UUID> chunk = distinctIds.subList(start, Math.min(start + ELIGIBILITY_CHUNK_SIZE, distinctIds.size()));
+                Map<UUID, PaidMonths> paidMonths = readOnlyTransaction.execute(status ->
+                        paidMonthIndex.load(chunk, window.from(), window.to()));
+                emitEligibility(chunk, paidMonths, window, minMonthsPaid, sink);
+            }
+            return;
+        }
 
-        LocalDate now = LocalDate.now(clock);
-        LocalDate windowTo = now.withDayOfMonth(1);
-        LocalDate windowFrom = windowTo.minusMonths(monthsBack - 1L);
+        Pageable limit = PageRequest.ofSize(ELIGIBILITY_CHUNK_SIZE);
+        UUID after = new UUID(0L, 0L);
+        List<UUID> chunk;
+        do {
+            UUID chunkAfter = after;
+            EligibilityChunk loaded = readOnlyTransaction.execute(status -> {
+                List<UUID> ids = citizenRepository.findIdsAfter(chunkAfter, limit);
+                return new EligibilityChunk(ids,
+                        ids.isEmpty() ? Map.of() : paidMonthIndex.load(ids, window.from(), window.to()));
+            });
+            chunk = loaded.citizenIds();
+            if (!chunk.isEmpty()) {
+                emitEligibility(chunk, loaded.paidMonths(), window, minMonthsPaid, sink);
+                after = chunk.get(chunk.size() - 1);
+            }
+        } while (chunk.size() == ELIGIBILITY_CHUNK_SIZE);
+    }
 
-        long distinctMonths = contributionRepository.countDistinctPaidMonths(citizenId, windowFrom, windowTo);
+    @Transactional
+    public void delete(UUID id) {
+        ContributionEntity entity = contributionRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Contribution not found with id: " + id));
+        contributionRepository.delete(entity);
+        contributionRollups.removed(entity);
+        contributionEvents.deleted(entity);
+        if (entity.getPaidAt() != null) {
+            contributionRepository.flush();
+            paidMonthIndex.refreshMonth(entity.getCitizen().getId(), entity.getMonthDate());
+        }
+    }
 
+    private void emitEligibility(List<UUID> citizenIds,
+                                 Map<UUID, PaidMonths> paidMonths,
+                                 EligibilityWindow window,
+                                 int minMonthsPaid,
+                                 Consumer<CitizenEligibilityResponse> sink) {
+        for (UUID citizenId : citizenIds) {
+            PaidMonths months = paidMonths.get(citizenId);
+            if (months != null) {
+                sink.accept(toEligibilityResponse(citizenId, window, months.count(window.from(), window.to()),
+                        minMonthsPaid));
+            }
+        }
+    }
+
+    private CitizenEligibilityResponse toEligibilityResponse(UUID citizenId,
+                                                             EligibilityWindow window,
+                                                             long distinctMonths,
+                                                             int minMonthsPaid) {
         CitizenEligibilityResponse response = new CitizenEligibilityResponse();
         response.setCitizenId(citizenId);
-        response.setWindowFrom(windowFrom);
-        response.setWindowTo(windowTo);
+        response.setWindowFrom(window.from());
+        response.setWindowTo(window.to());
         response.setMonthsWithPayments((int) distinctMonths);
         response.setRequiredMonths(minMonthsPaid);
         response.setEligible(distinctMonths >= minMonthsPaid);
         return response;
     }
 
-    @Transactional
-    public void delete(UUID id) {
-        ContributionEntity entity = contributionRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Contribution not found with id: " + id));
-        contributionRepository.delete(entity);
+    static String normalizeCurrency(String currency) {
+        return currency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private ContributionEntity newContribution(ContributionCreateRequest request,
+                                               CitizenEntity citizen,
+                                               EmployerEntity employer) {
+        ContributionEntity entity = new ContributionEntity();
+        entity.setCitizen(citizen);
+        entity.setEmployer(employer);
+        entity.setMonthDate(request.getMonthDate());
+        entity.setAmount(Money.of(request.getAmount(), normalizeCurrency(request.getCurrency())));
+        entity.setPaidAt(request.getPaidAt());
+        return entity;
     }
 
-    private ContributionResponse toResponse(ContributionEntity entity) {
+    private ContributionBatchItemResult batchItemResult(int index, ContributionBatchItemStatus status, String message) {
+        ContributionBatchItemResult result = new ContributionBatchItemResult();
+        result.setIndex(index);
+        result.setStatus(status);
+        result.setMessage(message);
+        return result;
+    }
+
+    private CitizenSnapshot requireCitizen(UUID citizenId) {
+        return citizenDirectory.find(citizenId)
+                .orElseThrow(() -> new NotFoundException("Citizen not found with id: " + citizenId));
+    }
+
+    ContributionResponse toResponse(ContributionEntity entity) {
+        CitizenEntity citizen = entity.getCitizen();
+        EmployerEntity employer = entity.getEmployer();
+        return toResponse(entity,
+                citizenSummary(new CitizenSnapshot(citizen.getId(), citizen.getPersonalCode(),
+                        citizen.getFirstName(), citizen.getLastName())),
+                employerSummary(new EmployerSnapshot(employer.getId(), employer.getCompanyCode(), employer.getName())));
+    }
+
+    private ContributionResponse toResponse(ContributionEntity entity,
+                                            ContributionResponse.CitizenSummary citizenSummary,
+                                            ContributionResponse.EmployerSummary employerSummary) {
         ContributionResponse response = new ContributionResponse();
         response.setId(entity.getId());
         response.setMonthDate(entity.getMonthDate());
-        response.setAmount(entity.getAmount());
+        response.setAmount(entity.getAmount().toBigDecimal());
         response.setCurrency(entity.getCurrency());
         response.setPaidAt(entity.getPaidAt());
         response.setCreatedAt(entity.getCreatedAt());
         response.setUpdatedAt(entity.getUpdatedAt());
 
-        ContributionResponse.CitizenSummary citizenSummary = new ContributionResponse.CitizenSummary();
-        citizenSummary.setId(entity.getCitizen().getId());
-        citizenSummary.setPersonalCode(entity.getCitizen().getPersonalCode());
-        citizenSummary.setFirstName(entity.getCitizen().getFirstName());
-        citizenSummary.setLastName(entity.getCitizen().getLastName());
         response.setCitizen(citizenSummary);
-
-        ContributionResponse.EmployerSummary employerSummary = new ContributionResponse.EmployerSummary();
-        employerSummary.setId(entity.getEmployer().getId());
-        employerSummary.setCompanyCode(entity.getEmployer().getCompanyCode());
-        employerSummary.setName(entity.getEmployer().getName());
         response.setEmployer(employerSummary);
-
         return response;
     }
-}
 
+    private ContributionResponse.CitizenSummary citizenSummary(CitizenSnapshot citizen) {
+        ContributionResponse.CitizenSummary summary = new ContributionResponse.CitizenSummary();
+        summary.setId(citizen.id());
+        summary.setPersonalCode(citizen.personalCode());
+        summary.setFirstName(citizen.firstName());
+        summary.setLastName(citizen.lastName());
+        return summary;
+    }
+
+    private ContributionResponse.EmployerSummary employerSummary(EmployerSnapshot employer) {
+        ContributionResponse.EmployerSummary summary = new ContributionResponse.EmployerSummary();
+        summary.setId(employer.id());
+        summary.setCompanyCode(employer.companyCode());
+        summary.setName(employer.name());
+        return summary;
+    }
+
+    private record EligibilityChunk(List<UUID> citizenIds, Map<UUID, PaidMonths> paidMonths) {
+    }
+}
@@ -0,0 +1,69 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.contribution.dto.ContributionTable;
+import lt.example.insurance.contribution.dto.ContributionTablePage;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Converts contribution responses to the dictionary-encoded {@link ContributionTable} layout served
+ * to binary (CBOR) clients. Parties are numbered in order of first appearance.
+ */
+public final class ContributionTables {
+
+    private ContributionTables() {
+    }
+
+    public static ContributionTable of(List<ContributionResponse> contributions) {
+        List<ContributionResponse.CitizenSummary> citizens = new ArrayList<>();
+        List<ContributionResponse.EmployerSummary> employers = new ArrayList<>();
+        Map<UUID, Integer> citizenIndexes = new HashMap<>();
+        Map<UUID, Integer> employerIndexes = new HashMap<>();
+        List<ContributionTable.Row> rows = new ArrayList<>(contributions.size());
+
+        for (ContributionResponse contribution : contributions) {
+            ContributionResponse.CitizenSummary citizen = contribution.getCitizen();
+            ContributionResponse.EmployerSummary employer = contribution.getEmployer();
+
+            ContributionTable.Row row = new ContributionTable.Row();
+            row.setId(contribution.getId());
+            row.setCitizen(citizenIndexes.computeIfAbsent(citizen.getId(), id -> {
+                citizens.add(citizen);
+                return citizens.size() - 1;
+            }));
+            row.setEmployer(employerIndexes.computeIfAbsent(employer.getId(), id -> {
+                employers.add(employer);
+                return employers.size() - 1;
+            }));
+            row.setMonthDate(contribution.getMonthDate());
+            row.setAmount(contribution.getAmount());
+            row.setCurrency(contribution.getCurrency());
+            row.setPaidAt(contribution.getPaidAt());
+            row.setCreatedAt(contribution.getCreatedAt());
+            row.setUpdatedAt(contribution.getUpdatedAt());
+            rows.add(row);
+        }
+
+        ContributionTable table = new ContributionTable();
+        table.setCitizens(citizens);
+        table.setEmployers(employers);
+        table.setRows(rows);
+        return table;
+    }
+
+    public static ContributionTablePage of(Page<ContributionResponse> page) {
+        ContributionTablePage tablePage = new ContributionTablePage();
+        tablePage.setContributions(of(page.getContent()));
+        tablePage.setNumber(page.getNumber());
+        tablePage.setSize(page.getSize());
+        tablePage.setTotalElements(page.getTotalElements());
+        tablePage.setTotalPages(page.getTotalPages());
+        return tablePage;
+    }
+}
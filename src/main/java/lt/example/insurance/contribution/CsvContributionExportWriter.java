@@ -0,0 +1,69 @@
+package lt.example.insurance.contribution;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+class CsvContributionExportWriter implements ContributionExportWriter {
+
+    static final String HEADER =
+            "id,citizen_id,personal_code,employer_id,company_code,month_date,amount,currency,paid_at";
+
+    private final Writer writer;
+
+    CsvContributionExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write('\n');
+    }
+
+    @Override
+    public void write(ContributionExportRow row) throws IOException {
+        writer.write(row.id().toString());
+        writer.write(',');
+        writer.write(row.citizenId().toString());
+        writer.write(',');
+        writeText(row.personalCode());
+        writer.write(',');
+        writer.write(row.employerId().toString());
+        writer.write(',');
+        writeText(row.companyCode());
+        writer.write(',');
+        writer.write(row.monthDate().toString());
+        writer.write(',');
+        writer.write(row.amount().toPlainString());
+        writer.write(',');
+        writeText(row.currency());
+        writer.write(',');
+        if (row.paidAt() != null) {
+            writer.write(row.paidAt().toString());
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeText(String value) throws IOException {
+        writer.write(escape(value));
+    }
+
+    /**
+     * Quotes a text field when it contains a separator, quote or line break.
+     */
+    static String escape(String value) {
+        boolean needsQuoting = value.indexOf(',') >= 0
+                || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,14 @@
+package lt.example.insurance.contribution;
+
+import java.time.LocalDate;
+
+/**
+ * Inclusive range of first-of-month dates an eligibility check looks at, ending with the current month.
+ */
+public record EligibilityWindow(LocalDate from, LocalDate to) {
+
+    public static EligibilityWindow endingAt(LocalDate today, int monthsBack) {
+        LocalDate to = today.withDayOfMonth(1);
+        return new EligibilityWindow(to.minusMonths(monthsBack - 1L), to);
+    }
+}
@@ -0,0 +1,10 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.contribution.dto.ContributionResponse;
+
+/**
+ * Outcome of an idempotent create: the contribution, and whether it was created by an earlier
+ * request with the same Idempotency-Key.
+ */
+public record IdempotentContribution(ContributionResponse response, boolean replayed) {
+}
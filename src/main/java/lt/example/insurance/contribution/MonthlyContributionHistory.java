@@ -0,0 +1,95 @@
+package lt.example.insurance.contribution;
+
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Paid contribution history of one citizen as a month-indexed vector: offset 0 is {@link #firstMonth()}.
+ * For every month it records whether anything was paid and the paid amount in cents (one currency),
+ * and per employer the months that employer paid for.
+ */
+public final class MonthlyContributionHistory {
+
+    private final YearMonth firstMonth;
+    private final BitSet paidMonths;
+    private final long[] amountCents;
+    private final Map<UUID, BitSet> monthsByEmployer;
+
+    private MonthlyContributionHistory(YearMonth firstMonth, BitSet paidMonths, long[] amountCents,
+                                       Map<UUID, BitSet> monthsByEmployer) {
+        this.firstMonth = firstMonth;
+        this.paidMonths = paidMonths;
+        this.amountCents = amountCents;
+        this.monthsByEmployer = monthsByEmployer;
+    }
+
+    public static Builder builder(YearMonth firstMonth, YearMonth lastMonth) {
+        return new Builder(firstMonth, lastMonth);
+    }
+
+    public YearMonth firstMonth() {
+        return firstMonth;
+    }
+
+    public int length() {
+        return amountCents.length;
+    }
+
+    /**
+     * Vector index of a month; may fall outside {@code [0, length())}.
+     */
+    public int offset(YearMonth month) {
+        return (month.getYear() - firstMonth.getYear()) * 12 + month.getMonthValue() - firstMonth.getMonthValue();
+    }
+
+    public boolean isPaid(int offset) {
+        return paidMonths.get(offset);
+    }
+
+    public long amountCents(int offset) {
+        return amountCents[offset];
+    }
+
+    /**
+     * Largest number of months within offsets {@code [from, to]} paid for by a single employer.
+     */
+    public int maxMonthsWithOneEmployer(int from, int to) {
+        int max = 0;
+        for (BitSet months : monthsByEmployer.values()) {
+            max = Math.max(max, months.get(from, to + 1).cardinality());
+        }
+        return max;
+    }
+
+    public static final class Builder {
+
+        private final YearMonth firstMonth;
+        private final BitSet paidMonths = new BitSet();
+        private final long[] amountCents;
+        private final Map<UUID, BitSet> monthsByEmployer = new HashMap<>();
+
+        private Builder(YearMonth firstMonth, YearMonth lastMonth) {
+            this.firstMonth = firstMonth;
+            this.amountCents = new long[(lastMonth.getYear() - firstMonth.getYear()) * 12
+                    + lastMonth.getMonthValue() - firstMonth.getMonthValue() + 1];
+        }
+
+        /**
+         * Records a paid month of one employer; {@code amountCents} is zero for payments in another currency.
+         */
+        public Builder add(UUID employerId, YearMonth month, long amountCents) {
+            int offset = (month.getYear() - firstMonth.getYear()) * 12 + month.getMonthValue() - firstMonth.getMonthValue();
+            paidMonths.set(offset);
+            this.amountCents[offset] += amountCents;
+            monthsByEmployer.computeIfAbsent(employerId, id -> new BitSet()).set(offset);
+            return this;
+        }
+
+        public MonthlyContributionHistory build() {
+            return new MonthlyContributionHistory(firstMonth, paidMonths, amountCents, monthsByEmployer);
+        }
+    }
+}
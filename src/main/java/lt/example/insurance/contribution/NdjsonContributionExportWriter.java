@@ -0,0 +1,26 @@
+package lt.example.insurance.contribution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.example.insurance.common.api.NdjsonWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NdjsonContributionExportWriter implements ContributionExportWriter {
+
+    private final NdjsonWriter writer;
+
+    NdjsonContributionExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.writer = new NdjsonWriter(objectMapper, out);
+    }
+
+    @Override
+    public void write(ContributionExportRow row) throws IOException {
+        writer.write(row);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,217 @@
+package lt.example.insurance.contribution;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the citizen_paid_months read model and answers paid-month counts from it.
+ * Paid bits are set with an atomic upsert (bitwise OR on the year row). Clearing a bit first locks the
+ * year row and then re-checks the contributions in a separate statement, whose fresh snapshot sees any
+ * paid row committed by a writer that held the lock; concurrent writers for the same citizen therefore
+ * never lose each other's bits. All calls join the caller's transaction.
+ */
+@Component
+public class PaidMonthIndex {
+
+    private static final String MARK_PAID = """
+            insert into citizen_paid_months (citizen_id, year, months)
+            values (?, ?, ?)
+            on conflict (citizen_id, year)
+            do update set months = citizen_paid_months.months | excluded.months
+            """;
+
+    // Taken before REFRESH_MONTH, in key order so concurrent refreshes cannot deadlock on each other.
+    private static final String LOCK_YEARS = """
+            select 1
+            from citizen_paid_months
+            where (citizen_id, year) in (select * from unnest(?::uuid[], ?::smallint[]))
+            order by citizen_id, year
+            for update
+            """;
+
+    // Recomputes one month bit from the contributions table; used after deletes. Run only with the
+    // year row locked (LOCK_YEARS): under READ COMMITTED an update that waited for the row lock would
+    // still evaluate the exists check against its own older snapshot and clear a bit set meanwhile.
+    private static final String REFRESH_MONTH = """
+            update citizen_paid_months
+            set months = case
+                    when exists (select 1
+                                 from contributions c
+                                 where c.citizen_id = ?
+                                   and c.month_date >= ?
+                                   and c.month_date < ?
+                                   and c.paid_at is not null)
+                    then months | ?
+                    else months & ~?
+                end
+            where citizen_id = ?
+              and year = ?
+            """;
+
+    private static final String DELETE_CITIZENS = """
+            delete from citizen_paid_months
+            where citizen_id = any (?)
+            """;
+
+    private static final String AGGREGATE_CITIZENS = """
+            insert into citizen_paid_months (citizen_id, year, months)
+            select citizen_id, extract(year from month_date)::smallint,
+                   bit_or(1 << (extract(month from month_date)::integer - 1))
+            from contributions
+            where citizen_id = any (?)
+              and paid_at is not null
+            group by citizen_id, extract(year from month_date)
+            on conflict (citizen_id, year)
+            do update set months = citizen_paid_months.months | excluded.months
+            """;
+
+    private static final String SELECT_CITIZEN_MASKS = """
+            select year, months
+            from citizen_paid_months
+            where citizen_id = ?
+              and year between ? and ?
+            """;
+
+    private static final String SELECT_MASKS = """
+            select ci.id as citizen_id, pm.year, pm.months
+            from citizens ci
+            left join citizen_paid_months pm
+                   on pm.citizen_id = ci.id
+                  and pm.year between ? and ?
+            where ci.id = any (?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PaidMonthIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void markPaid(UUID citizenId, LocalDate monthDate) {
+        jdbcTemplate.update(MARK_PAID, citizenId, (short) monthDate.getYear(), PaidMonths.bit(monthDate));
+    }
+
+    /**
+     * Sets the bits of all paid contributions with one batched upsert per (citizen, year).
+     */
+    public void markPaid(Collection<ContributionEntity> contributions) {
+        Map<CitizenYear, Integer> masks = new LinkedHashMap<>();
+        for (ContributionEntity contribution : contributions) {
+            if (contribution.getPaidAt() != null) {
+                CitizenYear key = new CitizenYear(
+                        contribution.getCitizen().getId(), contribution.getMonthDate().getYear());
+                masks.merge(key, PaidMonths.bit(contribution.getMonthDate()), (a, b) -> a | b);
+            }
+        }
+        if (masks.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(masks.size());
+        masks.forEach((key, mask) -> args.add(new Object[]{key.citizenId(), (short) key.year(), mask}));
+        jdbcTemplate.batchUpdate(MARK_PAID, args);
+    }
+
+    /**
+     * Re-derives the bit for one month after contributions were removed. Pending JPA deletes must be
+     * flushed first so the existence check sees them.
+     */
+    public void refreshMonth(UUID citizenId, LocalDate monthDate) {
+        refreshMonths(List.of(new CitizenMonth(citizenId, monthDate)));
+    }
+
+    /**
+     * Batched {@link #refreshMonth} for many (citizen, month) pairs.
+     */
+    public void refreshMonths(Collection<CitizenMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+        UUID[] citizenIds = new UUID[months.size()];
+        Short[] years = new Short[months.size()];
+        int i = 0;
+        for (CitizenMonth month : months) {
+            citizenIds[i] = month.citizenId();
+            years[i++] = (short) month.monthDate().getYear();
+        }
+        jdbcTemplate.query(LOCK_YEARS, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", citizenIds));
+            ps.setArray(2, ps.getConnection().createArrayOf("smallint", years));
+        }, resultSet -> {
+        });
+
+        List<Object[]> args = new ArrayList<>(months.size());
+        for (CitizenMonth month : months) {
+            LocalDate monthStart = month.monthDate().withDayOfMonth(1);
+            int bit = PaidMonths.bit(monthStart);
+            args.add(new Object[]{month.citizenId(), Date.valueOf(monthStart), Date.valueOf(monthStart.plusMonths(1)),
+                    bit, bit, month.citizenId(), (short) monthStart.getYear()});
+        }
+        jdbcTemplate.batchUpdate(REFRESH_MONTH, args);
+    }
+
+    /**
+     * Rebuilds the bitmaps of the given citizens from the contributions table. The aggregate is
+     * merged into rows a concurrent {@link #markPaid} may have inserted after the delete.
+     */
+    public void rebuild(Collection<UUID> citizenIds) {
+        if (citizenIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_CITIZENS, ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", citizenIds.toArray())));
+        jdbcTemplate.update(AGGREGATE_CITIZENS, ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", citizenIds.toArray())));
+    }
+
+    public int countPaidMonths(UUID citizenId, LocalDate from, LocalDate to) {
+        Map<Integer, Integer> masks = new HashMap<>();
+        jdbcTemplate.query(SELECT_CITIZEN_MASKS,
+                resultSet -> {
+                    masks.put(resultSet.getInt("year"), resultSet.getInt("months"));
+                },
+                citizenId, (short) from.getYear(), (short) to.getYear());
+        return PaidMonths.of(from.getYear(), to.getYear(), masks).count(from, to);
+    }
+
+    /**
+     * Loads the bitmaps covering [from, to] for the given citizens in one query. Only existing
+     * citizens are present in the result; citizens without paid months map to an empty bitmap.
+     */
+    public Map<UUID, PaidMonths> load(Collection<UUID> citizenIds, LocalDate from, LocalDate to) {
+        int fromYear = from.getYear();
+        int toYear = to.getYear();
+        Map<UUID, Map<Integer, Integer>> masksByCitizen = new HashMap<>();
+        jdbcTemplate.query(SELECT_MASKS, ps -> {
+            ps.setShort(1, (short) fromYear);
+            ps.setShort(2, (short) toYear);
+            Array ids = ps.getConnection().createArrayOf("uuid", citizenIds.toArray());
+            ps.setArray(3, ids);
+        }, resultSet -> {
+            Map<Integer, Integer> masks = masksByCitizen.computeIfAbsent(
+                    resultSet.getObject("citizen_id", UUID.class), id -> new HashMap<>());
+            int year = resultSet.getInt("year");
+            if (!resultSet.wasNull()) {
+                masks.put(year, resultSet.getInt("months"));
+            }
+        });
+
+        Map<UUID, PaidMonths> result = new HashMap<>(masksByCitizen.size() * 2);
+        masksByCitizen.forEach((citizenId, masks) -> result.put(citizenId, PaidMonths.of(fromYear, toYear, masks)));
+        return result;
+    }
+
+    private record CitizenYear(UUID citizenId, int year) {
+    }
+
+    public record CitizenMonth(UUID citizenId, LocalDate monthDate) {
+    }
+}
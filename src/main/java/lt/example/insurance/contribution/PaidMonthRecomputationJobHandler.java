@@ -0,0 +1,64 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.job.Job;
+import lt.example.insurance.job.JobChunk;
+import lt.example.insurance.job.JobHandler;
+import lt.example.insurance.job.JobType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds citizen_paid_months from the contributions table, {@link #CHUNK_SIZE} citizens at a time in
+ * citizen id order; the checkpoint is the last citizen id rebuilt.
+ */
+@Component
+class PaidMonthRecomputationJobHandler implements JobHandler {
+
+    static final int CHUNK_SIZE = 1_000;
+
+    private static final String NEXT_CITIZENS = """
+            select id
+            from citizens
+            where id > ?
+            order by id
+            limit ?
+            """;
+
+    private static final String FIRST_CITIZENS = """
+            select id
+            from citizens
+            order by id
+            limit ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PaidMonthIndex paidMonthIndex;
+
+    PaidMonthRecomputationJobHandler(JdbcTemplate jdbcTemplate, PaidMonthIndex paidMonthIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.paidMonthIndex = paidMonthIndex;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.PAID_MONTH_RECOMPUTATION;
+    }
+
+    @Override
+    public JobChunk processChunk(Job job) {
+        List<UUID> citizenIds = job.checkpoint() == null
+                ? jdbcTemplate.queryForList(FIRST_CITIZENS, UUID.class, CHUNK_SIZE)
+                : jdbcTemplate.queryForList(NEXT_CITIZENS, UUID.class, UUID.fromString(job.checkpoint()), CHUNK_SIZE);
+        if (citizenIds.isEmpty()) {
+            return JobChunk.done(job.checkpoint(), job.processedItems());
+        }
+        paidMonthIndex.rebuild(citizenIds);
+
+        String checkpoint = citizenIds.get(citizenIds.size() - 1).toString();
+        long processed = job.processedItems() + citizenIds.size();
+        return citizenIds.size() < CHUNK_SIZE ? JobChunk.done(checkpoint, processed) : JobChunk.next(checkpoint, processed);
+    }
+}
@@ -0,0 +1,53 @@
+package lt.example.insurance.contribution;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Paid-month bitmap of one citizen for a range of years: bit {@code month - 1} of the mask for a
+ * year is set when at least one paid contribution exists in that month.
+ */
+public final class PaidMonths {
+
+    private static final int ALL_MONTHS = (1 << 12) - 1;
+
+    private final int fromYear;
+    private final int[] masks;
+
+    PaidMonths(int fromYear, int[] masks) {
+        this.fromYear = fromYear;
+        this.masks = masks;
+    }
+
+    static PaidMonths of(int fromYear, int toYear, Map<Integer, Integer> masksByYear) {
+        int[] masks = new int[toYear - fromYear + 1];
+        masksByYear.forEach((year, mask) -> {
+            if (year >= fromYear && year <= toYear) {
+                masks[year - fromYear] = mask;
+            }
+        });
+        return new PaidMonths(fromYear, masks);
+    }
+
+    static int bit(LocalDate monthDate) {
+        return 1 << (monthDate.getMonthValue() - 1);
+    }
+
+    /**
+     * Number of paid months between the months of {@code from} and {@code to}, both inclusive.
+     */
+    public int count(LocalDate from, LocalDate to) {
+        int count = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            int index = year - fromYear;
+            if (index < 0 || index >= masks.length) {
+                continue;
+            }
+            int firstMonth = year == from.getYear() ? from.getMonthValue() : 1;
+            int lastMonth = year == to.getYear() ? to.getMonthValue() : 12;
+            int rangeMask = (ALL_MONTHS >>> (12 - lastMonth)) & ~((1 << (firstMonth - 1)) - 1);
+            count += Integer.bitCount(masks[index] & rangeMask);
+        }
+        return count;
+    }
+}
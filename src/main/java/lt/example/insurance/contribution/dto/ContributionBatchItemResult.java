@@ -0,0 +1,43 @@
+package lt.example.insurance.contribution.dto;
+
+import java.util.UUID;
+
+public class ContributionBatchItemResult {
+
+    private int index;
+    private ContributionBatchItemStatus status;
+    private UUID contributionId;
+    private String message;
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public ContributionBatchItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ContributionBatchItemStatus status) {
+        this.status = status;
+    }
+
+    public UUID getContributionId() {
+        return contributionId;
+    }
+
+    public void setContributionId(UUID contributionId) {
+        this.contributionId = contributionId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,8 @@
+package lt.example.insurance.contribution.dto;
+
+public enum ContributionBatchItemStatus {
+    CREATED,
+    CITIZEN_NOT_FOUND,
+    EMPLOYER_NOT_FOUND,
+    DUPLICATE
+}
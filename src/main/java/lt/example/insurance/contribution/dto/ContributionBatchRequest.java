@@ -0,0 +1,24 @@
+package lt.example.insurance.contribution.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class ContributionBatchRequest {
+
+    public static final int MAX_ITEMS = 10_000;
+
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    private List<@Valid ContributionCreateRequest> items;
+
+    public List<ContributionCreateRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ContributionCreateRequest> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,43 @@
+package lt.example.insurance.contribution.dto;
+
+import java.util.List;
+
+public class ContributionBatchResponse {
+
+    private int received;
+    private int created;
+    private int rejected;
+    private List<ContributionBatchItemResult> results;
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<ContributionBatchItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ContributionBatchItemResult> results) {
+        this.results = results;
+    }
+}
@@ -1,5 +1,6 @@
 package lt.example.insurance.contribution.dto;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -21,8 +22,10 @@ public class ContributionCreateRequest {
     @NotNull
     private LocalDate monthDate;
 
+    // NUMERIC(12, 2); more decimals would not convert to minor units exactly
     @NotNull
     @Positive
+    @Digits(integer = 10, fraction = 2)
     private BigDecimal amount;
 
     @NotBlank
@@ -0,0 +1,43 @@
+package lt.example.insurance.contribution.dto;
+
+import java.util.List;
+
+public class ContributionCursorPage {
+
+    private List<ContributionResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public List<ContributionResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<ContributionResponse> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,48 @@
+package lt.example.insurance.contribution.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Selects the contributions removed by a deletion job; all given criteria must match and at least
+ * one is required. {@code from} and {@code to} are inclusive months.
+ */
+public class ContributionDeletionRequest {
+
+    private UUID citizenId;
+    private UUID employerId;
+    private LocalDate from;
+    private LocalDate to;
+
+    public UUID getCitizenId() {
+        return citizenId;
+    }
+
+    public void setCitizenId(UUID citizenId) {
+        this.citizenId = citizenId;
+    }
+
+    public UUID getEmployerId() {
+        return employerId;
+    }
+
+    public void setEmployerId(UUID employerId) {
+        this.employerId = employerId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+}
@@ -0,0 +1,23 @@
+package lt.example.insurance.contribution.dto;
+
+public class ContributionEventHead {
+
+    private long oldestSequence;
+    private long latestSequence;
+
+    public long getOldestSequence() {
+        return oldestSequence;
+    }
+
+    public void setOldestSequence(long oldestSequence) {
+        this.oldestSequence = oldestSequence;
+    }
+
+    public long getLatestSequence() {
+        return latestSequence;
+    }
+
+    public void setLatestSequence(long latestSequence) {
+        this.latestSequence = latestSequence;
+    }
+}
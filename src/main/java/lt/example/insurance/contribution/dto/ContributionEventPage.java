@@ -0,0 +1,34 @@
+package lt.example.insurance.contribution.dto;
+
+import java.util.List;
+
+public class ContributionEventPage {
+
+    private List<ContributionEventResponse> events;
+    private long lastSequence;
+    private boolean hasMore;
+
+    public List<ContributionEventResponse> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<ContributionEventResponse> events) {
+        this.events = events;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
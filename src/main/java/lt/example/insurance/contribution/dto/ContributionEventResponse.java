@@ -0,0 +1,100 @@
+package lt.example.insurance.contribution.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class ContributionEventResponse {
+
+    private long sequence;
+    private ContributionEventType type;
+    private UUID contributionId;
+    private UUID citizenId;
+    private UUID employerId;
+    private LocalDate monthDate;
+    private BigDecimal amount;
+    private String currency;
+    private Instant paidAt;
+    private Instant occurredAt;
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public ContributionEventType getType() {
+        return type;
+    }
+
+    public void setType(ContributionEventType type) {
+        this.type = type;
+    }
+
+    public UUID getContributionId() {
+        return contributionId;
+    }
+
+    public void setContributionId(UUID contributionId) {
+        this.contributionId = contributionId;
+    }
+
+    public UUID getCitizenId() {
+        return citizenId;
+    }
+
+    public void setCitizenId(UUID citizenId) {
+        this.citizenId = citizenId;
+    }
+
+    public UUID getEmployerId() {
+        return employerId;
+    }
+
+    public void setEmployerId(UUID employerId) {
+        this.employerId = employerId;
+    }
+
+    public LocalDate getMonthDate() {
+        return monthDate;
+    }
+
+    public void setMonthDate(LocalDate monthDate) {
+        this.monthDate = monthDate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public Instant getPaidAt() {
+        return paidAt;
+    }
+
+    public void setPaidAt(Instant paidAt) {
+        this.paidAt = paidAt;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,6 @@
+package lt.example.insurance.contribution.dto;
+
+public enum ContributionEventType {
+    CREATED,
+    DELETED
+}
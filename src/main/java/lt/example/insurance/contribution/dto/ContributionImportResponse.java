@@ -0,0 +1,80 @@
+package lt.example.insurance.contribution.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class ContributionImportResponse {
+
+    private UUID id;
+    private ContributionImportStatus status;
+    private long receivedRows;
+    private long createdRows;
+    private long rejectedRows;
+    private String failureMessage;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public ContributionImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ContributionImportStatus status) {
+        this.status = status;
+    }
+
+    public long getReceivedRows() {
+        return receivedRows;
+    }
+
+    public void setReceivedRows(long receivedRows) {
+        this.receivedRows = receivedRows;
+    }
+
+    public long getCreatedRows() {
+        return createdRows;
+    }
+
+    public void setCreatedRows(long createdRows) {
+        this.createdRows = createdRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void setRejectedRows(long rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public void setFailureMessage(String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
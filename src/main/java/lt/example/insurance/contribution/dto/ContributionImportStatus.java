@@ -0,0 +1,7 @@
+package lt.example.insurance.contribution.dto;
+
+public enum ContributionImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
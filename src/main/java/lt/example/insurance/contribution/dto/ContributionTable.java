@@ -0,0 +1,126 @@
+package lt.example.insurance.contribution.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Contributions with their citizen and employer summaries dictionary-encoded: every party is listed
+ * once, and rows refer to it by its position in {@code citizens} or {@code employers}.
+ */
+public class ContributionTable {
+
+    private List<ContributionResponse.CitizenSummary> citizens;
+    private List<ContributionResponse.EmployerSummary> employers;
+    private List<Row> rows;
+
+    public List<ContributionResponse.CitizenSummary> getCitizens() {
+        return citizens;
+    }
+
+    public void setCitizens(List<ContributionResponse.CitizenSummary> citizens) {
+        this.citizens = citizens;
+    }
+
+    public List<ContributionResponse.EmployerSummary> getEmployers() {
+        return employers;
+    }
+
+    public void setEmployers(List<ContributionResponse.EmployerSummary> employers) {
+        this.employers = employers;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<Row> rows) {
+        this.rows = rows;
+    }
+
+    public static class Row {
+        private UUID id;
+        private int citizen;
+        private int employer;
+        private LocalDate monthDate;
+        private BigDecimal amount;
+        private String currency;
+        private Instant paidAt;
+        private Instant createdAt;
+        private Instant updatedAt;
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        public int getCitizen() {
+            return citizen;
+        }
+
+        public void setCitizen(int citizen) {
+            this.citizen = citizen;
+        }
+
+        public int getEmployer() {
+            return employer;
+        }
+
+        public void setEmployer(int employer) {
+            this.employer = employer;
+        }
+
+        public LocalDate getMonthDate() {
+            return monthDate;
+        }
+
+        public void setMonthDate(LocalDate monthDate) {
+            this.monthDate = monthDate;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public void setCurrency(String currency) {
+            this.currency = currency;
+        }
+
+        public Instant getPaidAt() {
+            return paidAt;
+        }
+
+        public void setPaidAt(Instant paidAt) {
+            this.paidAt = paidAt;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(Instant createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public Instant getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(Instant updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+    }
+}
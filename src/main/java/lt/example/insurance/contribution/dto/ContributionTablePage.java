@@ -0,0 +1,53 @@
+package lt.example.insurance.contribution.dto;
+
+/**
+ * One page of contributions in the dictionary-encoded {@link ContributionTable} layout.
+ */
+public class ContributionTablePage {
+
+    private ContributionTable contributions;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public ContributionTable getContributions() {
+        return contributions;
+    }
+
+    public void setContributions(ContributionTable contributions) {
+        this.contributions = contributions;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+}
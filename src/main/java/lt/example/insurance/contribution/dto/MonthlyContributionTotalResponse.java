@@ -0,0 +1,62 @@
+package lt.example.insurance.contribution.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class MonthlyContributionTotalResponse {
+
+    private LocalDate month;
+    private String currency;
+    private long contributions;
+    private long paidContributions;
+    private BigDecimal totalAmount;
+    private BigDecimal paidAmount;
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public long getContributions() {
+        return contributions;
+    }
+
+    public void setContributions(long contributions) {
+        this.contributions = contributions;
+    }
+
+    public long getPaidContributions() {
+        return paidContributions;
+    }
+
+    public void setPaidContributions(long paidContributions) {
+        this.paidContributions = paidContributions;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public BigDecimal getPaidAmount() {
+        return paidAmount;
+    }
+
+    public void setPaidAmount(BigDecimal paidAmount) {
+        this.paidAmount = paidAmount;
+    }
+}
@@ -5,6 +5,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.example.insurance.common.api.ConditionalRequests;
+import lt.example.insurance.common.search.NameSearch;
+import lt.example.insurance.common.search.SearchPage;
 import lt.example.insurance.employer.dto.EmployerCreateRequest;
 import lt.example.insurance.employer.dto.EmployerResponse;
 import lt.example.insurance.employer.dto.EmployerUpdateRequest;
@@ -20,8 +23,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -48,22 +51,32 @@ public class EmployerController {
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get employer by ID")
+    @Operation(summary = "Get employer by ID",
+            description = "Carries an ETag and Last-Modified; If-None-Match or If-Modified-Since is answered "
+                    + "with 304 without loading the employer.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Employer found"),
+            @ApiResponse(responseCode = "304", description = "Employer unchanged"),
             @ApiResponse(responseCode = "404", description = "Employer not found")
     })
-    public EmployerResponse getById(@PathVariable UUID id) {
-        return employerService.getById(id);
+    public ResponseEntity<EmployerResponse> getById(@PathVariable UUID id, WebRequest request) {
+        return ConditionalRequests.ifModified(request, employerService.getVersion(id),
+                () -> employerService.getById(id));
     }
 
     @GetMapping
-    @Operation(summary = "Search employers by name")
+    @Operation(summary = "Search employers by name",
+            description = "Substring and similar-spelling matches, best match first. Without name, "
+                    + "employers are listed in ID order. At most " + NameSearch.MAX_PAGE_SIZE + " per page.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Search completed")
+            @ApiResponse(responseCode = "200", description = "Search completed"),
+            @ApiResponse(responseCode = "400", description = "Invalid page or page size")
     })
-    public List<EmployerResponse> search(@RequestParam(name = "name", required = false) String name) {
-        return employerService.search(name);
+    public SearchPage<EmployerResponse> search(
+            @RequestParam(name = "name", required = false) String name,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return employerService.search(name, page, size);
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,28 @@
+package lt.example.insurance.employer;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cached employer lookups for hot paths that only need existence and identity data.
+ * Entries are evicted by {@link EmployerService} on update and delete; misses are not cached.
+ */
+@Component
+public class EmployerDirectory {
+
+    public static final String CACHE_NAME = "employers";
+
+    private final EmployerRepository employerRepository;
+
+    public EmployerDirectory(EmployerRepository employerRepository) {
+        this.employerRepository = employerRepository;
+    }
+
+    @Cacheable(cacheNames = CACHE_NAME, unless = "#result == null")
+    public Optional<EmployerSnapshot> find(UUID id) {
+        return employerRepository.findById(id).map(EmployerSnapshot::of);
+    }
+}
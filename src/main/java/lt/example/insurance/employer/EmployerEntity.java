@@ -6,6 +6,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import lt.example.insurance.common.id.UuidV7;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -38,7 +39,7 @@ public class EmployerEntity {
     void prePersist() {
         Instant now = Instant.now();
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UuidV7.generate();
         }
         if (createdAt == null) {
             createdAt = now;
@@ -1,14 +1,35 @@
 package lt.example.insurance.employer;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface EmployerRepository extends JpaRepository<EmployerEntity, UUID> {
 
     boolean existsByCompanyCode(String companyCode);
 
-    List<EmployerEntity> findByNameContainingIgnoreCase(String name);
+    Slice<EmployerEntity> findAllBy(Pageable pageable);
+
+    @Query("select e.updatedAt from EmployerEntity e where e.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Substring and fuzzy (trigram similarity) matches on name, best matches first. Both
+     * predicates are served by the gin_trgm_ops index.
+     */
+    @Query(value = """
+            select e.*
+            from employers e
+            where e.name ilike :pattern escape '\\'
+               or e.name % :term
+            order by similarity(e.name, :term) desc, e.name, e.id
+            """, nativeQuery = true)
+    Slice<EmployerEntity> searchByName(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
 }
 
@@ -1,17 +1,26 @@
 package lt.example.insurance.employer;
 
+import io.micrometer.core.annotation.Timed;
+import lt.example.insurance.common.search.NameSearch;
+import lt.example.insurance.common.search.SearchPage;
+import lt.example.insurance.config.MetricsConfig;
 import lt.example.insurance.employer.dto.EmployerCreateRequest;
 import lt.example.insurance.employer.dto.EmployerResponse;
 import lt.example.insurance.employer.dto.EmployerUpdateRequest;
 import lt.example.insurance.common.exception.ConflictException;
 import lt.example.insurance.common.exception.NotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
 import java.util.UUID;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class EmployerService {
 
     private final EmployerRepository employerRepository;
@@ -34,6 +43,15 @@ public class EmployerService {
         return toResponse(saved);
     }
 
+    /**
+     * Last update of the employer, for conditional GETs; a primary-key lookup of one column.
+     */
+    @Transactional(readOnly = true)
+    public Instant getVersion(UUID id) {
+        return employerRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new NotFoundException("Employer not found with id: " + id));
+    }
+
     @Transactional(readOnly = true)
     public EmployerResponse getById(UUID id) {
         EmployerEntity entity = employerRepository.findById(id)
@@ -41,18 +59,24 @@ public class EmployerService {
         return toResponse(entity);
     }
 
+    /**
+     * Ranked name search; a blank filter pages through all employers in ID order.
+     */
     @Transactional(readOnly = true)
-    public List<EmployerResponse> search(String name) {
-        List<EmployerEntity> entities;
+    public SearchPage<EmployerResponse> search(String name, int page, int size) {
+        PageRequest pageable = NameSearch.pageable(page, size);
+        Slice<EmployerEntity> entities;
         if (name == null || name.isBlank()) {
-            entities = employerRepository.findAll();
+            entities = employerRepository.findAllBy(pageable.withSort(Sort.by("id")));
         } else {
-            entities = employerRepository.findByNameContainingIgnoreCase(name);
+            String term = name.trim();
+            entities = employerRepository.searchByName(term, NameSearch.containsPattern(term), pageable);
         }
-        return entities.stream().map(this::toResponse).toList();
+        return SearchPage.of(entities.map(this::toResponse));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = EmployerDirectory.CACHE_NAME, key = "#id")
     public EmployerResponse update(UUID id, EmployerUpdateRequest request) {
         EmployerEntity entity = employerRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Employer not found with id: " + id));
@@ -64,6 +88,7 @@ public class EmployerService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = EmployerDirectory.CACHE_NAME, key = "#id")
     public void delete(UUID id) {
         EmployerEntity entity = employerRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Employer not found with id: " + id));
@@ -0,0 +1,13 @@
+package lt.example.insurance.employer;
+
+import java.util.UUID;
+
+/**
+ * Immutable identity data of an employer, safe to keep in the in-process cache.
+ */
+public record EmployerSnapshot(UUID id, String companyCode, String name) {
+
+    static EmployerSnapshot of(EmployerEntity entity) {
+        return new EmployerSnapshot(entity.getId(), entity.getCompanyCode(), entity.getName());
+    }
+}
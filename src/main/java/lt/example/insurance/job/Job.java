@@ -0,0 +1,16 @@
+package lt.example.insurance.job;
+
+import java.util.UUID;
+
+/**
+ * A claimed job as seen by its {@link JobHandler}. {@code checkpoint} is whatever the handler returned
+ * with its last committed chunk, or {@code null} before the first one.
+ */
+public record Job(UUID id,
+                  JobType type,
+                  String payload,
+                  String checkpoint,
+                  long processedItems,
+                  Long totalItems,
+                  int attempts) {
+}
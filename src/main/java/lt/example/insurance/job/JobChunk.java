@@ -0,0 +1,19 @@
+package lt.example.insurance.job;
+
+/**
+ * Outcome of one {@link JobHandler#processChunk} call, committed together with the chunk's work.
+ *
+ * @param checkpoint     where the next chunk resumes
+ * @param processedItems total items processed so far, including this chunk
+ * @param done           whether the job has no work left
+ */
+public record JobChunk(String checkpoint, long processedItems, boolean done) {
+
+    public static JobChunk next(String checkpoint, long processedItems) {
+        return new JobChunk(checkpoint, processedItems, false);
+    }
+
+    public static JobChunk done(String checkpoint, long processedItems) {
+        return new JobChunk(checkpoint, processedItems, true);
+    }
+}
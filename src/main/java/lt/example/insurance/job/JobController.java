@@ -0,0 +1,49 @@
+package lt.example.insurance.job;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lt.example.insurance.job.dto.JobResponse;
+import lt.example.insurance.job.dto.JobStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/jobs")
+@Tag(name = "Jobs", description = "Status and progress of background jobs")
+public class JobController {
+
+    private final JobService jobService;
+
+    public JobController(JobService jobService) {
+        this.jobService = jobService;
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get the status and progress of a job")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Job found"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public JobResponse get(@PathVariable UUID id) {
+        return jobService.get(id);
+    }
+
+    @GetMapping
+    @Operation(summary = "List recently submitted jobs, newest first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Jobs returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    public List<JobResponse> list(@RequestParam(required = false) JobStatus status,
+                                  @RequestParam(defaultValue = "20") int limit) {
+        return jobService.findRecent(status, limit);
+    }
+}
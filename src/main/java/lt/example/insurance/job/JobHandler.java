@@ -0,0 +1,26 @@
+package lt.example.insurance.job;
+
+/**
+ * Executes jobs of one {@link JobType} chunk by chunk. Each call runs in its own transaction together
+ * with the checkpoint update, so a chunk is either committed with its checkpoint or not at all and a
+ * job interrupted by a restart resumes after its last committed chunk. Chunks must therefore be
+ * bounded in size and derive their position from {@link Job#checkpoint()} alone.
+ */
+public interface JobHandler {
+
+    JobType type();
+
+    JobChunk processChunk(Job job);
+
+    /**
+     * Runs in the transaction of the last chunk.
+     */
+    default void onCompleted(Job job) {
+    }
+
+    /**
+     * Runs in its own transaction once the job has been given up; committed chunks stay in place.
+     */
+    default void onFailed(Job job, String message) {
+    }
+}
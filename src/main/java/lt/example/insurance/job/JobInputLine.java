@@ -0,0 +1,4 @@
+package lt.example.insurance.job;
+
+public record JobInputLine(long lineNumber, String line) {
+}
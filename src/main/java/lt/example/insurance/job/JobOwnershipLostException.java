@@ -0,0 +1,12 @@
+package lt.example.insurance.job;
+
+/**
+ * Thrown when a worker no longer holds the job it is running, e.g. because its heartbeat went stale
+ * and another instance claimed the job.
+ */
+class JobOwnershipLostException extends RuntimeException {
+
+    JobOwnershipLostException(String message) {
+        super(message);
+    }
+}
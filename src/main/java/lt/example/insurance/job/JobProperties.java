@@ -0,0 +1,22 @@
+package lt.example.insurance.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the background job worker ({@code jobs.*}).
+ *
+ * @param workers      maximum number of jobs this instance runs at the same time
+ * @param pollInterval delay between polls for queued jobs (ISO-8601, as it also drives {@code @Scheduled})
+ * @param staleAfter   a running job whose heartbeat is older than this is considered abandoned by
+ *                     a crashed instance and may be claimed again; must exceed the longest chunk
+ * @param maxAttempts  number of claims after which a failing job is marked failed instead of requeued
+ */
+@ConfigurationProperties(prefix = "jobs")
+public record JobProperties(@DefaultValue("2") int workers,
+                            @DefaultValue("PT1S") Duration pollInterval,
+                            @DefaultValue("5m") Duration staleAfter,
+                            @DefaultValue("3") int maxAttempts) {
+}
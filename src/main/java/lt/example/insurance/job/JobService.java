@@ -0,0 +1,227 @@
+package lt.example.insurance.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.example.insurance.common.id.UuidV7;
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.common.exception.NotFoundException;
+import lt.example.insurance.job.dto.JobResponse;
+import lt.example.insurance.job.dto.JobStatus;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Submits background jobs and reports their progress. Submission joins the caller's transaction, so a
+ * job only becomes visible to workers once everything it depends on has been committed with it.
+ */
+@Service
+public class JobService {
+
+    public static final int MAX_LIST_SIZE = 100;
+
+    private static final int COPY_BUFFER_CHARS = 256 * 1024;
+
+    private static final String INSERT_JOB = """
+            insert into jobs (id, type, status, payload, total_items, created_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_TOTAL = "update jobs set total_items = ? where id = ?";
+
+    private static final String COPY_INPUT = """
+            copy job_input_lines (job_id, line_number, line)
+            from stdin with (format csv)
+            """;
+
+    private static final String SELECT_INPUT = """
+            select line_number, line
+            from job_input_lines
+            where job_id = ?
+              and line_number > ?
+            order by line_number
+            limit ?
+            """;
+
+    private static final String SELECT_JOB = """
+            select id, type, status, processed_items, total_items, attempts, error_message,
+                   created_at, started_at, finished_at
+            from jobs
+            """;
+
+    private static final RowMapper<JobResponse> RESPONSE_MAPPER = (resultSet, rowNum) -> {
+        JobResponse response = new JobResponse();
+        response.setId(resultSet.getObject("id", UUID.class));
+        response.setType(JobType.valueOf(resultSet.getString("type")));
+        response.setStatus(JobStatus.valueOf(resultSet.getString("status")));
+        response.setProcessedItems(resultSet.getLong("processed_items"));
+        response.setTotalItems(resultSet.getObject("total_items", Long.class));
+        response.setProgress(progress(response.getStatus(), response.getProcessedItems(), response.getTotalItems()));
+        response.setAttempts(resultSet.getInt("attempts"));
+        response.setErrorMessage(resultSet.getString("error_message"));
+        response.setCreatedAt(resultSet.getTimestamp("created_at").toInstant());
+        Timestamp startedAt = resultSet.getTimestamp("started_at");
+        response.setStartedAt(startedAt != null ? startedAt.toInstant() : null);
+        Timestamp finishedAt = resultSet.getTimestamp("finished_at");
+        response.setFinishedAt(finishedAt != null ? finishedAt.toInstant() : null);
+        return response;
+    };
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public JobService(DataSource dataSource, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, Clock clock) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * Queues a job; {@code payload} is stored as JSON and read back with {@link #payload}.
+     */
+    @Transactional
+    public UUID submit(JobType type, Object payload, Long totalItems) {
+        UUID jobId = UuidV7.generate();
+        jdbcTemplate.update(INSERT_JOB, jobId, type.name(), JobStatus.QUEUED.name(),
+                payload != null ? writeJson(payload) : null, totalItems, Timestamp.from(clock.instant()));
+        return jobId;
+    }
+
+    @Transactional
+    public void setTotalItems(UUID jobId, long totalItems) {
+        jdbcTemplate.update(UPDATE_TOTAL, totalItems, jobId);
+    }
+
+    /**
+     * Stores the remaining lines of an uploaded file for the job with one COPY, numbering them from
+     * {@code firstLineNumber}. Blank lines are skipped but keep their number. Returns the number of
+     * stored lines.
+     */
+    @Transactional
+    public long attachInput(UUID jobId, BufferedReader input, long firstLineNumber) throws IOException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INPUT);
+            try {
+                long stored = copyLines(copy, jobId, input, firstLineNumber);
+                copy.endCopy();
+                return stored;
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Storing job input failed", ex);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} stored input lines numbered after {@code afterLine}.
+     */
+    @Transactional(readOnly = true)
+    public List<JobInputLine> readInput(UUID jobId, long afterLine, int limit) {
+        return jdbcTemplate.query(SELECT_INPUT,
+                (resultSet, rowNum) -> new JobInputLine(resultSet.getLong("line_number"), resultSet.getString("line")),
+                jobId, afterLine, limit);
+    }
+
+    public <T> T payload(Job job, Class<T> type) {
+        try {
+            return objectMapper.readValue(job.payload(), type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable payload of job " + job.id(), ex);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public JobResponse get(UUID jobId) {
+        List<JobResponse> found = jdbcTemplate.query(SELECT_JOB + "where id = ?", RESPONSE_MAPPER, jobId);
+        if (found.isEmpty()) {
+            throw new NotFoundException("Job not found with id: " + jobId);
+        }
+        return found.get(0);
+    }
+
+    /**
+     * Lists the most recently submitted jobs, optionally only those in the given status.
+     */
+    @Transactional(readOnly = true)
+    public List<JobResponse> findRecent(JobStatus status, int limit) {
+        if (limit < 1 || limit > MAX_LIST_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIST_SIZE);
+        }
+        if (status == null) {
+            return jdbcTemplate.query(SELECT_JOB + "order by created_at desc limit ?", RESPONSE_MAPPER, limit);
+        }
+        return jdbcTemplate.query(SELECT_JOB + "where status = ? order by created_at desc limit ?",
+                RESPONSE_MAPPER, status.name(), limit);
+    }
+
+    private long copyLines(CopyIn copy, UUID jobId, BufferedReader input, long firstLineNumber)
+            throws IOException, SQLException {
+        StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 1024);
+        long lineNumber = firstLineNumber - 1;
+        long stored = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            buffer.append(jobId).append(',').append(lineNumber).append(",\"")
+                    .append(line.replace("\"", "\"\"")).append("\"\n");
+            stored++;
+            if (buffer.length() >= COPY_BUFFER_CHARS) {
+                writeTo(copy, buffer);
+            }
+        }
+        writeTo(copy, buffer);
+        return stored;
+    }
+
+    private static void writeTo(CopyIn copy, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private String writeJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Job payload cannot be serialized", ex);
+        }
+    }
+
+    private static Double progress(JobStatus status, long processedItems, Long totalItems) {
+        if (status == JobStatus.COMPLETED) {
+            return 1.0;
+        }
+        if (totalItems == null) {
+            return null;
+        }
+        // rows added after submission can push processed past the estimate
+        return totalItems == 0 ? 0.0 : Math.min(1.0, (double) processedItems / totalItems);
+    }
+}
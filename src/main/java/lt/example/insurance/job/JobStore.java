@@ -0,0 +1,152 @@
+package lt.example.insurance.job;
+
+import lt.example.insurance.job.dto.JobStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Worker-side state transitions of the jobs table. A job is owned by the worker named in
+ * {@code locked_by}; every transition after the claim checks that ownership, so a worker whose job
+ * was reclaimed after a stale heartbeat cannot overwrite the new owner's progress.
+ */
+@Component
+class JobStore {
+
+    // skip locked: a job whose chunk is being committed right now is never claimed twice
+    private static final String CLAIM_NEXT = """
+            update jobs
+            set status = 'RUNNING',
+                locked_by = ?,
+                heartbeat_at = ?,
+                attempts = attempts + 1,
+                started_at = coalesce(started_at, ?)
+            where id = (select id
+                        from jobs
+                        where status = 'QUEUED'
+                           or (status = 'RUNNING' and heartbeat_at < ?)
+                        order by created_at
+                        limit 1
+                        for update skip locked)
+            returning id, type, payload, checkpoint, processed_items, total_items, attempts
+            """;
+
+    private static final String LOCK_OWNED = """
+            select id, type, payload, checkpoint, processed_items, total_items, attempts
+            from jobs
+            where id = ?
+              and status = 'RUNNING'
+              and locked_by = ?
+            for update
+            """;
+
+    private static final String RECORD_CHUNK = """
+            update jobs
+            set checkpoint = ?, processed_items = ?, heartbeat_at = ?
+            where id = ?
+            """;
+
+    private static final String FINISH = """
+            update jobs
+            set status = ?, error_message = ?, locked_by = null, finished_at = ?
+            where id = ?
+              and locked_by = ?
+            """;
+
+    private static final String REQUEUE = """
+            update jobs
+            set status = 'QUEUED', error_message = ?, locked_by = null, heartbeat_at = null
+            where id = ?
+              and locked_by = ?
+            """;
+
+    // a job handed back on shutdown did not fail, so its claim does not count as an attempt
+    private static final String RELEASE = """
+            update jobs
+            set status = 'QUEUED', attempts = attempts - 1, locked_by = null, heartbeat_at = null
+            where id = ?
+              and locked_by = ?
+            """;
+
+    private static final String DELETE_INPUT = "delete from job_input_lines where job_id = ?";
+
+    private static final RowMapper<Job> JOB_MAPPER = (resultSet, rowNum) -> new Job(
+            resultSet.getObject("id", UUID.class),
+            JobType.valueOf(resultSet.getString("type")),
+            resultSet.getString("payload"),
+            resultSet.getString("checkpoint"),
+            resultSet.getLong("processed_items"),
+            resultSet.getObject("total_items", Long.class),
+            resultSet.getInt("attempts"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    JobStore(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Claims the oldest queued job, or a running one whose owner has not sent a heartbeat for
+     * {@code staleAfter}.
+     */
+    Optional<Job> claimNext(String workerId, Duration staleAfter) {
+        Timestamp now = now();
+        Timestamp staleBefore = Timestamp.from(clock.instant().minus(staleAfter));
+        List<Job> claimed = jdbcTemplate.query(CLAIM_NEXT, JOB_MAPPER, workerId, now, now, staleBefore);
+        return claimed.stream().findFirst();
+    }
+
+    /**
+     * Locks the job row for the current transaction and returns its committed state.
+     */
+    Job lockOwned(UUID jobId, String workerId) {
+        return jdbcTemplate.query(LOCK_OWNED, JOB_MAPPER, jobId, workerId).stream()
+                .findFirst()
+                .orElseThrow(() -> new JobOwnershipLostException("Job " + jobId + " is no longer owned by " + workerId));
+    }
+
+    void recordChunk(UUID jobId, JobChunk chunk) {
+        jdbcTemplate.update(RECORD_CHUNK, chunk.checkpoint(), chunk.processedItems(), now(), jobId);
+    }
+
+    void complete(UUID jobId, String workerId) {
+        finish(jobId, workerId, JobStatus.COMPLETED, null);
+    }
+
+    void fail(UUID jobId, String workerId, String message) {
+        finish(jobId, workerId, JobStatus.FAILED, message);
+    }
+
+    void requeue(UUID jobId, String workerId, String message) {
+        jdbcTemplate.update(REQUEUE, truncate(message), jobId, workerId);
+    }
+
+    void release(UUID jobId, String workerId) {
+        jdbcTemplate.update(RELEASE, jobId, workerId);
+    }
+
+    private void finish(UUID jobId, String workerId, JobStatus status, String message) {
+        if (jdbcTemplate.update(FINISH, status.name(), truncate(message), now(), jobId, workerId) == 0) {
+            throw new JobOwnershipLostException("Job " + jobId + " is no longer owned by " + workerId);
+        }
+        // uploaded input is only needed while the job can still resume
+        jdbcTemplate.update(DELETE_INPUT, jobId);
+    }
+
+    private Timestamp now() {
+        return Timestamp.from(clock.instant());
+    }
+
+    static String truncate(String message) {
+        return message == null || message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
@@ -0,0 +1,7 @@
+package lt.example.insurance.job;
+
+public enum JobType {
+    CONTRIBUTION_IMPORT,
+    CONTRIBUTION_DELETION,
+    PAID_MONTH_RECOMPUTATION
+}
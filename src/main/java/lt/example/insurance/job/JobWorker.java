@@ -0,0 +1,149 @@
+package lt.example.insurance.job;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the jobs table and runs claimed jobs on a fixed pool of {@code jobs.workers} threads; a job is
+ * only claimed when a thread is free for it. Every chunk is committed in its own transaction with the
+ * job's checkpoint and heartbeat. On shutdown the running chunks finish and their jobs are handed
+ * back to the queue; after a crash they are reclaimed once their heartbeat is older than
+ * {@code jobs.stale-after}.
+ */
+@Component
+class JobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(JobWorker.class);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+    private final JobStore jobStore;
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+    private final TransactionTemplate transactionTemplate;
+    private final JobProperties properties;
+    private final String workerId = "worker-" + UUID.randomUUID();
+    private final Semaphore freeWorkers;
+    private final ExecutorService executor;
+    private volatile boolean stopping;
+
+    JobWorker(JobStore jobStore,
+              List<JobHandler> handlers,
+              PlatformTransactionManager transactionManager,
+              JobProperties properties) {
+        this.jobStore = jobStore;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.freeWorkers = new Semaphore(properties.workers());
+        this.executor = Executors.newFixedThreadPool(properties.workers(), new CustomizableThreadFactory("job-worker-"));
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.poll-interval:PT1S}")
+    void poll() {
+        while (!stopping && freeWorkers.tryAcquire()) {
+            Optional<Job> claimed;
+            try {
+                claimed = jobStore.claimNext(workerId, properties.staleAfter());
+            } catch (RuntimeException ex) {
+                freeWorkers.release();
+                log.warn("Polling for jobs failed: {}", ex.getMessage());
+                return;
+            }
+            if (claimed.isEmpty()) {
+                freeWorkers.release();
+                return;
+            }
+            Job job = claimed.get();
+            executor.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    freeWorkers.release();
+                }
+            });
+        }
+    }
+
+    void run(Job claimed) {
+        JobHandler handler = handlers.get(claimed.type());
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("No handler for job type " + claimed.type());
+            }
+            log.info("Running job {} ({}, attempt {})", claimed.id(), claimed.type(), claimed.attempts());
+            boolean done = false;
+            while (!done) {
+                if (stopping) {
+                    jobStore.release(claimed.id(), workerId);
+                    log.info("Job {} handed back to the queue on shutdown", claimed.id());
+                    return;
+                }
+                done = Boolean.TRUE.equals(transactionTemplate.execute(status -> runChunk(handler, claimed.id())));
+            }
+            log.info("Job {} completed", claimed.id());
+        } catch (JobOwnershipLostException ex) {
+            log.warn(ex.getMessage());
+        } catch (RuntimeException ex) {
+            handleFailure(handler, claimed, ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        stopping = true;
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Jobs still running after {}s; they resume once their heartbeat goes stale",
+                    SHUTDOWN_TIMEOUT_SECONDS);
+        }
+    }
+
+    private boolean runChunk(JobHandler handler, UUID jobId) {
+        Job job = jobStore.lockOwned(jobId, workerId);
+        JobChunk chunk = handler.processChunk(job);
+        jobStore.recordChunk(jobId, chunk);
+        if (chunk.done()) {
+            handler.onCompleted(job);
+            jobStore.complete(jobId, workerId);
+        }
+        return chunk.done();
+    }
+
+    private void handleFailure(JobHandler handler, Job claimed, RuntimeException ex) {
+        String message = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getName();
+        try {
+            if (handler != null && claimed.attempts() < properties.maxAttempts()) {
+                log.warn("Job {} failed on attempt {}, requeued: {}", claimed.id(), claimed.attempts(), message);
+                jobStore.requeue(claimed.id(), workerId, message);
+                return;
+            }
+            log.error("Job {} failed", claimed.id(), ex);
+            transactionTemplate.executeWithoutResult(status -> {
+                Job job = jobStore.lockOwned(claimed.id(), workerId);
+                if (handler != null) {
+                    handler.onFailed(job, message);
+                }
+                jobStore.fail(claimed.id(), workerId, message);
+            });
+        } catch (RuntimeException recordFailure) {
+            // the heartbeat goes stale and another attempt picks the job up
+            log.error("Recording the failure of job {} failed", claimed.id(), recordFailure);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package lt.example.insurance.job.dto;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
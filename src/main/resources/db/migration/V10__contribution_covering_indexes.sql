@@ -0,0 +1,13 @@
+-- Flyway V10: Indexes shaped after the contribution access paths.
+
+-- Paid-only reads (paid-month counts, the eligibility history loader, paid-month refresh and rebuild)
+-- filter on citizen, month range and paid_at IS NOT NULL. The partial index skips unpaid rows, and
+-- its INCLUDE columns let the history loader answer from the index alone.
+CREATE INDEX idx_contributions_paid_citizen_month
+    ON contributions (citizen_id, month_date) INCLUDE (employer_id, amount, currency)
+    WHERE paid_at IS NOT NULL;
+
+-- Export and deletion filters combine an employer with a month range; the single-column index
+-- could only narrow by employer.
+CREATE INDEX idx_contributions_employer_month_date_id ON contributions (employer_id, month_date, id);
+DROP INDEX idx_contributions_employer_id;
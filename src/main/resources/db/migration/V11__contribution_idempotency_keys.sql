@@ -0,0 +1,13 @@
+-- Flyway V11: Idempotency-Key store of contribution creation. A key row is inserted in the same
+-- transaction as the contribution it created, holding a SHA-256 hash of the request and the
+-- response as JSON, so a retry is answered from this row alone. Rows expire after
+-- contributions.idempotency.ttl and are purged periodically.
+
+CREATE TABLE contribution_idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash    BYTEA        NOT NULL,
+    response        TEXT,
+    created_at      TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX idx_contribution_idempotency_keys_created_at ON contribution_idempotency_keys (created_at);
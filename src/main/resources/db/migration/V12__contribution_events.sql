@@ -0,0 +1,28 @@
+-- Flyway V12: Transactional outbox of contribution changes, read by the change feed. Writers insert
+-- events in the transaction that changes the contribution. Identity values are handed out in insert
+-- order, not commit order, so they cannot serve as a feed position: a reader could pass an event
+-- whose transaction commits later with a lower id. ContributionEventSequencer therefore numbers
+-- events after the fact, once every transaction that could still add an event ordered before them
+-- has ended (tx_id below the oldest running transaction id). sequence_number is gapless and
+-- increases in (tx_id, event_id) order.
+
+CREATE TABLE contribution_events (
+    event_id        BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    tx_id           XID8           NOT NULL DEFAULT pg_current_xact_id(),
+    sequence_number BIGINT,
+    event_type      VARCHAR(20)    NOT NULL,
+    contribution_id UUID           NOT NULL,
+    citizen_id      UUID           NOT NULL,
+    employer_id     UUID           NOT NULL,
+    month_date      DATE           NOT NULL,
+    amount          NUMERIC(12, 2) NOT NULL,
+    currency        VARCHAR(3)     NOT NULL,
+    paid_at         TIMESTAMP,
+    occurred_at     TIMESTAMP      NOT NULL
+);
+
+CREATE UNIQUE INDEX uq_contribution_events_sequence_number ON contribution_events (sequence_number);
+
+-- only events still waiting for their number
+CREATE INDEX idx_contribution_events_unsequenced ON contribution_events (tx_id, event_id)
+    WHERE sequence_number IS NULL;
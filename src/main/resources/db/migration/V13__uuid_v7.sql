@@ -0,0 +1,17 @@
+-- Flyway V13: uuid_generate_v7() for keys generated in SQL (the CSV import merge), with the layout
+-- of UuidV7 in the application: 48 bits of Unix milliseconds from clock_timestamp() over a random
+-- v4 UUID, with the version nibble turned from 4 into 7. Postgres 16 has no built-in v7 generator.
+-- From here on primary keys are time-ordered v7 UUIDs rather than the random ones V9 still describes;
+-- existing rows keep their v4 ids.
+
+CREATE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+    SELECT encode(
+               set_bit(
+                   set_bit(
+                       overlay(uuid_send(gen_random_uuid())
+                               PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                               FROM 1 FOR 6),
+                       52, 1),
+                   53, 1),
+               'hex')::UUID
+$$ LANGUAGE SQL VOLATILE;
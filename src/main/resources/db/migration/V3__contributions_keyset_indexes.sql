@@ -0,0 +1,8 @@
+-- Flyway V3: Composite indexes backing keyset pagination over (month_date, id)
+
+CREATE INDEX idx_contributions_month_date_id ON contributions (month_date, id);
+CREATE INDEX idx_contributions_citizen_month_date_id ON contributions (citizen_id, month_date, id);
+
+-- Both single-column indexes are now prefixes of the composite ones
+DROP INDEX idx_contributions_month_date;
+DROP INDEX idx_contributions_citizen_id;
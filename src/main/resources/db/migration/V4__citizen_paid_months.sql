@@ -0,0 +1,22 @@
+-- Flyway V4: Per-citizen bitmap of paid contribution months, one row per citizen and year.
+-- Bit (month - 1) of "months" is set when the citizen has at least one paid contribution in that month.
+
+CREATE TABLE citizen_paid_months (
+    citizen_id UUID     NOT NULL,
+    year       SMALLINT NOT NULL,
+    months     INTEGER  NOT NULL,
+
+    CONSTRAINT pk_citizen_paid_months
+        PRIMARY KEY (citizen_id, year),
+
+    CONSTRAINT fk_citizen_paid_months_citizen
+        FOREIGN KEY (citizen_id) REFERENCES citizens (id) ON DELETE CASCADE
+);
+
+INSERT INTO citizen_paid_months (citizen_id, year, months)
+SELECT citizen_id,
+       EXTRACT(YEAR FROM month_date)::SMALLINT,
+       bit_or(1 << (EXTRACT(MONTH FROM month_date)::INTEGER - 1))
+FROM contributions
+WHERE paid_at IS NOT NULL
+GROUP BY citizen_id, EXTRACT(YEAR FROM month_date);
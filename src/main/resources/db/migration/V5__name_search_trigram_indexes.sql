@@ -0,0 +1,7 @@
+-- Flyway V5: Trigram indexes for ranked, case-insensitive name search
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- gin_trgm_ops serves both "ilike '%term%'" and the similarity operator "%"
+CREATE INDEX idx_citizens_last_name_trgm ON citizens USING gin (last_name gin_trgm_ops);
+CREATE INDEX idx_employers_name_trgm ON employers USING gin (name gin_trgm_ops);
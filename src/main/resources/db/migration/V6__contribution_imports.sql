@@ -0,0 +1,26 @@
+-- Flyway V6: CSV payroll imports. One summary row per uploaded file plus the rows it rejected.
+-- Valid rows are bulk-loaded through a per-session temporary staging table created by the application.
+
+CREATE TABLE contribution_imports (
+    id              UUID PRIMARY KEY,
+    status          VARCHAR(20)   NOT NULL,
+    received_rows   BIGINT        NOT NULL DEFAULT 0,
+    created_rows    BIGINT        NOT NULL DEFAULT 0,
+    rejected_rows   BIGINT        NOT NULL DEFAULT 0,
+    failure_message VARCHAR(1000),
+    started_at      TIMESTAMP     NOT NULL,
+    finished_at     TIMESTAMP
+);
+
+CREATE TABLE contribution_import_errors (
+    import_id   UUID          NOT NULL,
+    line_number BIGINT        NOT NULL,
+    reason      VARCHAR(50)   NOT NULL,
+    message     VARCHAR(1000) NOT NULL,
+
+    CONSTRAINT pk_contribution_import_errors
+        PRIMARY KEY (import_id, line_number),
+
+    CONSTRAINT fk_contribution_import_errors_import
+        FOREIGN KEY (import_id) REFERENCES contribution_imports (id) ON DELETE CASCADE
+);
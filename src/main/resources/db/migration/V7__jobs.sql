@@ -0,0 +1,35 @@
+-- Flyway V7: Persistent background jobs. Work is committed chunk by chunk together with the job's
+-- checkpoint, so a job interrupted by a restart resumes after its last committed chunk.
+
+CREATE TABLE jobs (
+    id              UUID PRIMARY KEY,
+    type            VARCHAR(50)   NOT NULL,
+    status          VARCHAR(20)   NOT NULL,
+    payload         TEXT,
+    checkpoint      VARCHAR(255),
+    processed_items BIGINT        NOT NULL DEFAULT 0,
+    total_items     BIGINT,
+    attempts        INTEGER       NOT NULL DEFAULT 0,
+    locked_by       VARCHAR(100),
+    heartbeat_at    TIMESTAMP,
+    error_message   VARCHAR(1000),
+    created_at      TIMESTAMP     NOT NULL,
+    started_at      TIMESTAMP,
+    finished_at     TIMESTAMP
+);
+
+-- Only unfinished jobs are ever polled
+CREATE INDEX idx_jobs_claimable ON jobs (created_at) WHERE status IN ('QUEUED', 'RUNNING');
+
+-- Raw lines of uploaded files, kept until the job that consumes them finishes
+CREATE TABLE job_input_lines (
+    job_id      UUID   NOT NULL,
+    line_number BIGINT NOT NULL,
+    line        TEXT   NOT NULL,
+
+    CONSTRAINT pk_job_input_lines
+        PRIMARY KEY (job_id, line_number),
+
+    CONSTRAINT fk_job_input_lines_job
+        FOREIGN KEY (job_id) REFERENCES jobs (id) ON DELETE CASCADE
+);
@@ -0,0 +1,66 @@
+-- Flyway V8: Incrementally maintained contribution totals for reporting.
+-- Every write to contributions adds a signed delta to one row of each table in the same transaction,
+-- so a report reads one row per period instead of every contribution in it. Months are keyed by
+-- their first day. Rows whose contribution count dropped to zero are kept and filtered out by readers.
+
+CREATE TABLE employer_monthly_contributions (
+    employer_id        UUID           NOT NULL,
+    month_date         DATE           NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    contributions      BIGINT         NOT NULL,
+    paid_contributions BIGINT         NOT NULL,
+    total_amount       NUMERIC(16, 2) NOT NULL,
+    paid_amount        NUMERIC(16, 2) NOT NULL,
+
+    CONSTRAINT pk_employer_monthly_contributions
+        PRIMARY KEY (employer_id, month_date, currency),
+
+    CONSTRAINT fk_employer_monthly_contributions_employer
+        FOREIGN KEY (employer_id) REFERENCES employers (id) ON DELETE CASCADE
+);
+
+CREATE TABLE citizen_yearly_contributions (
+    citizen_id         UUID           NOT NULL,
+    year               SMALLINT       NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    contributions      BIGINT         NOT NULL,
+    paid_contributions BIGINT         NOT NULL,
+    total_amount       NUMERIC(16, 2) NOT NULL,
+    paid_amount        NUMERIC(16, 2) NOT NULL,
+
+    CONSTRAINT pk_citizen_yearly_contributions
+        PRIMARY KEY (citizen_id, year, currency),
+
+    CONSTRAINT fk_citizen_yearly_contributions_citizen
+        FOREIGN KEY (citizen_id) REFERENCES citizens (id) ON DELETE CASCADE
+);
+
+CREATE TABLE currency_monthly_contributions (
+    month_date         DATE           NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    contributions      BIGINT         NOT NULL,
+    paid_contributions BIGINT         NOT NULL,
+    total_amount       NUMERIC(18, 2) NOT NULL,
+    paid_amount        NUMERIC(18, 2) NOT NULL,
+
+    CONSTRAINT pk_currency_monthly_contributions
+        PRIMARY KEY (month_date, currency)
+);
+
+INSERT INTO employer_monthly_contributions
+SELECT employer_id, date_trunc('month', month_date)::DATE, currency,
+       count(*), count(paid_at), sum(amount), coalesce(sum(amount) FILTER (WHERE paid_at IS NOT NULL), 0)
+FROM contributions
+GROUP BY employer_id, date_trunc('month', month_date), currency;
+
+INSERT INTO citizen_yearly_contributions
+SELECT citizen_id, EXTRACT(YEAR FROM month_date)::SMALLINT, currency,
+       count(*), count(paid_at), sum(amount), coalesce(sum(amount) FILTER (WHERE paid_at IS NOT NULL), 0)
+FROM contributions
+GROUP BY citizen_id, EXTRACT(YEAR FROM month_date), currency;
+
+INSERT INTO currency_monthly_contributions
+SELECT date_trunc('month', month_date)::DATE, currency,
+       count(*), count(paid_at), sum(amount), coalesce(sum(amount) FILTER (WHERE paid_at IS NOT NULL), 0)
+FROM contributions
+GROUP BY date_trunc('month', month_date), currency;
@@ -0,0 +1,103 @@
+-- Flyway V9: Range-partition contributions by month_date, one partition per calendar year.
+-- Unique constraints of a partitioned table must contain the partition key, so the primary key
+-- becomes (id, month_date); ids stay random UUIDs and the application still addresses rows by id.
+-- uq_contributions_citizen_employer_month already contains month_date and keeps its name, which the
+-- payroll import references in ON CONFLICT. Rows outside every yearly partition land in
+-- contributions_default until ensure_contribution_partitions creates their year.
+
+ALTER TABLE contributions RENAME TO contributions_unpartitioned;
+ALTER TABLE contributions_unpartitioned DROP CONSTRAINT contributions_pkey;
+ALTER TABLE contributions_unpartitioned DROP CONSTRAINT uq_contributions_citizen_employer_month;
+DROP INDEX idx_contributions_employer_id;
+DROP INDEX idx_contributions_month_date_id;
+DROP INDEX idx_contributions_citizen_month_date_id;
+
+CREATE TABLE contributions (
+    id          UUID           NOT NULL,
+    citizen_id  UUID           NOT NULL,
+    employer_id UUID           NOT NULL,
+    month_date  DATE           NOT NULL,
+    amount      NUMERIC(12, 2) NOT NULL,
+    currency    VARCHAR(3)     NOT NULL,
+    paid_at     TIMESTAMP,
+    created_at  TIMESTAMP      NOT NULL,
+    updated_at  TIMESTAMP      NOT NULL,
+
+    CONSTRAINT contributions_pkey
+        PRIMARY KEY (id, month_date),
+
+    CONSTRAINT fk_contributions_citizen
+        FOREIGN KEY (citizen_id) REFERENCES citizens (id),
+
+    CONSTRAINT fk_contributions_employer
+        FOREIGN KEY (employer_id) REFERENCES employers (id),
+
+    CONSTRAINT uq_contributions_citizen_employer_month
+        UNIQUE (citizen_id, employer_id, month_date)
+) PARTITION BY RANGE (month_date);
+
+CREATE TABLE contributions_default PARTITION OF contributions DEFAULT;
+
+-- defined on the parent, so every partition gets its own copy
+CREATE INDEX idx_contributions_employer_id ON contributions (employer_id);
+CREATE INDEX idx_contributions_month_date_id ON contributions (month_date, id);
+CREATE INDEX idx_contributions_citizen_month_date_id ON contributions (citizen_id, month_date, id);
+
+-- Creates the partition of one year unless it exists. Rows of that year already in the default
+-- partition are moved into the new table before it is attached, as attaching a range that the
+-- default partition still holds rows for would fail.
+CREATE FUNCTION create_contribution_partition(p_year INTEGER) RETURNS BOOLEAN
+LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition_name TEXT := 'contributions_y' || p_year;
+    range_from     DATE := make_date(p_year, 1, 1);
+    range_to       DATE := make_date(p_year + 1, 1, 1);
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE contributions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM contributions_default'
+                       || ' WHERE month_date >= %L AND month_date < %L RETURNING *)'
+                       || ' INSERT INTO %I SELECT * FROM moved', range_from, range_to, partition_name);
+    EXECUTE format('ALTER TABLE contributions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_from, range_to);
+    RETURN TRUE;
+END;
+$$;
+
+-- Creates the missing yearly partitions of [p_from_year, p_to_year]; returns how many were created.
+-- Concurrent callers (several application instances) are serialized by a transaction advisory lock.
+CREATE FUNCTION ensure_contribution_partitions(p_from_year INTEGER, p_to_year INTEGER) RETURNS INTEGER
+LANGUAGE plpgsql AS
+$$
+DECLARE
+    created INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_contribution_partitions'));
+    FOR partition_year IN p_from_year..p_to_year LOOP
+        IF create_contribution_partition(partition_year) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- existing years plus the current and the next two, created empty so the copy lands in place
+SELECT ensure_contribution_partitions(
+               LEAST(COALESCE((SELECT EXTRACT(YEAR FROM min(month_date))::INTEGER FROM contributions_unpartitioned),
+                              EXTRACT(YEAR FROM current_date)::INTEGER),
+                     EXTRACT(YEAR FROM current_date)::INTEGER),
+               GREATEST(COALESCE((SELECT EXTRACT(YEAR FROM max(month_date))::INTEGER FROM contributions_unpartitioned),
+                                 EXTRACT(YEAR FROM current_date)::INTEGER),
+                        EXTRACT(YEAR FROM current_date)::INTEGER + 2));
+
+INSERT INTO contributions (id, citizen_id, employer_id, month_date, amount, currency, paid_at, created_at, updated_at)
+SELECT id, citizen_id, employer_id, month_date, amount, currency, paid_at, created_at, updated_at
+FROM contributions_unpartitioned;
+
+DROP TABLE contributions_unpartitioned;
+
+ANALYZE contributions;
@@ -1,13 +1,27 @@
 package lt.example.insurance;
 
+import lt.example.insurance.benefitclaim.dto.BenefitClaimCreateRequest;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimResponse;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimStatus;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+import lt.example.insurance.benefitclaim.dto.BenefitEligibilityResponse;
 import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.citizen.dto.CitizenEligibilityBatchRequest;
 import lt.example.insurance.citizen.dto.CitizenEligibilityResponse;
 import lt.example.insurance.citizen.dto.CitizenResponse;
+import lt.example.insurance.citizen.dto.CitizenUpdateRequest;
 import lt.example.insurance.common.api.ErrorResponse;
+import lt.example.insurance.contribution.dto.ContributionBatchItemResult;
+import lt.example.insurance.contribution.dto.ContributionBatchItemStatus;
+import lt.example.insurance.contribution.dto.ContributionBatchRequest;
+import lt.example.insurance.contribution.dto.ContributionBatchResponse;
 import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionImportResponse;
+import lt.example.insurance.contribution.dto.ContributionImportStatus;
 import lt.example.insurance.contribution.dto.ContributionResponse;
 import lt.example.insurance.employer.dto.EmployerCreateRequest;
 import lt.example.insurance.employer.dto.EmployerResponse;
+import lt.example.insurance.employer.dto.EmployerUpdateRequest;
 import lt.example.insurance.testsupport.DatabaseCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -16,17 +30,23 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -67,6 +87,63 @@ class ApiIntegrationIT {
         assertThat(getResponse.getBody().getPersonalCode()).isEqualTo(createRequest.getPersonalCode());
     }
 
+    @Test
+    void unchangedCitizenIsAnsweredWithNotModified() {
+        CitizenResponse citizen = createCitizen("98765432110");
+        String url = "/api/v1/citizens/" + citizen.getId();
+
+        ResponseEntity<CitizenResponse> first = restTemplate.getForEntity(url, CitizenResponse.class);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull().doesNotStartWith("W/");
+        assertThat(first.getHeaders().getLastModified()).isPositive();
+
+        ResponseEntity<CitizenResponse> unchanged = getIfNoneMatch(url, etag, CitizenResponse.class);
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getBody()).isNull();
+        assertThat(unchanged.getHeaders().getETag()).isEqualTo(etag);
+
+        CitizenUpdateRequest update = new CitizenUpdateRequest();
+        update.setFirstName("Renamed");
+        update.setLastName(citizen.getLastName());
+        update.setDateOfBirth(citizen.getDateOfBirth());
+        restTemplate.put(url, update);
+
+        ResponseEntity<CitizenResponse> changed = getIfNoneMatch(url, etag, CitizenResponse.class);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(changed.getBody().getFirstName()).isEqualTo("Renamed");
+
+        assertThat(getIfNoneMatch("/api/v1/citizens/" + UUID.randomUUID(), etag, ErrorResponse.class)
+                .getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void contributionEtagChangesWhenItsEmployerIsRenamed() {
+        CitizenResponse citizen = createCitizen("98765432111");
+        EmployerResponse employer = createEmployer("EMPETAG");
+        ContributionCreateRequest request = new ContributionCreateRequest();
+        request.setCitizenId(citizen.getId());
+        request.setEmployerId(employer.getId());
+        request.setMonthDate(LocalDate.of(2025, 1, 1));
+        request.setAmount(BigDecimal.valueOf(100));
+        request.setCurrency("EUR");
+        UUID contributionId = restTemplate.postForEntity("/api/v1/contributions", request, ContributionResponse.class)
+                .getBody().getId();
+        String url = "/api/v1/contributions/" + contributionId;
+
+        String etag = restTemplate.getForEntity(url, ContributionResponse.class).getHeaders().getETag();
+        assertThat(getIfNoneMatch(url, etag, ContributionResponse.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        EmployerUpdateRequest rename = new EmployerUpdateRequest();
+        rename.setName("Renamed employer");
+        restTemplate.put("/api/v1/employers/" + employer.getId(), rename);
+
+        ResponseEntity<ContributionResponse> changed = getIfNoneMatch(url, etag, ContributionResponse.class);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getBody().getEmployer().getName()).isEqualTo("Renamed employer");
+    }
+
     @Test
     void duplicateContributionForSameCitizenEmployerAndMonthReturnsConflict() {
         CitizenResponse citizen = createCitizen("12345678901");
@@ -106,6 +183,40 @@ class ApiIntegrationIT {
         assertThat(error.getMessage()).contains("Contribution already exists");
     }
 
+    @Test
+    void retryWithSameIdempotencyKeyReplaysTheOriginalResponse() {
+        CitizenResponse citizen = createCitizen("12345678902");
+        EmployerResponse employer = createEmployer("EMP998");
+
+        ContributionCreateRequest request = new ContributionCreateRequest();
+        request.setCitizenId(citizen.getId());
+        request.setEmployerId(employer.getId());
+        request.setMonthDate(LocalDate.now().withDayOfMonth(1));
+        request.setAmount(BigDecimal.valueOf(100));
+        request.setCurrency("EUR");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Idempotency-Key", "payroll-batch-7-line-1");
+
+        ResponseEntity<ContributionResponse> first = restTemplate.postForEntity(
+                "/api/v1/contributions", new HttpEntity<>(request, headers), ContributionResponse.class);
+        ResponseEntity<ContributionResponse> retry = restTemplate.postForEntity(
+                "/api/v1/contributions", new HttpEntity<>(request, headers), ContributionResponse.class);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(first.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getBody().getId()).isEqualTo(first.getBody().getId());
+        assertThat(retry.getBody().getCitizen().getPersonalCode()).isEqualTo("12345678902");
+
+        request.setAmount(BigDecimal.valueOf(200));
+        ResponseEntity<ErrorResponse> reused = restTemplate.postForEntity(
+                "/api/v1/contributions", new HttpEntity<>(request, headers), ErrorResponse.class);
+
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(reused.getBody().getMessage()).contains("different request");
+    }
+
     @Test
     void eligibilityReflectsPaidMonthsOnly() {
         CitizenResponse citizen = createCitizen("55555555555");
@@ -151,6 +262,61 @@ class ApiIntegrationIT {
         assertThat(body.getRequiredMonths()).isEqualTo(3);
     }
 
+    @Test
+    void eligibilityMayBeCachedPrivatelyUntilTheWindowMoves() {
+        CitizenResponse citizen = createCitizen("55555555556");
+
+        ResponseEntity<CitizenEligibilityResponse> response = restTemplate.getForEntity(
+                "/api/v1/citizens/" + citizen.getId() + "/eligibility?monthsBack=6&minMonthsPaid=3",
+                CitizenEligibilityResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String cacheControl = response.getHeaders().getCacheControl();
+        assertThat(cacheControl).contains("private");
+        long maxAge = Long.parseLong(cacheControl.replaceAll(".*max-age=(\\d+).*", "$1"));
+        assertThat(maxAge).isBetween(0L, 300L);
+    }
+
+    @Test
+    void batchEligibilityStreamsOneResultPerKnownCitizen() {
+        CitizenResponse paying = createCitizen("20202020202");
+        CitizenResponse idle = createCitizen("30303030303");
+        EmployerResponse employer = createEmployer("EMP004");
+
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i < 2; i++) {
+            ContributionCreateRequest req = new ContributionCreateRequest();
+            req.setCitizenId(paying.getId());
+            req.setEmployerId(employer.getId());
+            req.setMonthDate(currentMonth.minusMonths(i));
+            req.setAmount(BigDecimal.valueOf(100));
+            req.setCurrency("EUR");
+            req.setPaidAt(Instant.now());
+            restTemplate.postForEntity("/api/v1/contributions", req, ContributionResponse.class);
+        }
+
+        CitizenEligibilityBatchRequest request = new CitizenEligibilityBatchRequest();
+        request.setCitizenIds(List.of(paying.getId(), idle.getId(), UUID.randomUUID()));
+        request.setMonthsBack(3);
+        request.setMinMonthsPaid(2);
+
+        ResponseEntity<String> response =
+                restTemplate.postForEntity("/api/v1/citizens/eligibility/batch", request, String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(response.getBody())
+                .contains("\"citizenId\":\"" + paying.getId() + "\",")
+                .contains("\"monthsWithPayments\":2")
+                .contains("\"monthsWithPayments\":0");
+
+        request.setCitizenIds(null);
+        ResponseEntity<String> all =
+                restTemplate.postForEntity("/api/v1/citizens/eligibility/batch", request, String.class);
+        assertThat(all.getBody().split("\n")).hasSize(2);
+    }
+
     @Test
     void eligibilityRequestWithMoreRequiredMonthsThanWindowReturnsBadRequest() {
         CitizenResponse citizen = createCitizen("66666666666");
@@ -213,6 +379,286 @@ class ApiIntegrationIT {
         assertThat((List<?>) filtered.getBody().get("content")).hasSize(5);
     }
 
+    @Test
+    void cursorPaginationWalksAllContributionsInMonthOrder() {
+        CitizenResponse citizen = createCitizen("99999999999");
+        EmployerResponse employer = createEmployer("EMP002");
+
+        LocalDate baseMonth = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i < 5; i++) {
+            ContributionCreateRequest req = new ContributionCreateRequest();
+            req.setCitizenId(citizen.getId());
+            req.setEmployerId(employer.getId());
+            req.setMonthDate(baseMonth.minusMonths(i));
+            req.setAmount(BigDecimal.valueOf(100));
+            req.setCurrency("EUR");
+            restTemplate.postForEntity("/api/v1/contributions", req, ContributionResponse.class);
+        }
+
+        List<String> months = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String url = "/api/v1/contributions/cursor?size=2&citizenId=" + citizen.getId()
+                    + (cursor == null ? "" : "&cursor=" + cursor);
+            ResponseEntity<Map> page = restTemplate.getForEntity(url, Map.class);
+            assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+            for (Object row : (List<?>) page.getBody().get("content")) {
+                months.add((String) ((Map<?, ?>) row).get("monthDate"));
+            }
+            cursor = (String) page.getBody().get("nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(months).hasSize(5).isSorted();
+
+        ResponseEntity<ErrorResponse> invalid = restTemplate.getForEntity(
+                "/api/v1/contributions/cursor?cursor=bogus", ErrorResponse.class);
+        assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void exportStreamsOneNdjsonLinePerContributionInRange() {
+        CitizenResponse citizen = createCitizen("10101010101");
+        EmployerResponse employer = createEmployer("EMP003");
+
+        LocalDate baseMonth = LocalDate.of(2025, 6, 1);
+        for (int i = 0; i < 4; i++) {
+            ContributionCreateRequest req = new ContributionCreateRequest();
+            req.setCitizenId(citizen.getId());
+            req.setEmployerId(employer.getId());
+            req.setMonthDate(baseMonth.plusMonths(i));
+            req.setAmount(BigDecimal.valueOf(100));
+            req.setCurrency("EUR");
+            restTemplate.postForEntity("/api/v1/contributions", req, ContributionResponse.class);
+        }
+
+        ResponseEntity<String> ndjson = restTemplate.getForEntity(
+                "/api/v1/contributions/export?from=2025-07-01&to=2025-09-01&employerId=" + employer.getId(),
+                String.class);
+        assertThat(ndjson.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(ndjson.getHeaders().getContentType()).hasToString("application/x-ndjson");
+        assertThat(ndjson.getBody().split("\n"))
+                .hasSize(3)
+                .allSatisfy(line -> assertThat(line).contains("\"companyCode\":\"EMP003\""));
+
+        ResponseEntity<String> csv = restTemplate.getForEntity(
+                "/api/v1/contributions/export?from=2025-01-01&to=2025-12-01&format=csv&citizenId=" + citizen.getId(),
+                String.class);
+        assertThat(csv.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(csv.getBody().split("\n")).hasSize(5);
+
+        ResponseEntity<ErrorResponse> invalid = restTemplate.getForEntity(
+                "/api/v1/contributions/export?from=2025-12-01&to=2025-01-01", ErrorResponse.class);
+        assertThat(invalid.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void batchCreateReportsPerRowResults() {
+        CitizenResponse citizen = createCitizen("88888888888");
+        EmployerResponse employer = createEmployer("EMP888");
+
+        LocalDate baseMonth = LocalDate.now().withDayOfMonth(1);
+
+        ContributionCreateRequest existing = new ContributionCreateRequest();
+        existing.setCitizenId(citizen.getId());
+        existing.setEmployerId(employer.getId());
+        existing.setMonthDate(baseMonth);
+        existing.setAmount(BigDecimal.valueOf(100));
+        existing.setCurrency("EUR");
+        restTemplate.postForEntity("/api/v1/contributions", existing, ContributionResponse.class);
+
+        ContributionCreateRequest fresh = new ContributionCreateRequest();
+        fresh.setCitizenId(citizen.getId());
+        fresh.setEmployerId(employer.getId());
+        fresh.setMonthDate(baseMonth.minusMonths(1));
+        fresh.setAmount(BigDecimal.valueOf(100));
+        fresh.setCurrency("eur");
+
+        ContributionCreateRequest unknownCitizen = new ContributionCreateRequest();
+        unknownCitizen.setCitizenId(UUID.randomUUID());
+        unknownCitizen.setEmployerId(employer.getId());
+        unknownCitizen.setMonthDate(baseMonth);
+        unknownCitizen.setAmount(BigDecimal.valueOf(100));
+        unknownCitizen.setCurrency("EUR");
+
+        ContributionBatchRequest batch = new ContributionBatchRequest();
+        batch.setItems(List.of(fresh, existing, unknownCitizen));
+
+        ResponseEntity<ContributionBatchResponse> response = restTemplate.postForEntity(
+                "/api/v1/contributions/batch", batch, ContributionBatchResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCreated()).isEqualTo(1);
+        assertThat(response.getBody().getRejected()).isEqualTo(2);
+        assertThat(response.getBody().getResults())
+                .extracting(ContributionBatchItemResult::getStatus)
+                .containsExactly(
+                        ContributionBatchItemStatus.CREATED,
+                        ContributionBatchItemStatus.DUPLICATE,
+                        ContributionBatchItemStatus.CITIZEN_NOT_FOUND);
+
+        UUID createdId = response.getBody().getResults().get(0).getContributionId();
+        ResponseEntity<ContributionResponse> created =
+                restTemplate.getForEntity("/api/v1/contributions/" + createdId, ContributionResponse.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(created.getBody().getCurrency()).isEqualTo("EUR");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void citizenSearchRanksSubstringAndMisspelledMatchesWithBoundedPages() {
+        createCitizenNamed("11111111111", "Petraitis");
+        createCitizenNamed("11111111112", "Petrauskas");
+        createCitizenNamed("11111111113", "Kazlauskas");
+
+        ResponseEntity<Map> substring = restTemplate.getForEntity("/api/v1/citizens?lastName=petr&size=10", Map.class);
+        assertThat(substring.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<Map<String, Object>> substringMatches = (List<Map<String, Object>>) substring.getBody().get("content");
+        assertThat(substringMatches).extracting(row -> row.get("lastName"))
+                .containsExactlyInAnyOrder("Petraitis", "Petrauskas");
+        assertThat(substring.getBody().get("hasNext")).isEqualTo(false);
+
+        ResponseEntity<Map> misspelled = restTemplate.getForEntity("/api/v1/citizens?lastName=Petraitys", Map.class);
+        List<Map<String, Object>> misspelledMatches = (List<Map<String, Object>>) misspelled.getBody().get("content");
+        assertThat(misspelledMatches).isNotEmpty();
+        assertThat(misspelledMatches.get(0).get("lastName")).isEqualTo("Petraitis");
+
+        ResponseEntity<Map> firstPage = restTemplate.getForEntity("/api/v1/citizens?size=2", Map.class);
+        assertThat((List<?>) firstPage.getBody().get("content")).hasSize(2);
+        assertThat(firstPage.getBody().get("hasNext")).isEqualTo(true);
+
+        ResponseEntity<ErrorResponse> tooLarge = restTemplate.getForEntity("/api/v1/citizens?size=101", ErrorResponse.class);
+        assertThat(tooLarge.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void payrollImportLoadsValidRowsAndReportsRejectedLines() {
+        CitizenResponse citizen = createCitizen("12345678920");
+        EmployerResponse employer = createEmployer("EMP920");
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        LocalDate previousMonth = currentMonth.minusMonths(1);
+        String row = "%s,%s,%s,%s,%s,%s\n";
+        String csv = "citizen_id,employer_id,month_date,amount,currency,paid_at\n"
+                + row.formatted(citizen.getId(), employer.getId(), previousMonth, "100.00", "eur", "2026-01-15T00:00:00Z")
+                + row.formatted(citizen.getId(), employer.getId(), currentMonth, "100.00", "EUR", "")
+                + row.formatted(citizen.getId(), employer.getId(), previousMonth, "90.00", "EUR", "")
+                + row.formatted(UUID.randomUUID(), employer.getId(), previousMonth, "100.00", "EUR", "")
+                + row.formatted(citizen.getId(), employer.getId(), currentMonth.minusMonths(2), "100.00", "EURO", "")
+                + row.formatted(citizen.getId(), employer.getId(), currentMonth.minusMonths(3), "-5", "EUR", "");
+
+        ResponseEntity<ContributionImportResponse> imported = importCsv(csv);
+
+        assertThat(imported.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        ContributionImportResponse summary = imported.getBody();
+        assertThat(summary.getStatus()).isEqualTo(ContributionImportStatus.COMPLETED);
+        assertThat(summary.getReceivedRows()).isEqualTo(6);
+        assertThat(summary.getCreatedRows()).isEqualTo(2);
+        assertThat(summary.getRejectedRows()).isEqualTo(4);
+
+        String errors = restTemplate.getForObject(
+                "/api/v1/contributions/imports/" + summary.getId() + "/errors", String.class);
+        assertThat(errors.lines().skip(1).map(line -> line.substring(0, line.indexOf(',', line.indexOf(',') + 1))))
+                .containsExactly("4,DUPLICATE", "5,CITIZEN_NOT_FOUND", "6,INVALID_ROW", "7,INVALID_ROW");
+
+        String eligibilityUrl = String.format(
+                "/api/v1/citizens/%s/eligibility?monthsBack=2&minMonthsPaid=1", citizen.getId());
+        CitizenEligibilityResponse eligibility =
+                restTemplate.getForObject(eligibilityUrl, CitizenEligibilityResponse.class);
+        assertThat(eligibility.getMonthsWithPayments()).isEqualTo(1);
+
+        ContributionImportResponse reimported = importCsv(csv).getBody();
+        assertThat(reimported.getCreatedRows()).isZero();
+        assertThat(reimported.getRejectedRows()).isEqualTo(6);
+    }
+
+    @Test
+    void benefitClaimsAreReviewedAndDecidedByContributionHistory() {
+        CitizenResponse insured = createCitizen("12345678930");
+        CitizenResponse uninsured = createCitizen("12345678931");
+        EmployerResponse employer = createEmployer("EMP930");
+        LocalDate startMonth = LocalDate.now().withDayOfMonth(1);
+
+        // sickness needs three paid months among the twelve before the benefit starts
+        for (int i = 1; i <= 3; i++) {
+            ContributionCreateRequest req = new ContributionCreateRequest();
+            req.setCitizenId(insured.getId());
+            req.setEmployerId(employer.getId());
+            req.setMonthDate(startMonth.minusMonths(i));
+            req.setAmount(BigDecimal.valueOf(100));
+            req.setCurrency("EUR");
+            req.setPaidAt(Instant.now());
+            restTemplate.postForEntity("/api/v1/contributions", req, ContributionResponse.class);
+        }
+
+        BenefitClaimResponse insuredClaim = submitClaim(insured.getId(), startMonth);
+        BenefitClaimResponse uninsuredClaim = submitClaim(uninsured.getId(), startMonth);
+        assertThat(insuredClaim.getStatus()).isEqualTo(BenefitClaimStatus.SUBMITTED);
+        assertThat(insuredClaim.getEligibility().isEligible()).isTrue();
+        assertThat(uninsuredClaim.getEligibility().getPaidMonths()).isZero();
+
+        BenefitEligibilityResponse maternity = restTemplate.getForObject("/api/v1/citizens/" + insured.getId()
+                + "/benefit-eligibility?type=MATERNITY&startDate=" + startMonth, BenefitEligibilityResponse.class);
+        assertThat(maternity.getPaidMonths()).isEqualTo(3);
+        assertThat(maternity.isEligible()).isFalse();
+        assertThat(maternity.getUnmetRequirements()).containsExactly("paid months: 3 of 12 required");
+
+        ResponseEntity<ErrorResponse> premature = restTemplate.postForEntity(
+                "/api/v1/benefit-claims/" + insuredClaim.getId() + "/approve", null, ErrorResponse.class);
+        assertThat(premature.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        for (BenefitClaimResponse claim : List.of(insuredClaim, uninsuredClaim)) {
+            restTemplate.postForEntity("/api/v1/benefit-claims/" + claim.getId() + "/review", null, BenefitClaimResponse.class);
+        }
+        ResponseEntity<Map> queue = restTemplate.getForEntity("/api/v1/benefit-claims?status=UNDER_REVIEW", Map.class);
+        assertThat((List<?>) queue.getBody().get("content")).hasSize(2);
+
+        ResponseEntity<BenefitClaimResponse[]> decided = restTemplate.postForEntity(
+                "/api/v1/benefit-claims/decisions", null, BenefitClaimResponse[].class);
+        assertThat(decided.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(decided.getBody()).extracting(BenefitClaimResponse::getId, BenefitClaimResponse::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(insuredClaim.getId(), BenefitClaimStatus.APPROVED),
+                        tuple(uninsuredClaim.getId(), BenefitClaimStatus.REJECTED));
+
+        BenefitClaimResponse[] citizenClaims = restTemplate.getForObject(
+                "/api/v1/citizens/" + uninsured.getId() + "/benefit-claims", BenefitClaimResponse[].class);
+        assertThat(citizenClaims).singleElement().satisfies(claim -> {
+            assertThat(claim.getStatus()).isEqualTo(BenefitClaimStatus.REJECTED);
+            assertThat(claim.getDecisionReason()).contains("paid months: 0 of 3 required");
+        });
+    }
+
+    private BenefitClaimResponse submitClaim(UUID citizenId, LocalDate startDate) {
+        BenefitClaimCreateRequest request = new BenefitClaimCreateRequest();
+        request.setCitizenId(citizenId);
+        request.setType(BenefitClaimType.SICKNESS);
+        request.setStartDate(startDate);
+        ResponseEntity<BenefitClaimResponse> response =
+                restTemplate.postForEntity("/api/v1/benefit-claims", request, BenefitClaimResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody();
+    }
+
+    private ResponseEntity<ContributionImportResponse> importCsv(String csv) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+        return restTemplate.postForEntity("/api/v1/contributions/imports",
+                new HttpEntity<>(csv, headers), ContributionImportResponse.class);
+    }
+
+    private void createCitizenNamed(String personalCode, String lastName) {
+        CitizenCreateRequest request = new CitizenCreateRequest();
+        request.setPersonalCode(personalCode);
+        request.setFirstName("Test");
+        request.setLastName(lastName);
+        request.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        assertThat(restTemplate.postForEntity("/api/v1/citizens", request, CitizenResponse.class).getStatusCode())
+                .isEqualTo(HttpStatus.CREATED);
+    }
+
     private CitizenResponse createCitizen(String personalCode) {
         CitizenCreateRequest request = new CitizenCreateRequest();
         request.setPersonalCode(personalCode);
@@ -240,5 +686,10 @@ class ApiIntegrationIT {
         assertThat(response.getBody()).isNotNull();
         return response.getBody();
     }
-}
 
+    private <T> ResponseEntity<T> getIfNoneMatch(String url, String etag, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), type);
+    }
+}
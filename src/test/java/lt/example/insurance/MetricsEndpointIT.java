@@ -0,0 +1,51 @@
+package lt.example.insurance;
+
+import lt.example.insurance.testsupport.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@Tag("integration")
+class MetricsEndpointIT {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @BeforeEach
+    void cleanDatabase() {
+        databaseCleaner.clean();
+    }
+
+    @Test
+    void prometheusEndpointExposesServiceTimersErrorCountersAndPoolGauges() {
+        ResponseEntity<String> notFound = restTemplate.getForEntity(
+                "/api/v1/citizens/00000000-0000-0000-0000-000000000001", String.class);
+        assertThat(notFound.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .contains("insurance_service_seconds_bucket{")
+                .contains("method=\"getById\"")
+                .contains("api_exceptions_total{")
+                .contains("exception=\"NotFoundException\"")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_sessions_open_total");
+    }
+}
@@ -0,0 +1,197 @@
+package lt.example.insurance;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lt.example.insurance.citizen.CitizenService;
+import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.contribution.ContributionService;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.employer.EmployerService;
+import lt.example.insurance.employer.dto.EmployerCreateRequest;
+import lt.example.insurance.testsupport.DatabaseCleaner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same high-concurrency read load against the app in platform-thread and virtual-thread
+ * mode and logs throughput and p99 latency for both. Fails if the virtual-thread mode is
+ * materially worse, or if the JDBC driver or the pool pin a carrier thread (JFR
+ * {@code jdk.VirtualThreadPinned}).
+ */
+@Tag("integration")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class ThreadingModeLoadIT {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingModeLoadIT.class);
+
+    private static final int CONCURRENCY = 400;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 10;
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    private static final int CITIZENS = 50;
+
+    @Test
+    void virtualThreadsKeepUpWithPlatformThreadsWithoutPinning() throws Exception {
+        LoadResult platform = runLoad(false);
+        Set<String> pinnedFrames = ConcurrentHashMap.newKeySet();
+        LoadResult virtual;
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedFrames.addAll(driverFrames(event)));
+            recording.startAsync();
+            virtual = runLoad(true);
+        }
+
+        log.info("Platform threads: {}; virtual threads: {}", platform, virtual);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(pinnedFrames).as("carrier pinned inside JDBC driver or pool").isEmpty();
+        assertThat(virtual.throughput()).as("virtual %s vs. platform %s", virtual, platform)
+                .isGreaterThan(platform.throughput() * 0.8);
+        assertThat(virtual.p99Millis()).as("virtual %s vs. platform %s", virtual, platform)
+                .isLessThan(platform.p99Millis() * 1.5);
+    }
+
+    private LoadResult runLoad(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SocialInsuranceContributionsApiApplication.class)
+                .profiles("test")
+                .properties("server.port=0", "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            List<URI> targets = seed(context);
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+            fire(client, targets, WARMUP_REQUESTS_PER_CLIENT);
+            long started = System.nanoTime();
+            long[] latencies = fire(client, targets, REQUESTS_PER_CLIENT);
+            long elapsed = System.nanoTime() - started;
+
+            long failures = Arrays.stream(latencies).filter(latency -> latency < 0).count();
+            long[] sorted = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            double p99Millis = sorted.length == 0 ? Double.NaN
+                    : sorted[(int) Math.ceil(sorted.length * 0.99) - 1] / 1_000_000.0;
+            double throughput = latencies.length / (elapsed / 1_000_000_000.0);
+            return new LoadResult(throughput, p99Millis, failures);
+        }
+    }
+
+    /**
+     * Sends {@code requestsPerClient} requests from each of {@link #CONCURRENCY} clients; returns
+     * per-request latency in nanoseconds, negative for non-200 responses.
+     */
+    private long[] fire(HttpClient client, List<URI> targets, int requestsPerClient) throws Exception {
+        long[] latencies = new long[CONCURRENCY * requestsPerClient];
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CONCURRENCY; c++) {
+                int clientIndex = c;
+                futures.add(clients.submit(() -> {
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        int slot = clientIndex * requestsPerClient + r;
+                        HttpRequest request = HttpRequest.newBuilder(targets.get(slot % targets.size())).GET().build();
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        long latency = System.nanoTime() - start;
+                        latencies[slot] = response.statusCode() == 200 ? latency : -1;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        return latencies;
+    }
+
+    private List<URI> seed(ConfigurableApplicationContext context) {
+        context.getBean(DatabaseCleaner.class).clean();
+        CitizenService citizenService = context.getBean(CitizenService.class);
+        EmployerService employerService = context.getBean(EmployerService.class);
+        ContributionService contributionService = context.getBean(ContributionService.class);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        EmployerCreateRequest employerRequest = new EmployerCreateRequest();
+        employerRequest.setCompanyCode("LOAD");
+        employerRequest.setName("Load test employer");
+        UUID employerId = employerService.create(employerRequest).getId();
+
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        List<URI> targets = new ArrayList<>();
+        for (int i = 0; i < CITIZENS; i++) {
+            CitizenCreateRequest citizenRequest = new CitizenCreateRequest();
+            citizenRequest.setPersonalCode(String.format("L%010d", i));
+            citizenRequest.setFirstName("Load");
+            citizenRequest.setLastName("Citizen" + i);
+            citizenRequest.setDateOfBirth(LocalDate.of(1990, 1, 1));
+            UUID citizenId = citizenService.create(citizenRequest).getId();
+
+            for (int month = 0; month < 12; month++) {
+                ContributionCreateRequest contribution = new ContributionCreateRequest();
+                contribution.setCitizenId(citizenId);
+                contribution.setEmployerId(employerId);
+                contribution.setMonthDate(currentMonth.minusMonths(month));
+                contribution.setAmount(BigDecimal.valueOf(1000));
+                contribution.setCurrency("EUR");
+                contribution.setPaidAt(Instant.now());
+                contributionService.create(contribution);
+            }
+            targets.add(URI.create("http://localhost:" + port + "/api/v1/citizens/" + citizenId
+                    + "/eligibility?monthsBack=12&minMonthsPaid=6"));
+            targets.add(URI.create("http://localhost:" + port + "/api/v1/citizens/" + citizenId
+                    + "/contributions?from=" + currentMonth.minusMonths(11) + "&to=" + currentMonth));
+        }
+        return targets;
+    }
+
+    private static List<String> driverFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return List.of();
+        }
+        return event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .filter(frame -> frame.startsWith("org.postgresql.") || frame.startsWith("com.zaxxer.hikari."))
+                .toList();
+    }
+
+    private record LoadResult(double throughput, double p99Millis, long failures) {
+
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, p99 %.1f ms, %d failures", throughput, p99Millis, failures);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package lt.example.insurance.benefitclaim;
+
+import lt.example.insurance.benefitclaim.dto.BenefitClaimResponse;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimStatus;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+import lt.example.insurance.benefitclaim.dto.BenefitEligibilityResponse;
+import lt.example.insurance.citizen.CitizenDirectory;
+import lt.example.insurance.citizen.CitizenEntity;
+import lt.example.insurance.citizen.CitizenRepository;
+import lt.example.insurance.common.exception.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BenefitClaimServiceTest {
+
+    private final BenefitClaimRepository benefitClaimRepository = mock(BenefitClaimRepository.class);
+    private final CitizenRepository citizenRepository = mock(CitizenRepository.class);
+    private final CitizenDirectory citizenDirectory = mock(CitizenDirectory.class);
+    private final EligibilityRuleEngine eligibilityRuleEngine = mock(EligibilityRuleEngine.class);
+    private final Clock fixedClock = Clock.fixed(Instant.parse("2026-02-15T00:00:00Z"), ZoneOffset.UTC);
+
+    private final BenefitClaimService benefitClaimService = new BenefitClaimService(
+            benefitClaimRepository, citizenRepository, citizenDirectory, eligibilityRuleEngine, fixedClock);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void decideUnderReview_evaluatesTheWholeBatchInOneCall() {
+        BenefitClaimEntity eligible = claim(BenefitClaimType.SICKNESS, LocalDate.of(2026, 3, 10));
+        BenefitClaimEntity ineligible = claim(BenefitClaimType.UNEMPLOYMENT, LocalDate.of(2026, 3, 1));
+        when(benefitClaimRepository.findByStatus(eq(BenefitClaimStatus.UNDER_REVIEW), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(eligible, ineligible)));
+        when(eligibilityRuleEngine.evaluate(anyList())).thenAnswer(invocation -> {
+            List<EligibilityQuery> queries = invocation.getArgument(0);
+            return List.of(result(queries.get(0), List.of()),
+                    result(queries.get(1), List.of("paid months: 4 of 12 required")));
+        });
+
+        List<BenefitClaimResponse> decided = benefitClaimService.decideUnderReview(100);
+
+        ArgumentCaptor<List<EligibilityQuery>> queries = ArgumentCaptor.forClass(List.class);
+        verify(eligibilityRuleEngine, times(1)).evaluate(queries.capture());
+        assertThat(queries.getValue()).containsExactly(
+                new EligibilityQuery(eligible.getCitizen().getId(), BenefitClaimType.SICKNESS, YearMonth.of(2026, 3)),
+                new EligibilityQuery(ineligible.getCitizen().getId(), BenefitClaimType.UNEMPLOYMENT, YearMonth.of(2026, 3)));
+
+        assertThat(decided).extracting(BenefitClaimResponse::getStatus)
+                .containsExactly(BenefitClaimStatus.APPROVED, BenefitClaimStatus.REJECTED);
+        assertThat(ineligible.getDecisionReason()).isEqualTo("Not eligible from 2023-09 to 2026-02: paid months: 4 of 12 required");
+        assertThat(ineligible.getDecidedAt()).isEqualTo(fixedClock.instant());
+    }
+
+    @Test
+    void approve_requiresClaimUnderReview() {
+        BenefitClaimEntity submitted = claim(BenefitClaimType.SICKNESS, LocalDate.of(2026, 3, 1));
+        submitted.setStatus(BenefitClaimStatus.SUBMITTED);
+        when(benefitClaimRepository.findById(submitted.getId())).thenReturn(Optional.of(submitted));
+
+        assertThatThrownBy(() -> benefitClaimService.approve(submitted.getId(), null))
+                .isInstanceOf(ConflictException.class);
+        assertThat(submitted.getStatus()).isEqualTo(BenefitClaimStatus.SUBMITTED);
+    }
+
+    private static BenefitClaimEntity claim(BenefitClaimType type, LocalDate startDate) {
+        CitizenEntity citizen = mock(CitizenEntity.class);
+        when(citizen.getId()).thenReturn(UUID.randomUUID());
+        BenefitClaimEntity entity = new BenefitClaimEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setCitizen(citizen);
+        entity.setType(type);
+        entity.setStatus(BenefitClaimStatus.UNDER_REVIEW);
+        entity.setStartDate(startDate);
+        entity.setSubmittedAt(Instant.parse("2026-02-01T00:00:00Z"));
+        return entity;
+    }
+
+    private static BenefitEligibilityResponse result(EligibilityQuery query, List<String> unmet) {
+        BenefitEligibilityResponse response = new BenefitEligibilityResponse();
+        response.setCitizenId(query.citizenId());
+        response.setType(query.type());
+        response.setWindowFrom(query.benefitStart().minusMonths(30).atDay(1));
+        response.setWindowTo(query.benefitStart().minusMonths(1).atDay(1));
+        response.setPaidMonths(unmet.isEmpty() ? 12 : 4);
+        response.setEligible(unmet.isEmpty());
+        response.setUnmetRequirements(unmet);
+        return response;
+    }
+}
@@ -0,0 +1,83 @@
+package lt.example.insurance.benefitclaim;
+
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+import lt.example.insurance.benefitclaim.dto.BenefitEligibilityResponse;
+import lt.example.insurance.contribution.MonthlyContributionHistory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledEligibilityRuleTest {
+
+    private static final YearMonth BENEFIT_START = YearMonth.of(2026, 1);
+    private static final UUID CITIZEN = UUID.randomUUID();
+    private static final UUID EMPLOYER_A = UUID.randomUUID();
+    private static final UUID EMPLOYER_B = UUID.randomUUID();
+
+    @Test
+    void evaluatesAllCriteriaOverTheWindowOnly() {
+        CompiledEligibilityRule rule = CompiledEligibilityRule.compile(BenefitClaimType.UNEMPLOYMENT,
+                new EligibilityRuleProperties.Rule(6, 4, new BigDecimal("300.00"), 3, 3), "EUR");
+        // window is 2025-07..2025-12; 2025-06 and 2026-01 lie outside it
+        MonthlyContributionHistory history = MonthlyContributionHistory
+                .builder(YearMonth.of(2025, 6), YearMonth.of(2026, 1))
+                .add(EMPLOYER_A, YearMonth.of(2025, 6), 10_000)
+                .add(EMPLOYER_A, YearMonth.of(2025, 7), 10_000)
+                .add(EMPLOYER_A, YearMonth.of(2025, 8), 10_000)
+                .add(EMPLOYER_B, YearMonth.of(2025, 10), 5_000)
+                .add(EMPLOYER_B, YearMonth.of(2025, 11), 5_000)
+                .add(EMPLOYER_A, YearMonth.of(2025, 11), 2_550)
+                .add(EMPLOYER_A, YearMonth.of(2026, 1), 10_000)
+                .build();
+
+        BenefitEligibilityResponse result = rule.evaluate(CITIZEN, history, BENEFIT_START);
+
+        assertThat(result.getWindowFrom()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(result.getWindowTo()).isEqualTo(LocalDate.of(2025, 12, 1));
+        assertThat(result.getPaidMonths()).isEqualTo(4);
+        assertThat(result.getTotalPaidAmount()).isEqualByComparingTo("325.50");
+        assertThat(result.getLongestPaidStreak()).isEqualTo(2);
+        assertThat(result.getMaxMonthsWithOneEmployer()).isEqualTo(3);
+        assertThat(result.isEligible()).isFalse();
+        assertThat(result.getUnmetRequirements())
+                .containsExactly("consecutive paid months: 2 of 3 required");
+    }
+
+    @Test
+    void reportsEveryUnmetRequirementForAnEmptyHistory() {
+        CompiledEligibilityRule rule = CompiledEligibilityRule.compile(BenefitClaimType.MATERNITY,
+                new EligibilityRuleProperties.Rule(12, 6, new BigDecimal("100"), 2, 6), "EUR");
+        MonthlyContributionHistory history = MonthlyContributionHistory
+                .builder(YearMonth.of(2025, 1), YearMonth.of(2025, 12))
+                .build();
+
+        BenefitEligibilityResponse result = rule.evaluate(CITIZEN, history, BENEFIT_START);
+
+        assertThat(result.isEligible()).isFalse();
+        assertThat(result.getUnmetRequirements()).containsExactly(
+                "paid months: 0 of 6 required",
+                "paid amount: 0.00 of 100.00 EUR required",
+                "consecutive paid months: 0 of 2 required",
+                "paid months with one employer: 0 of 6 required");
+    }
+
+    @Test
+    void compileRejectsInconsistentRules() {
+        assertThatThrownBy(() -> CompiledEligibilityRule.compile(BenefitClaimType.SICKNESS,
+                new EligibilityRuleProperties.Rule(0, 0, null, 0, 0), "EUR"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SICKNESS");
+        assertThatThrownBy(() -> CompiledEligibilityRule.compile(BenefitClaimType.SICKNESS,
+                new EligibilityRuleProperties.Rule(12, 13, null, 0, 0), "EUR"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> CompiledEligibilityRule.compile(BenefitClaimType.SICKNESS,
+                new EligibilityRuleProperties.Rule(12, 3, new BigDecimal("1.005"), 0, 0), "EUR"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package lt.example.insurance.common.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestsTest {
+
+    private static final Instant VERSION = Instant.parse("2026-03-01T10:15:30.123456Z");
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/citizens/1");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void unconditionalRequestLoadsTheBodyAndSetsValidators() {
+        ResponseEntity<String> entity = get(VERSION);
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(entity.getBody()).isEqualTo("body");
+        assertThat(entity.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ConditionalRequests.etag(VERSION));
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(VERSION.toEpochMilli() / 1000 * 1000);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void matchingEtagIsAnsweredWithoutLoadingTheBody() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalRequests.etag(VERSION));
+
+        ResponseEntity<String> entity = get(VERSION);
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(entity.getBody()).isNull();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ConditionalRequests.etag(VERSION));
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void updateWithinTheSameSecondChangesTheEtag() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalRequests.etag(VERSION));
+
+        ResponseEntity<String> entity = get(VERSION.plusNanos(1_000));
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void ifModifiedSinceIsComparedInWholeSeconds() {
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, VERSION.toEpochMilli() / 1000 * 1000);
+
+        assertThat(get(VERSION).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void ifModifiedSinceBeforeTheVersionLoadsTheBody() {
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, VERSION.minusSeconds(1).toEpochMilli());
+
+        assertThat(get(VERSION).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void etagIgnoresSubMicrosecondDigits() {
+        assertThat(ConditionalRequests.etag(VERSION.plusNanos(999)))
+                .isEqualTo(ConditionalRequests.etag(VERSION))
+                .startsWith("\"")
+                .endsWith("\"");
+    }
+
+    private ResponseEntity<String> get(Instant version) {
+        return ConditionalRequests.ifModified(new ServletWebRequest(request, response), version, () -> {
+            loads.incrementAndGet();
+            return "body";
+        });
+    }
+}
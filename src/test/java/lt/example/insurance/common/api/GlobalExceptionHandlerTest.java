@@ -0,0 +1,33 @@
+package lt.example.insurance.common.api;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lt.example.insurance.common.exception.ConflictException;
+import lt.example.insurance.common.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(meterRegistry);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/citizens/1");
+
+    @Test
+    void countsNotFoundAndConflictResponsesByExceptionType() {
+        handler.handleNotFound(new NotFoundException("missing"), request);
+        handler.handleNotFound(new NotFoundException("missing"), request);
+        handler.handleConflict(new ConflictException("duplicate"), request);
+
+        assertThat(count("NotFoundException")).isEqualTo(2);
+        assertThat(count("ConflictException")).isEqualTo(1);
+    }
+
+    private double count(String exception) {
+        return meterRegistry.get(GlobalExceptionHandler.EXCEPTIONS_METRIC)
+                .tag("exception", exception)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,147 @@
+package lt.example.insurance.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource first = mock(DataSource.class);
+    private final DataSource second = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstConnection = mock(Connection.class);
+    private final Connection secondConnection = mock(Connection.class);
+    private final ReadReplicaDataSource dataSource;
+    private final ReplicaLagMonitor monitor;
+
+    ReadReplicaDataSourceTest() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", first);
+        replicas.put("replica-2", second);
+        dataSource = new ReadReplicaDataSource(primary, replicas, meterRegistry);
+        monitor = new ReplicaLagMonitor(dataSource, new ReadReplicaProperties(true, Duration.ofSeconds(5),
+                Duration.ofSeconds(2), "select lag", List.of()), meterRegistry);
+    }
+
+    @Test
+    void connectionsWithOtherCredentialsAreNotSupported() {
+        assertThatThrownBy(() -> dataSource.getConnection("reporting", "secret"))
+                .isInstanceOf(SQLFeatureNotSupportedException.class);
+    }
+
+    @Test
+    void readsGoToThePrimaryUntilTheFirstLagCheck() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(meterRegistry.counter("datasource.read_replicas.fallbacks").count()).isEqualTo(1);
+    }
+
+    @Test
+    void readsAlternateBetweenReplicasWithinTheAllowedLag() throws SQLException {
+        replicaLag(firstConnection, 0.5);
+        replicaLag(secondConnection, 4.0);
+        monitor.checkLag();
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection(), dataSource.getConnection()))
+                .containsExactly(firstConnection, secondConnection, firstConnection);
+        assertThat(meterRegistry.get("datasource.read_replicas.lag").tag("replica", "replica-2").gauge().value())
+                .isEqualTo(4.0);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void laggingReplicaIsSkippedUntilItCatchesUp() throws SQLException {
+        replicaLag(firstConnection, 30.0);
+        replicaLag(secondConnection, 0.0);
+        monitor.checkLag();
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection()))
+                .containsOnly(secondConnection);
+
+        replicaLag(firstConnection, 1.0);
+        monitor.checkLag();
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection()))
+                .containsExactlyInAnyOrder(firstConnection, secondConnection);
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhenEveryReplicaLags() throws SQLException {
+        replicaLag(firstConnection, 6.0);
+        replicaLag(secondConnection, 60.0);
+        monitor.checkLag();
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void replicaRefusingConnectionsIsSkipped() throws SQLException {
+        replicaLag(firstConnection, 0.0);
+        replicaLag(secondConnection, 0.0);
+        monitor.checkLag();
+        when(first.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(second.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        monitor.checkLag();
+        assertThat(meterRegistry.get("datasource.read_replicas.lag").tag("replica", "replica-1").gauge().value())
+                .isNaN();
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readOnlyConnectionsOfTheLazyProxyUseReplicas() throws SQLException {
+        replicaLag(firstConnection, 0.0);
+        replicaLag(secondConnection, 0.0);
+        monitor.checkLag();
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.setReadOnlyDataSource(dataSource);
+
+        try (Connection readOnly = proxy.getConnection()) {
+            readOnly.setReadOnly(true);
+            readOnly.createStatement();
+        }
+        try (Connection readWrite = proxy.getConnection()) {
+            readWrite.createStatement();
+        }
+
+        // the lag check and the read-only statement
+        verify(firstConnection, times(2)).createStatement();
+        verify(primaryConnection).createStatement();
+    }
+
+    private static void replicaLag(Connection connection, double lagSeconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("select lag")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+    }
+}
@@ -0,0 +1,138 @@
+package lt.example.insurance.common.datasource;
+
+import lt.example.insurance.benefitclaim.BenefitClaimService;
+import lt.example.insurance.benefitclaim.dto.BenefitClaimType;
+import lt.example.insurance.benefitclaim.dto.BenefitEligibilityResponse;
+import lt.example.insurance.citizen.CitizenService;
+import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.citizen.dto.CitizenResponse;
+import lt.example.insurance.testsupport.DatabaseCleaner;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the primary from the test profile and a second, independent Postgres instance
+ * standing in for the replica ({@code postgres-replica} in docker-compose). Each instance holds a
+ * different citizen, so the rows a read returns show where it ran. The replica's lag is read from a
+ * probe table the test controls.
+ */
+@SpringBootTest(properties = {
+        "datasource.read-replicas.enabled=true",
+        "datasource.read-replicas.replicas[0].url=" + ReadReplicaRoutingIT.REPLICA_URL,
+        "datasource.read-replicas.max-lag=5s",
+        "datasource.read-replicas.lag-check-interval=PT0.1S",
+        "datasource.read-replicas.lag-query=select seconds from replica_lag_probe"
+})
+@ActiveProfiles("test")
+@Tag("integration")
+class ReadReplicaRoutingIT {
+
+    static final String REPLICA_URL = "jdbc:postgresql://localhost:5434/insurance_db";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final JdbcTemplate replica =
+            new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "postgres", "postgres"));
+
+    @Autowired
+    private CitizenService citizenService;
+    @Autowired
+    private BenefitClaimService benefitClaimService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    @BeforeAll
+    static void prepareReplica() {
+        Flyway.configure().dataSource(replica.getDataSource()).load().migrate();
+        replica.execute("create table if not exists replica_lag_probe (seconds double precision not null)");
+    }
+
+    @BeforeEach
+    void seed() {
+        databaseCleaner.clean();
+        replica.execute("truncate table replica_lag_probe");
+        replica.update("insert into replica_lag_probe (seconds) values (0)");
+        replica.execute("truncate table citizens restart identity cascade");
+        replica.update("""
+                insert into citizens (id, personal_code, first_name, last_name, date_of_birth, created_at, updated_at)
+                values (gen_random_uuid(), '39001010031', 'Read', 'Replica', date '1990-01-01', now(), now())
+                """);
+
+        CitizenCreateRequest citizen = new CitizenCreateRequest();
+        citizen.setPersonalCode("39001010032");
+        citizen.setFirstName("Write");
+        citizen.setLastName("Primary");
+        citizen.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        citizenService.create(citizen);
+    }
+
+    @Test
+    void writesGoToThePrimaryAndReadOnlyTransactionsToTheReplica() throws InterruptedException {
+        assertThat(jdbcTemplate.queryForList("select last_name from citizens", String.class))
+                .containsExactly("Primary");
+
+        assertThat(awaitReadsFrom("Replica")).isTrue();
+    }
+
+    @Test
+    void populationEvaluationReadsItsChunksFromTheReplica() throws InterruptedException {
+        assertThat(awaitReadsFrom("Replica")).isTrue();
+        UUID replicaCitizenId = replica.queryForObject("select id from citizens", UUID.class);
+
+        List<BenefitEligibilityResponse> results = new ArrayList<>();
+        benefitClaimService.evaluatePopulation(BenefitClaimType.SICKNESS, LocalDate.of(2026, 3, 1), results::add);
+
+        assertThat(results).extracting(BenefitEligibilityResponse::getCitizenId).containsExactly(replicaCitizenId);
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaLags() throws InterruptedException {
+        assertThat(awaitReadsFrom("Replica")).isTrue();
+
+        replica.update("update replica_lag_probe set seconds = 60");
+        assertThat(awaitReadsFrom("Primary")).isTrue();
+
+        replica.update("update replica_lag_probe set seconds = 1");
+        assertThat(awaitReadsFrom("Replica")).isTrue();
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhenTheLagCannotBeMeasured() throws InterruptedException {
+        assertThat(awaitReadsFrom("Replica")).isTrue();
+
+        replica.execute("truncate table replica_lag_probe");
+        assertThat(awaitReadsFrom("Primary")).isTrue();
+    }
+
+    private boolean awaitReadsFrom(String lastName) throws InterruptedException {
+        Instant deadline = Instant.now().plus(TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            List<String> lastNames = citizenService.search(null, 0, 10).getContent().stream()
+                    .map(CitizenResponse::getLastName)
+                    .toList();
+            if (lastNames.equals(List.of(lastName))) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package lt.example.insurance.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @Test
+    void generate_encodesVersionVariantAndTimestamp() {
+        long now = System.currentTimeMillis();
+
+        UUID uuid = UuidV7.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.epochMillis(uuid)).isBetween(now, System.currentTimeMillis() + 2);
+    }
+
+    @Test
+    void generate_isStrictlyIncreasingWithinAMillisecondAndWhenTheClockStepsBack() {
+        long millis = System.currentTimeMillis();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            ids.add(UuidV7.generate(millis));
+        }
+        ids.add(UuidV7.generate(millis - 1_000));
+
+        // Postgres orders uuid by unsigned bytes; the timestamp keeps the sign bit clear until 6429
+        assertThat(ids).isSortedAccordingTo(UUID::compareTo).doesNotHaveDuplicates();
+        // more ids than the 12-bit counter holds carry over into the next millisecond
+        assertThat(UuidV7.epochMillis(ids.get(ids.size() - 1)) - UuidV7.epochMillis(ids.get(0))).isBetween(1L, 2L);
+    }
+
+    @Test
+    void epochMillis_rejectsOtherVersions() {
+        assertThatThrownBy(() -> UuidV7.epochMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package lt.example.insurance.common.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void of_convertsTwoDecimalAmountsExactly() {
+        assertThat(Money.of(new BigDecimal("1234.56"), "EUR").minorUnits()).isEqualTo(123456);
+        assertThat(Money.of(new BigDecimal("100"), "EUR").minorUnits()).isEqualTo(10000);
+        assertThat(Money.of(new BigDecimal("0.1"), "EUR").minorUnits()).isEqualTo(10);
+        assertThat(Money.of(new BigDecimal("9999999999.99"), "EUR").toBigDecimal())
+                .isEqualTo(new BigDecimal("9999999999.99"));
+    }
+
+    @Test
+    void of_rejectsAmountsThatWouldNeedRounding() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1.005"), "EUR"))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.toMinorUnits(new BigDecimal("1e18")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void arithmetic_requiresOneCurrencyAndThrowsOnOverflow() {
+        Money eur = new Money(150, "EUR");
+
+        assertThat(eur.plus(new Money(50, "EUR"))).isEqualTo(new Money(200, "EUR"));
+        assertThat(eur.minus(new Money(200, "EUR")).signum()).isNegative();
+        assertThat(eur.compareTo(new Money(149, "EUR"))).isPositive();
+        assertThat(eur).hasToString("1.50 EUR");
+        assertThatThrownBy(() -> eur.plus(new Money(50, "USD")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Money(Long.MAX_VALUE, "EUR").plus(eur))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void converter_roundTripsNumericColumnValues() {
+        MinorUnitsConverter converter = new MinorUnitsConverter();
+
+        assertThat(converter.convertToDatabaseColumn(123456L)).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("1234.56"))).isEqualTo(123456L);
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("-0.50"))).isEqualTo(-50L);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+}
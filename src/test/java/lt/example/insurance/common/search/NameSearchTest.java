@@ -0,0 +1,34 @@
+package lt.example.insurance.common.search;
+
+import lt.example.insurance.common.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NameSearchTest {
+
+    @Test
+    void containsPatternEscapesLikeWildcards() {
+        assertThat(NameSearch.containsPattern("Jon")).isEqualTo("%Jon%");
+        assertThat(NameSearch.containsPattern("50%_off\\")).isEqualTo("%50\\%\\_off\\\\%");
+    }
+
+    @Test
+    void pageableEnforcesPageSizeAndResultLimits() {
+        assertThat(NameSearch.pageable(2, NameSearch.MAX_PAGE_SIZE).getOffset()).isEqualTo(200);
+
+        assertThatThrownBy(() -> NameSearch.pageable(0, NameSearch.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> NameSearch.pageable(0, 0))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> NameSearch.pageable(-1, 20))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> NameSearch.pageable(NameSearch.MAX_RESULTS / 20, 20))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("between 0 and 499");
+        // page + 1 must not wrap around before the bound check
+        assertThatThrownBy(() -> NameSearch.pageable(Integer.MAX_VALUE, 20))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package lt.example.insurance.contribution;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CborContributionExportWriterTest {
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).registerModule(new JavaTimeModule());
+
+    @Test
+    void writesSelfContainedChunksWithPartiesListedOnce() throws Exception {
+        UUID citizenId = UUID.randomUUID();
+        UUID otherCitizenId = UUID.randomUUID();
+        UUID employerId = UUID.randomUUID();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        CborContributionExportWriter writer = new CborContributionExportWriter(cborMapper, out, 2);
+        writer.write(row(citizenId, employerId, 1));
+        writer.write(row(otherCitizenId, employerId, 1));
+        writer.write(row(citizenId, employerId, 2));
+        writer.finish();
+
+        List<ContributionExportTable> chunks;
+        try (JsonParser parser = cborMapper.createParser(out.toByteArray());
+             MappingIterator<ContributionExportTable> iterator =
+                     cborMapper.readValues(parser, ContributionExportTable.class)) {
+            chunks = iterator.readAll();
+        }
+        assertThat(chunks).hasSize(2);
+
+        ContributionExportTable first = chunks.get(0);
+        assertThat(first.citizens()).extracting(ContributionExportTable.Citizen::id)
+                .containsExactly(citizenId, otherCitizenId);
+        assertThat(first.employers()).containsExactly(new ContributionExportTable.Employer(employerId, "EMP1"));
+        assertThat(first.rows()).extracting(ContributionExportTable.Row::citizen).containsExactly(0, 1);
+
+        ContributionExportTable second = chunks.get(1);
+        assertThat(second.citizens()).extracting(ContributionExportTable.Citizen::id).containsExactly(citizenId);
+        assertThat(second.rows()).extracting(ContributionExportTable.Row::citizen).containsExactly(0);
+        assertThat(second.rows().get(0).monthDate()).isEqualTo(LocalDate.of(2026, 2, 1));
+    }
+
+    @Test
+    void emptyExportWritesNothing() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new CborContributionExportWriter(cborMapper, out, 2).finish();
+
+        assertThat(out.size()).isZero();
+    }
+
+    private static ContributionExportRow row(UUID citizenId, UUID employerId, int month) {
+        return new ContributionExportRow(UUID.randomUUID(), citizenId, "3900101000" + month, employerId, "EMP1",
+                LocalDate.of(2026, month, 1), new BigDecimal("100.00"), "EUR", null);
+    }
+}
@@ -0,0 +1,213 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.citizen.CitizenService;
+import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionEventHead;
+import lt.example.insurance.contribution.dto.ContributionEventPage;
+import lt.example.insurance.contribution.dto.ContributionEventResponse;
+import lt.example.insurance.contribution.dto.ContributionEventType;
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.employer.EmployerService;
+import lt.example.insurance.employer.dto.EmployerCreateRequest;
+import lt.example.insurance.testsupport.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"contributions.events.sequence-interval=PT0.05S", "contributions.events.poll-interval=PT0.05S"})
+@ActiveProfiles("test")
+@Tag("integration")
+class ContributionChangeFeedIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ContributionChangeFeedService contributionChangeFeedService;
+    @Autowired
+    private ContributionService contributionService;
+    @Autowired
+    private ContributionImportService contributionImportService;
+    @Autowired
+    private CitizenService citizenService;
+    @Autowired
+    private EmployerService employerService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private UUID citizenId;
+    private UUID employerId;
+
+    @BeforeEach
+    void seed() {
+        databaseCleaner.clean();
+
+        CitizenCreateRequest citizen = new CitizenCreateRequest();
+        citizen.setPersonalCode("39001010041");
+        citizen.setFirstName("Feed");
+        citizen.setLastName("Citizen");
+        citizen.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        citizenId = citizenService.create(citizen).getId();
+
+        EmployerCreateRequest employer = new EmployerCreateRequest();
+        employer.setCompanyCode("FEED1");
+        employer.setName("Feed Employer");
+        employerId = employerService.create(employer).getId();
+    }
+
+    @Test
+    void feedListsCreatesImportsAndDeletesInCommitOrder() throws Exception {
+        UUID january = create(LocalDate.of(2026, 1, 1)).getId();
+        UUID february = create(LocalDate.of(2026, 2, 1)).getId();
+        contributionService.delete(january);
+        contributionImportService.importCsv(new ByteArrayInputStream((
+                "citizen_id,employer_id,month_date,amount,currency\n"
+                        + citizenId + "," + employerId + ",2026-03-01,100.00,EUR\n").getBytes(StandardCharsets.UTF_8)));
+
+        List<ContributionEventResponse> events = awaitEvents(4);
+
+        assertThat(events).extracting(ContributionEventResponse::getSequence).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(events).extracting(ContributionEventResponse::getType).containsExactly(
+                ContributionEventType.CREATED, ContributionEventType.CREATED,
+                ContributionEventType.DELETED, ContributionEventType.CREATED);
+        assertThat(events.get(1).getContributionId()).isEqualTo(february);
+        assertThat(events.get(2).getContributionId()).isEqualTo(january);
+        assertThat(events.get(3).getMonthDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+
+        ContributionEventPage page = contributionChangeFeedService.findAfter(1, 2);
+        assertThat(page.getEvents()).extracting(ContributionEventResponse::getSequence).containsExactly(2L, 3L);
+        assertThat(page.getLastSequence()).isEqualTo(3);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(contributionChangeFeedService.findAfter(4, 100).getEvents()).isEmpty();
+    }
+
+    @Test
+    void streamResumesAfterLastEventIdAndDeliversNewEvents() throws Exception {
+        create(LocalDate.of(2026, 1, 1));
+        create(LocalDate.of(2026, 2, 1));
+        awaitEvents(2);
+
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/contribution-events/stream"))
+                .header("Last-Event-ID", "1")
+                .build();
+        HttpResponse<InputStream> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/event-stream"));
+
+        List<String> ids = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            String line;
+            while (ids.size() < 2 && (line = reader.readLine()) != null) {
+                if (line.startsWith("id:")) {
+                    ids.add(line.substring(3).trim());
+                    if (ids.size() == 1) {
+                        create(LocalDate.of(2026, 3, 1));
+                    }
+                }
+            }
+        }
+
+        assertThat(ids).containsExactly("2", "3");
+    }
+
+    @Test
+    void positionBeforeThePurgedEventsIsRejected() throws Exception {
+        create(LocalDate.of(2026, 1, 1));
+        create(LocalDate.of(2026, 2, 1));
+        awaitEvents(2);
+        jdbcTemplate.update("delete from contribution_events where sequence_number = 1");
+
+        assertThatThrownBy(() -> contributionChangeFeedService.findAfter(0, 100))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("purged")
+                .hasMessageContaining("oldest retained: 2, latest: 2");
+        assertThat(contributionChangeFeedService.findAfter(1, 100).getEvents()).hasSize(1);
+    }
+
+    @Test
+    void newConsumerStartsAfterTheHeadOnceEventsWerePurged() throws Exception {
+        ContributionEventHead empty = contributionChangeFeedService.findHead();
+        assertThat(empty.getOldestSequence()).isZero();
+        assertThat(empty.getLatestSequence()).isZero();
+
+        create(LocalDate.of(2026, 1, 1));
+        create(LocalDate.of(2026, 2, 1));
+        awaitEvents(2);
+        jdbcTemplate.update("delete from contribution_events where sequence_number = 1");
+
+        // bootstrap: head first, then the contributions list, then the feed after the head
+        ContributionEventHead head = contributionChangeFeedService.findHead();
+        assertThat(head.getOldestSequence()).isEqualTo(2);
+        assertThat(head.getLatestSequence()).isEqualTo(2);
+        UUID march = create(LocalDate.of(2026, 3, 1)).getId();
+
+        Instant deadline = Instant.now().plus(TIMEOUT);
+        List<ContributionEventResponse> events = List.of();
+        while (events.isEmpty() && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+            events = contributionChangeFeedService.findAfter(head.getLatestSequence(), 100).getEvents();
+        }
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getSequence()).isEqualTo(3);
+            assertThat(event.getContributionId()).isEqualTo(march);
+        });
+    }
+
+    private List<ContributionEventResponse> awaitEvents(int count) throws InterruptedException {
+        Instant deadline = Instant.now().plus(TIMEOUT);
+        List<ContributionEventResponse> events = contributionChangeFeedService.findAfter(0, 100).getEvents();
+        while (events.size() < count && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+            events = contributionChangeFeedService.findAfter(0, 100).getEvents();
+        }
+        assertThat(events).hasSize(count);
+        return events;
+    }
+
+    private ContributionResponse create(LocalDate monthDate) {
+        ContributionCreateRequest request = new ContributionCreateRequest();
+        request.setCitizenId(citizenId);
+        request.setEmployerId(employerId);
+        request.setMonthDate(monthDate);
+        request.setAmount(new BigDecimal("100.00"));
+        request.setCurrency("EUR");
+        request.setPaidAt(Instant.parse("2026-03-15T00:00:00Z"));
+        return contributionService.create(request);
+    }
+}
@@ -0,0 +1,38 @@
+package lt.example.insurance.contribution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lt.example.insurance.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ContributionChangeFeedServiceTest {
+
+    private final ContributionChangeFeedService contributionChangeFeedService = new ContributionChangeFeedService(
+            mock(JdbcTemplate.class), new ObjectMapper(),
+            new ContributionEventProperties(Duration.ofMillis(200), 10_000, Duration.ofSeconds(1),
+                    Duration.ofMinutes(1), 2, Duration.ofDays(30), "0 45 3 * * *"),
+            Clock.systemUTC());
+
+    @AfterEach
+    void shutdown() {
+        contributionChangeFeedService.shutdown();
+    }
+
+    @Test
+    void openStream_rejectsStreamsBeyondTheCap() {
+        assertThat(contributionChangeFeedService.openStream(0)).isNotNull();
+        assertThat(contributionChangeFeedService.openStream(0)).isNotNull();
+
+        assertThatThrownBy(() -> contributionChangeFeedService.openStream(0))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessageContaining("At most 2");
+    }
+}
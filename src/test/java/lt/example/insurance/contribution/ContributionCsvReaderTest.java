@@ -0,0 +1,72 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContributionCsvReaderTest {
+
+    private static final UUID CITIZEN_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID EMPLOYER_ID = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+    @Test
+    void readsExportFormattedRowsByHeaderName() throws IOException {
+        String csv = CsvContributionExportWriter.HEADER + "\n"
+                + "33333333-3333-3333-3333-333333333333," + CITIZEN_ID + ",\"390,01\"," + EMPLOYER_ID
+                + ",EMP1,2026-01-01,100.50,EUR,2026-01-15T00:00:00Z\n"
+                + "\n"
+                + "," + CITIZEN_ID + ",x," + EMPLOYER_ID + ",EMP1,2026-02-01,20,eur,\n";
+
+        try (ContributionCsvReader reader = new ContributionCsvReader(new StringReader(csv))) {
+            ContributionImportRow first = reader.next();
+            assertThat(first.lineNumber()).isEqualTo(2);
+            assertThat(first.error()).isNull();
+            assertThat(first.request().getCitizenId()).isEqualTo(CITIZEN_ID);
+            assertThat(first.request().getEmployerId()).isEqualTo(EMPLOYER_ID);
+            assertThat(first.request().getMonthDate()).isEqualTo(LocalDate.of(2026, 1, 1));
+            assertThat(first.request().getAmount()).isEqualByComparingTo(new BigDecimal("100.50"));
+            assertThat(first.request().getPaidAt()).isEqualTo(Instant.parse("2026-01-15T00:00:00Z"));
+
+            ContributionImportRow second = reader.next();
+            assertThat(second.lineNumber()).isEqualTo(4);
+            assertThat(second.request().getCurrency()).isEqualTo("eur");
+            assertThat(second.request().getPaidAt()).isNull();
+
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void reportsUnparseableLinesWithoutStopping() throws IOException {
+        String csv = "currency,amount,month_date,employer_id,citizen_id\n"
+                + "EUR,abc,2026-13-01," + EMPLOYER_ID + "," + CITIZEN_ID + "\n"
+                + "EUR,\"10\n"
+                + "EUR,10,2026-01-01\n"
+                + "EUR,10,2026-01-01," + EMPLOYER_ID + "," + CITIZEN_ID + "\n";
+
+        try (ContributionCsvReader reader = new ContributionCsvReader(new StringReader(csv))) {
+            assertThat(reader.next().error()).isEqualTo("monthDate: invalid value '2026-13-01'; amount: invalid value 'abc'");
+            assertThat(reader.next().error()).isEqualTo("unterminated quoted field");
+            assertThat(reader.next().error()).isEqualTo("expected at least 5 columns but found 3");
+            assertThat(reader.next().error()).isNull();
+        }
+    }
+
+    @Test
+    void rejectsEmptyFileAndMissingHeaderColumns() {
+        assertThatThrownBy(() -> new ContributionCsvReader(new StringReader("")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> new ContributionCsvReader(new StringReader("citizen_id,amount\n")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Import file header is missing columns: employer_id, month_date, currency");
+    }
+}
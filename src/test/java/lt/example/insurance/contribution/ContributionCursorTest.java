@@ -0,0 +1,31 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContributionCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSamePosition() {
+        ContributionCursor cursor = new ContributionCursor(LocalDate.of(2026, 2, 1), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=", "/", "+");
+        assertThat(ContributionCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> ContributionCursor.decode("not a cursor"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> ContributionCursor.decode("MjAyNi0wMi0wMQ"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -2,9 +2,11 @@ package lt.example.insurance.contribution;
 
 import lt.example.insurance.citizen.dto.CitizenEligibilityResponse;
 import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.citizen.dto.CitizenUpdateRequest;
 import lt.example.insurance.citizen.dto.CitizenResponse;
 import lt.example.insurance.citizen.CitizenService;
 import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionResponse;
 import lt.example.insurance.employer.dto.EmployerCreateRequest;
 import lt.example.insurance.employer.dto.EmployerResponse;
 import lt.example.insurance.employer.EmployerService;
@@ -16,7 +18,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.Clock;
@@ -24,6 +29,8 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,6 +56,10 @@ class ContributionEligibilityIntegrationIT {
     private EmployerService employerService;
     @Autowired
     private DatabaseCleaner databaseCleaner;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     @BeforeEach
     void cleanDatabase() {
@@ -100,7 +111,124 @@ class ContributionEligibilityIntegrationIT {
                 .hasMessageContaining("minMonthsPaid cannot be greater than monthsBack");
     }
 
-    private void createContribution(UUID citizenId,
+    @Test
+    void deletingLastPaidContributionOfMonthClearsItFromEligibility() {
+        CitizenCreateRequest citizenRequest = new CitizenCreateRequest();
+        citizenRequest.setPersonalCode("12345678902");
+        citizenRequest.setFirstName("Jane");
+        citizenRequest.setLastName("Doe");
+        citizenRequest.setDateOfBirth(LocalDate.of(1991, 1, 1));
+        UUID citizenId = citizenService.create(citizenRequest).getId();
+
+        EmployerCreateRequest firstEmployer = new EmployerCreateRequest();
+        firstEmployer.setCompanyCode("EMP201");
+        firstEmployer.setName("First");
+        UUID firstEmployerId = employerService.create(firstEmployer).getId();
+        EmployerCreateRequest secondEmployer = new EmployerCreateRequest();
+        secondEmployer.setCompanyCode("EMP202");
+        secondEmployer.setName("Second");
+        UUID secondEmployerId = employerService.create(secondEmployer).getId();
+
+        Instant paidAt = Instant.parse("2026-02-10T00:00:00Z");
+        LocalDate january = LocalDate.of(2026, 1, 1);
+        ContributionResponse fromFirst = createContribution(citizenId, firstEmployerId, january,
+                BigDecimal.valueOf(100), "EUR", paidAt);
+        ContributionResponse fromSecond = createContribution(citizenId, secondEmployerId, january,
+                BigDecimal.valueOf(50), "EUR", paidAt);
+        createContribution(citizenId, firstEmployerId, LocalDate.of(2026, 2, 1),
+                BigDecimal.valueOf(100), "EUR", paidAt);
+
+        assertThat(contributionService.calculateEligibility(citizenId, 2, 2).getMonthsWithPayments()).isEqualTo(2);
+
+        // January is still paid by the second employer
+        contributionService.delete(fromFirst.getId());
+        assertThat(contributionService.calculateEligibility(citizenId, 2, 2).getMonthsWithPayments()).isEqualTo(2);
+
+        contributionService.delete(fromSecond.getId());
+        CitizenEligibilityResponse afterDelete = contributionService.calculateEligibility(citizenId, 2, 2);
+        assertThat(afterDelete.getMonthsWithPayments()).isEqualTo(1);
+        assertThat(afterDelete.isEligible()).isFalse();
+    }
+
+    @Test
+    void deleteRacingACreateForTheSameMonthKeepsTheMonthPaid() throws Exception {
+        CitizenCreateRequest citizenRequest = new CitizenCreateRequest();
+        citizenRequest.setPersonalCode("12345678905");
+        citizenRequest.setFirstName("Race");
+        citizenRequest.setLastName("Doe");
+        citizenRequest.setDateOfBirth(LocalDate.of(1993, 1, 1));
+        UUID citizenId = citizenService.create(citizenRequest).getId();
+
+        EmployerCreateRequest firstEmployer = new EmployerCreateRequest();
+        firstEmployer.setCompanyCode("EMP401");
+        firstEmployer.setName("First");
+        UUID firstEmployerId = employerService.create(firstEmployer).getId();
+        EmployerCreateRequest secondEmployer = new EmployerCreateRequest();
+        secondEmployer.setCompanyCode("EMP402");
+        secondEmployer.setName("Second");
+        UUID secondEmployerId = employerService.create(secondEmployer).getId();
+
+        Instant paidAt = Instant.parse("2026-02-10T00:00:00Z");
+        LocalDate january = LocalDate.of(2026, 1, 1);
+        ContributionResponse existing = createContribution(citizenId, firstEmployerId, january,
+                BigDecimal.valueOf(100), "EUR", paidAt);
+
+        // Another employer and currency, so the two transactions share no rollup row and only meet on
+        // the citizen's paid-month row. The create holds that row until the delete is waiting for it.
+        CompletableFuture<Void> delete = new TransactionTemplate(transactionManager).execute(status -> {
+            createContribution(citizenId, secondEmployerId, january, BigDecimal.valueOf(50), "USD", paidAt);
+            CompletableFuture<Void> pending = CompletableFuture.runAsync(() -> contributionService.delete(existing.getId()));
+            awaitBlockedOnLock(pending);
+            return pending;
+        });
+        delete.get(10, TimeUnit.SECONDS);
+
+        assertThat(contributionService.calculateEligibility(citizenId, 2, 1).getMonthsWithPayments()).isEqualTo(1);
+    }
+
+    @Test
+    void renamedCitizenIsNotServedFromCache() {
+        CitizenCreateRequest citizenRequest = new CitizenCreateRequest();
+        citizenRequest.setPersonalCode("12345678903");
+        citizenRequest.setFirstName("Old");
+        citizenRequest.setLastName("Name");
+        citizenRequest.setDateOfBirth(LocalDate.of(1992, 1, 1));
+        UUID citizenId = citizenService.create(citizenRequest).getId();
+
+        EmployerCreateRequest employerRequest = new EmployerCreateRequest();
+        employerRequest.setCompanyCode("EMP301");
+        employerRequest.setName("Employer");
+        UUID employerId = employerService.create(employerRequest).getId();
+
+        Instant paidAt = Instant.parse("2026-02-10T00:00:00Z");
+        assertThat(createContribution(citizenId, employerId, LocalDate.of(2026, 1, 1),
+                BigDecimal.valueOf(100), "EUR", paidAt).getCitizen().getFirstName()).isEqualTo("Old");
+
+        CitizenUpdateRequest updateRequest = new CitizenUpdateRequest();
+        updateRequest.setFirstName("New");
+        citizenService.update(citizenId, updateRequest);
+
+        assertThat(createContribution(citizenId, employerId, LocalDate.of(2026, 2, 1),
+                BigDecimal.valueOf(100), "EUR", paidAt).getCitizen().getFirstName()).isEqualTo("New");
+
+        citizenRequest.setPersonalCode("12345678904");
+        UUID removedCitizenId = citizenService.create(citizenRequest).getId();
+        contributionService.calculateEligibility(removedCitizenId, 2, 1);
+        citizenService.delete(removedCitizenId);
+        assertThatThrownBy(() -> contributionService.calculateEligibility(removedCitizenId, 2, 1))
+                .isInstanceOf(lt.example.insurance.common.exception.NotFoundException.class);
+    }
+
+    private void awaitBlockedOnLock(CompletableFuture<Void> pending) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("select count(*) from pg_locks where not granted", Integer.class) == 0) {
+            assertThat(pending).as("delete finished without waiting for the create").isNotDone();
+            assertThat(System.nanoTime()).as("delete never waited for the create").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private ContributionResponse createContribution(UUID citizenId,
                                     UUID employerId,
                                     LocalDate monthDate,
                                     BigDecimal amount,
@@ -114,7 +242,7 @@ class ContributionEligibilityIntegrationIT {
         request.setCurrency(currency);
         request.setPaidAt(paidAt);
 
-        contributionService.create(request);
+        return contributionService.create(request);
     }
 }
 
@@ -0,0 +1,147 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.common.exception.ConflictException;
+import lt.example.insurance.config.IdempotencyConfig;
+import lt.example.insurance.contribution.ContributionIdempotencyKeys.StoredResponse;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContributionIdempotencyServiceTest {
+
+    private static final String KEY = "payroll-2026-02-0001";
+
+    private final ContributionService contributionService = mock(ContributionService.class);
+    private final ContributionIdempotencyKeys idempotencyKeys = mock(ContributionIdempotencyKeys.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ContributionIdempotencyService service = new ContributionIdempotencyService(contributionService,
+            idempotencyKeys, new ConcurrentMapCacheManager(ContributionIdempotencyService.CACHE_NAME), transactionManager);
+
+    private final ContributionCreateRequest request = request(new BigDecimal("100.00"), "EUR");
+    private final ContributionResponse response = new ContributionResponse();
+
+    ContributionIdempotencyServiceTest() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        response.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void firstRequestCreatesTheContributionAndStoresItsResponse() {
+        when(idempotencyKeys.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyKeys.claim(eq(KEY), any())).thenReturn(true);
+        when(contributionService.create(request)).thenReturn(response);
+
+        IdempotentContribution created = service.create(request, KEY);
+
+        assertThat(created.replayed()).isFalse();
+        assertThat(created.response()).isSameAs(response);
+        verify(idempotencyKeys).complete(KEY, response);
+    }
+
+    @Test
+    void retryIsReplayedFromTheFrontCacheWithoutAStoreLookup() {
+        when(idempotencyKeys.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyKeys.claim(eq(KEY), any())).thenReturn(true);
+        when(contributionService.create(request)).thenReturn(response);
+        service.create(request, KEY);
+
+        IdempotentContribution retried = service.create(request(new BigDecimal("100.0"), " eur "), KEY);
+
+        assertThat(retried.replayed()).isTrue();
+        assertThat(retried.response()).isSameAs(response);
+        verify(idempotencyKeys, times(1)).find(KEY);
+        verify(contributionService, times(1)).create(any());
+    }
+
+    @Test
+    void retryAfterTheCacheEntryIsGoneIsReplayedFromTheStore() {
+        when(idempotencyKeys.find(KEY)).thenReturn(Optional.of(
+                new StoredResponse(ContributionIdempotencyService.requestHash(request), response)));
+
+        IdempotentContribution retried = service.create(request, KEY);
+
+        assertThat(retried.replayed()).isTrue();
+        assertThat(retried.response()).isSameAs(response);
+        verify(idempotencyKeys, never()).claim(anyString(), any());
+        verify(contributionService, never()).create(any());
+    }
+
+    @Test
+    void concurrentRequestThatLostTheClaimReplaysTheWinner() {
+        when(idempotencyKeys.find(KEY)).thenReturn(Optional.empty(), Optional.of(
+                new StoredResponse(ContributionIdempotencyService.requestHash(request), response)));
+        when(idempotencyKeys.claim(eq(KEY), any())).thenReturn(false);
+
+        IdempotentContribution retried = service.create(request, KEY);
+
+        assertThat(retried.replayed()).isTrue();
+        verify(contributionService, never()).create(any());
+    }
+
+    @Test
+    void keyReusedForADifferentRequestIsAConflict() {
+        when(idempotencyKeys.find(KEY)).thenReturn(Optional.of(
+                new StoredResponse(ContributionIdempotencyService.requestHash(request), response)));
+
+        assertThatThrownBy(() -> service.create(request(new BigDecimal("250.00"), "EUR"), KEY))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("different request");
+        verify(contributionService, never()).create(any());
+    }
+
+    @Test
+    void blankOrOverlongKeyIsRejected() {
+        assertThatThrownBy(() -> service.create(request, " "))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.create(request, "k".repeat(ContributionIdempotencyService.MAX_KEY_LENGTH + 1)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void frontCacheExpiresWithTheKeyInsteadOfTheSharedSpec() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("citizens", "employers");
+        cacheManager.setCacheSpecification("maximumSize=100000,expireAfterWrite=10m");
+        new IdempotencyConfig().idempotencyCacheCustomizer(
+                new ContributionIdempotencyProperties(Duration.ofMinutes(2), "0 15 * * * *", 500)).customize(cacheManager);
+
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(ContributionIdempotencyService.CACHE_NAME);
+
+        assertThat(cache.getNativeCache().policy().expireAfterWrite())
+                .hasValueSatisfying(expiry -> assertThat(expiry.getExpiresAfter()).isEqualTo(Duration.ofMinutes(2)));
+        assertThat(cache.getNativeCache().policy().eviction())
+                .hasValueSatisfying(eviction -> assertThat(eviction.getMaximum()).isEqualTo(500));
+    }
+
+    private static ContributionCreateRequest request(BigDecimal amount, String currency) {
+        ContributionCreateRequest request = new ContributionCreateRequest();
+        request.setCitizenId(UUID.fromString("11111111-1111-1111-1111-111111111111"));
+        request.setEmployerId(UUID.fromString("22222222-2222-2222-2222-222222222222"));
+        request.setMonthDate(LocalDate.of(2026, 1, 1));
+        request.setAmount(amount);
+        request.setCurrency(currency);
+        return request;
+    }
+}
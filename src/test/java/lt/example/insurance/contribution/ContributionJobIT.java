@@ -0,0 +1,154 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.citizen.CitizenService;
+import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionDeletionRequest;
+import lt.example.insurance.contribution.dto.ContributionImportResponse;
+import lt.example.insurance.contribution.dto.ContributionImportStatus;
+import lt.example.insurance.employer.EmployerService;
+import lt.example.insurance.employer.dto.EmployerCreateRequest;
+import lt.example.insurance.job.JobService;
+import lt.example.insurance.job.dto.JobResponse;
+import lt.example.insurance.job.dto.JobStatus;
+import lt.example.insurance.testsupport.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "jobs.poll-interval=PT0.1S")
+@ActiveProfiles("test")
+@Tag("integration")
+class ContributionJobIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private ContributionJobService contributionJobService;
+    @Autowired
+    private ContributionImportService contributionImportService;
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private PaidMonthIndex paidMonthIndex;
+    @Autowired
+    private CitizenService citizenService;
+    @Autowired
+    private EmployerService employerService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private UUID citizenId;
+    private UUID employerId;
+
+    @BeforeEach
+    void seed() {
+        databaseCleaner.clean();
+
+        CitizenCreateRequest citizen = new CitizenCreateRequest();
+        citizen.setPersonalCode("39001010001");
+        citizen.setFirstName("Job");
+        citizen.setLastName("Citizen");
+        citizen.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        citizenId = citizenService.create(citizen).getId();
+
+        EmployerCreateRequest employer = new EmployerCreateRequest();
+        employer.setCompanyCode("JOB1");
+        employer.setName("Job Employer");
+        employerId = employerService.create(employer).getId();
+    }
+
+    @Test
+    void importJobMergesStoredLinesAndCompletesTheImport() throws Exception {
+        int months = 24;
+        StringBuilder csv = new StringBuilder("citizen_id,employer_id,month_date,amount,currency,paid_at\n");
+        for (int i = 0; i < months; i++) {
+            csv.append(citizenId).append(',').append(employerId).append(',')
+                    .append(LocalDate.of(2020, 1, 1).plusMonths(i)).append(",100.00,EUR,2026-01-15T00:00:00Z\n");
+        }
+        csv.append("\n").append(citizenId).append(',').append(employerId).append(",not-a-date,1,EUR,\n");
+
+        JobResponse submitted = contributionJobService.submitImport(stream(csv.toString()));
+        assertThat(submitted.getTotalItems()).isEqualTo(months + 1);
+
+        JobResponse finished = awaitFinished(submitted.getId());
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(finished.getProcessedItems()).isEqualTo(months + 1);
+        assertThat(finished.getProgress()).isEqualTo(1.0);
+
+        ContributionImportResponse imported = contributionImportService.getImport(submitted.getId());
+        assertThat(imported.getStatus()).isEqualTo(ContributionImportStatus.COMPLETED);
+        assertThat(imported.getCreatedRows()).isEqualTo(months);
+        assertThat(imported.getRejectedRows()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from job_input_lines where job_id = ?", Long.class, submitted.getId())).isZero();
+    }
+
+    @Test
+    void deletionJobRemovesMatchingRowsAndClearsTheirPaidMonthsAndTotals() throws Exception {
+        StringBuilder csv = new StringBuilder("citizen_id,employer_id,month_date,amount,currency,paid_at\n");
+        for (int month = 1; month <= 12; month++) {
+            csv.append(citizenId).append(',').append(employerId).append(',')
+                    .append(LocalDate.of(2025, month, 1)).append(",100.00,EUR,2026-01-15T00:00:00Z\n");
+        }
+        contributionImportService.importCsv(stream(csv.toString()));
+
+        ContributionDeletionRequest request = new ContributionDeletionRequest();
+        request.setCitizenId(citizenId);
+        request.setFrom(LocalDate.of(2025, 7, 1));
+        request.setTo(LocalDate.of(2025, 12, 1));
+        JobResponse submitted = contributionJobService.submitDeletion(request);
+        assertThat(submitted.getTotalItems()).isEqualTo(6);
+
+        assertThat(awaitFinished(submitted.getId()).getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from contributions", Long.class)).isEqualTo(6);
+        assertThat(paidMonthIndex.countPaidMonths(citizenId, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 1)))
+                .isEqualTo(6);
+        assertThat(jdbcTemplate.queryForObject(
+                "select contributions from citizen_yearly_contributions where citizen_id = ? and year = 2025",
+                Long.class, citizenId)).isEqualTo(6);
+    }
+
+    @Test
+    void recomputationJobRebuildsLostPaidMonths() throws Exception {
+        String csv = "citizen_id,employer_id,month_date,amount,currency,paid_at\n"
+                + citizenId + "," + employerId + ",2025-03-01,100.00,EUR,2026-01-15T00:00:00Z\n";
+        contributionImportService.importCsv(stream(csv));
+        jdbcTemplate.update("delete from citizen_paid_months");
+
+        JobResponse submitted = contributionJobService.submitPaidMonthRecomputation();
+
+        assertThat(awaitFinished(submitted.getId()).getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(paidMonthIndex.countPaidMonths(citizenId, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 1)))
+                .isEqualTo(1);
+    }
+
+    private JobResponse awaitFinished(UUID jobId) throws InterruptedException {
+        Instant deadline = Instant.now().plus(TIMEOUT);
+        JobResponse job = jobService.get(jobId);
+        while (job.getStatus() != JobStatus.COMPLETED && job.getStatus() != JobStatus.FAILED
+                && Instant.now().isBefore(deadline)) {
+            Thread.sleep(100);
+            job = jobService.get(jobId);
+        }
+        return job;
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.citizen.CitizenService;
+import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.employer.EmployerService;
+import lt.example.insurance.employer.dto.EmployerCreateRequest;
+import lt.example.insurance.testsupport.DatabaseCleaner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("integration")
+class ContributionPartitionIT {
+
+    // beyond the partitions kept ahead by the maintainer
+    private static final int FAR_YEAR = Year.now().getValue() + 20;
+
+    @Autowired
+    private ContributionService contributionService;
+    @Autowired
+    private CitizenService citizenService;
+    @Autowired
+    private EmployerService employerService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private UUID citizenId;
+    private UUID employerId;
+
+    @BeforeEach
+    void seed() {
+        databaseCleaner.clean();
+
+        CitizenCreateRequest citizen = new CitizenCreateRequest();
+        citizen.setPersonalCode("39001010021");
+        citizen.setFirstName("Partition");
+        citizen.setLastName("Citizen");
+        citizen.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        citizenId = citizenService.create(citizen).getId();
+
+        EmployerCreateRequest employer = new EmployerCreateRequest();
+        employer.setCompanyCode("PART1");
+        employer.setName("Partition Employer");
+        employerId = employerService.create(employer).getId();
+    }
+
+    @AfterEach
+    void dropFarPartition() {
+        jdbcTemplate.execute("drop table if exists contributions_y" + FAR_YEAR);
+    }
+
+    @Test
+    void rowsOfAMissingYearMoveFromTheDefaultPartitionWhenItIsCreated() {
+        ContributionResponse created = create(LocalDate.of(FAR_YEAR, 5, 1));
+        assertThat(partitionOf(created.getId())).isEqualTo("contributions_default");
+
+        Integer partitions = jdbcTemplate.queryForObject(
+                "select ensure_contribution_partitions(?, ?)", Integer.class, FAR_YEAR, FAR_YEAR);
+
+        assertThat(partitions).isEqualTo(1);
+        assertThat(partitionOf(created.getId())).isEqualTo("contributions_y" + FAR_YEAR);
+        assertThat(contributionService.getById(created.getId()).getMonthDate()).isEqualTo(LocalDate.of(FAR_YEAR, 5, 1));
+    }
+
+    @Test
+    void periodQueriesOnlyScanThePartitionsOfTheirYears() {
+        int year = Year.now().getValue();
+        create(LocalDate.of(year, 1, 1));
+        create(LocalDate.of(year - 1, 12, 1));
+
+        List<String> plan = jdbcTemplate.queryForList("""
+                explain select * from contributions
+                where citizen_id = ? and month_date between ? and ?
+                """, String.class, citizenId, LocalDate.of(year, 1, 1), LocalDate.of(year, 6, 1));
+
+        String joined = String.join("\n", plan);
+        assertThat(joined).contains("contributions_y" + year)
+                .doesNotContain("contributions_y" + (year - 1))
+                .doesNotContain("contributions_default");
+    }
+
+    private String partitionOf(UUID contributionId) {
+        return jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from contributions where id = ?", String.class, contributionId);
+    }
+
+    private ContributionResponse create(LocalDate monthDate) {
+        ContributionCreateRequest request = new ContributionCreateRequest();
+        request.setCitizenId(citizenId);
+        request.setEmployerId(employerId);
+        request.setMonthDate(monthDate);
+        request.setAmount(BigDecimal.valueOf(100));
+        request.setCurrency("EUR");
+        request.setPaidAt(Instant.parse("2026-01-15T00:00:00Z"));
+        return contributionService.create(request);
+    }
+}
@@ -0,0 +1,135 @@
+package lt.example.insurance.contribution;
+
+import jakarta.persistence.EntityManagerFactory;
+import lt.example.insurance.citizen.CitizenService;
+import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.citizen.dto.CitizenResponse;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.employer.EmployerService;
+import lt.example.insurance.employer.dto.EmployerCreateRequest;
+import lt.example.insurance.employer.dto.EmployerResponse;
+import lt.example.insurance.testsupport.DatabaseCleaner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Tag("integration")
+class ContributionQueryCountIT {
+
+    private static final int PARTIES = 12;
+    private static final LocalDate BASE_MONTH = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private ContributionService contributionService;
+    @Autowired
+    private CitizenService citizenService;
+    @Autowired
+    private EmployerService employerService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private Statistics statistics;
+    private final List<UUID> citizenIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        databaseCleaner.clean();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        citizenIds.clear();
+
+        List<UUID> employerIds = new ArrayList<>();
+        for (int i = 0; i < PARTIES; i++) {
+            citizenIds.add(createCitizen(String.format("%011d", i)).getId());
+            employerIds.add(createEmployer("EMP" + i).getId());
+        }
+
+        // every citizen/employer pair appears on its own row, and the first citizen
+        // additionally has one row per employer so the period query spans many parties
+        for (int i = 0; i < PARTIES; i++) {
+            createContribution(citizenIds.get(i), employerIds.get(i), BASE_MONTH.minusMonths(i));
+            if (i > 0) {
+                createContribution(citizenIds.get(0), employerIds.get(i), BASE_MONTH.minusMonths(i));
+            }
+        }
+    }
+
+    @Test
+    void pageStatementCountDoesNotGrowWithPageSize() {
+        long smallPageStatements = countStatements(() -> {
+            Page<ContributionResponse> page = contributionService.findPage(null, PageRequest.of(0, 2));
+            assertThat(page.getContent()).hasSize(2);
+        });
+        long largePageStatements = countStatements(() -> {
+            Page<ContributionResponse> page = contributionService.findPage(null, PageRequest.of(0, 20));
+            assertThat(page.getContent()).hasSize(20);
+        });
+
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
+    @Test
+    void periodStatementCountDoesNotGrowWithResultSize() {
+        UUID citizenId = citizenIds.get(0);
+
+        long narrowStatements = countStatements(() -> assertThat(contributionService
+                .findByCitizenAndPeriod(citizenId, BASE_MONTH.minusMonths(1), BASE_MONTH)).hasSize(2));
+        long wideStatements = countStatements(() -> assertThat(contributionService
+                .findByCitizenAndPeriod(citizenId, BASE_MONTH.minusMonths(PARTIES), BASE_MONTH)).hasSize(PARTIES));
+
+        assertThat(wideStatements).isEqualTo(narrowStatements);
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private CitizenResponse createCitizen(String personalCode) {
+        CitizenCreateRequest request = new CitizenCreateRequest();
+        request.setPersonalCode(personalCode);
+        request.setFirstName("Test");
+        request.setLastName("Citizen");
+        request.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        return citizenService.create(request);
+    }
+
+    private EmployerResponse createEmployer(String companyCode) {
+        EmployerCreateRequest request = new EmployerCreateRequest();
+        request.setCompanyCode(companyCode);
+        request.setName("Employer " + companyCode);
+        return employerService.create(request);
+    }
+
+    private void createContribution(UUID citizenId, UUID employerId, LocalDate monthDate) {
+        ContributionCreateRequest request = new ContributionCreateRequest();
+        request.setCitizenId(citizenId);
+        request.setEmployerId(employerId);
+        request.setMonthDate(monthDate);
+        request.setAmount(BigDecimal.valueOf(100));
+        request.setCurrency("EUR");
+        request.setPaidAt(Instant.parse("2026-01-15T00:00:00Z"));
+        contributionService.create(request);
+    }
+}
@@ -0,0 +1,39 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.citizen.CitizenDirectory;
+import lt.example.insurance.citizen.CitizenSnapshot;
+import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.employer.EmployerDirectory;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ContributionReportServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CitizenDirectory citizenDirectory = mock(CitizenDirectory.class);
+    private final ContributionReportService contributionReportService =
+            new ContributionReportService(jdbcTemplate, citizenDirectory, mock(EmployerDirectory.class));
+
+    @Test
+    void findCitizenYearlyTotals_rejectsYearsOutsideTheStoredRangeBeforeNarrowingThem() {
+        UUID citizenId = UUID.randomUUID();
+        when(citizenDirectory.find(citizenId))
+                .thenReturn(Optional.of(new CitizenSnapshot(citizenId, "39001010000", "Jonas", "Jonaitis")));
+
+        // 65537 would narrow to year 1
+        assertThatThrownBy(() -> contributionReportService.findCitizenYearlyTotals(citizenId, 2020, 65_537))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("between 1 and 9999");
+        assertThatThrownBy(() -> contributionReportService.findCitizenYearlyTotals(citizenId, 0, 2026))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
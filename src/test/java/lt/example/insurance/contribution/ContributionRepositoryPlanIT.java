@@ -0,0 +1,172 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.testsupport.CapturingStatementInspector;
+import lt.example.insurance.testsupport.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the filtered {@link ContributionRepository} queries against sequential scans. Each query is
+ * run once to capture the SQL Hibernate generates, which is then explained with the same arguments
+ * on a seeded and analyzed dataset. Sequential scans of empty partitions are allowed (they cost
+ * nothing); unfiltered queries such as {@code findAll} are not checked.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "lt.example.insurance.testsupport.CapturingStatementInspector")
+@ActiveProfiles("test")
+@Tag("integration")
+class ContributionRepositoryPlanIT {
+
+    private static final int CITIZENS = 2_000;
+    private static final int EMPLOYERS = 20;
+    private static final int MONTHS = 24;
+    private static final int LIMIT = 20;
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    @Autowired
+    private ContributionRepository contributionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private LocalDate firstMonth;
+    private Set<String> populatedPartitions;
+
+    @BeforeEach
+    void seed() {
+        databaseCleaner.clean();
+        int currentYear = Year.now().getValue();
+        firstMonth = LocalDate.of(currentYear - 1, 1, 1);
+        jdbcTemplate.queryForObject("select ensure_contribution_partitions(?, ?)", Integer.class,
+                currentYear - 1, currentYear);
+
+        jdbcTemplate.update("""
+                insert into citizens (id, personal_code, first_name, last_name, date_of_birth, created_at, updated_at)
+                select gen_random_uuid(), 'PLAN' || lpad(i::text, 7, '0'), 'Plan', 'Citizen' || i,
+                       date '1990-01-01', now(), now()
+                from generate_series(1, ?) i
+                """, CITIZENS);
+        jdbcTemplate.update("""
+                insert into employers (id, company_code, name, created_at, updated_at)
+                select gen_random_uuid(), 'PLAN' || i, 'Plan employer ' || i, now(), now()
+                from generate_series(1, ?) i
+                """, EMPLOYERS);
+        // one employer per citizen and month, every third month unpaid, inserted in month order
+        jdbcTemplate.update("""
+                insert into contributions (id, citizen_id, employer_id, month_date, amount, currency,
+                                           paid_at, created_at, updated_at)
+                select gen_random_uuid(), ci.id, e.id, (? + make_interval(months => m.k))::date, 100.00, 'EUR',
+                       case when (ci.n + m.k) % 3 = 0 then null else now() end, now(), now()
+                from (select id, row_number() over (order by id) as n from citizens) ci
+                join (select id, row_number() over (order by id) - 1 as n from employers) e on e.n = ci.n % ?
+                cross join generate_series(0, ? - 1) as m(k)
+                order by m.k
+                """, firstMonth, EMPLOYERS, MONTHS);
+        jdbcTemplate.execute("analyze citizens");
+        jdbcTemplate.execute("analyze employers");
+        jdbcTemplate.execute("analyze contributions");
+
+        populatedPartitions = new HashSet<>(jdbcTemplate.queryForList(
+                "select distinct tableoid::regclass::text from contributions", String.class));
+    }
+
+    @Test
+    void filteredRepositoryQueriesUseIndexes() {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select id, citizen_id, employer_id, month_date from contributions order by month_date desc, id limit 1");
+        UUID id = (UUID) row.get("id");
+        UUID citizenId = (UUID) row.get("citizen_id");
+        UUID employerId = (UUID) row.get("employer_id");
+        LocalDate monthDate = ((java.sql.Date) row.get("month_date")).toLocalDate();
+        LocalDate from = monthDate.minusMonths(5);
+        List<UUID> otherCitizens = jdbcTemplate.queryForList("select id from citizens limit 2", UUID.class);
+
+        Map<String, List<String>> seqScans = new LinkedHashMap<>();
+        check(seqScans, "existsByCitizen_IdAndEmployer_IdAndMonthDate",
+                () -> contributionRepository.existsByCitizen_IdAndEmployer_IdAndMonthDate(citizenId, employerId, monthDate),
+                List.of(citizenId, employerId, monthDate, 1));
+        check(seqScans, "findById", () -> contributionRepository.findById(id),
+                List.of(id));
+        check(seqScans, "findWithPartiesById", () -> contributionRepository.findWithPartiesById(id),
+                List.of(id));
+        check(seqScans, "findVersionById", () -> contributionRepository.findVersionById(id),
+                List.of(id));
+        check(seqScans, "findByCitizen_IdAndMonthDateBetween",
+                () -> contributionRepository.findByCitizen_IdAndMonthDateBetween(citizenId, from, monthDate),
+                List.of(citizenId, from, monthDate));
+        check(seqScans, "findByCitizen_Id",
+                () -> contributionRepository.findByCitizen_Id(citizenId, PageRequest.of(0, LIMIT)),
+                List.of(citizenId, LIMIT), List.of(citizenId));
+        check(seqScans, "findSeekFirst",
+                () -> contributionRepository.findSeekFirst(PageRequest.ofSize(LIMIT)),
+                List.of(LIMIT));
+        check(seqScans, "findSeekAfter",
+                () -> contributionRepository.findSeekAfter(from, id, PageRequest.ofSize(LIMIT)),
+                List.of(from, from, id, LIMIT));
+        check(seqScans, "findSeekFirstByCitizen",
+                () -> contributionRepository.findSeekFirstByCitizen(citizenId, PageRequest.ofSize(LIMIT)),
+                List.of(citizenId, LIMIT));
+        check(seqScans, "findSeekAfterByCitizen",
+                () -> contributionRepository.findSeekAfterByCitizen(citizenId, from, id, PageRequest.ofSize(LIMIT)),
+                List.of(citizenId, from, from, id, LIMIT));
+        check(seqScans, "findByCitizen_IdAndMonthDateBetweenAndPaidAtIsNotNull",
+                () -> contributionRepository.findByCitizen_IdAndMonthDateBetweenAndPaidAtIsNotNull(citizenId, from, monthDate),
+                List.of(citizenId, from, monthDate));
+        check(seqScans, "countDistinctPaidMonths",
+                () -> contributionRepository.countDistinctPaidMonths(citizenId, from, monthDate),
+                List.of(citizenId, from, monthDate));
+        check(seqScans, "findExistingKeys",
+                () -> contributionRepository.findExistingKeys(otherCitizens, List.of(employerId), List.of(from, monthDate)),
+                List.of(otherCitizens.get(0), otherCitizens.get(1), employerId, from, monthDate));
+
+        assertThat(seqScans).as("sequential scans on populated contributions partitions").isEmpty();
+    }
+
+    /**
+     * Runs the call, then explains every statement it prepared with the matching argument list.
+     */
+    @SafeVarargs
+    private void check(Map<String, List<String>> seqScans, String name, Runnable call, List<Object>... arguments) {
+        CapturingStatementInspector.clear();
+        call.run();
+        List<String> statements = CapturingStatementInspector.statements();
+        assertThat(statements).as("statements of %s", name).hasSize(arguments.length);
+
+        List<String> scanned = new ArrayList<>();
+        for (int i = 0; i < statements.size(); i++) {
+            String sql = statements.get(i);
+            assertThat(sql.chars().filter(ch -> ch == '?').count())
+                    .as("parameters of %s: %s", name, sql).isEqualTo(arguments[i].size());
+            for (String line : jdbcTemplate.queryForList("explain " + sql, String.class, arguments[i].toArray())) {
+                Matcher matcher = SEQ_SCAN.matcher(line);
+                if (matcher.find() && populatedPartitions.contains(matcher.group(1))) {
+                    scanned.add(matcher.group(1));
+                }
+            }
+        }
+        if (!scanned.isEmpty()) {
+            seqScans.put(name, scanned);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.citizen.CitizenService;
+import lt.example.insurance.citizen.dto.CitizenCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.contribution.dto.MonthlyContributionTotalResponse;
+import lt.example.insurance.contribution.dto.YearlyContributionTotalResponse;
+import lt.example.insurance.employer.EmployerService;
+import lt.example.insurance.employer.dto.EmployerCreateRequest;
+import lt.example.insurance.testsupport.DatabaseCleaner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("integration")
+class ContributionRollupIT {
+
+    // rows of a rollup that differ from the same totals computed over contributions, in either direction
+    private static final String EMPLOYER_MONTH_DRIFT = """
+            select count(*) from (
+                (select employer_id, month_date, currency, contributions, paid_contributions, total_amount, paid_amount
+                 from employer_monthly_contributions where contributions > 0
+                 except
+                 select employer_id, date_trunc('month', month_date)::date, currency, count(*), count(paid_at),
+                        sum(amount), coalesce(sum(amount) filter (where paid_at is not null), 0)
+                 from contributions group by 1, 2, 3)
+                union all
+                (select employer_id, date_trunc('month', month_date)::date, currency, count(*), count(paid_at),
+                        sum(amount), coalesce(sum(amount) filter (where paid_at is not null), 0)
+                 from contributions group by 1, 2, 3
+                 except
+                 select employer_id, month_date, currency, contributions, paid_contributions, total_amount, paid_amount
+                 from employer_monthly_contributions where contributions > 0)
+            ) drift
+            """;
+
+    private static final String CITIZEN_YEAR_DRIFT = """
+            select count(*) from (
+                (select citizen_id, year::integer, currency, contributions, paid_contributions, total_amount, paid_amount
+                 from citizen_yearly_contributions where contributions > 0
+                 except
+                 select citizen_id, extract(year from month_date)::integer, currency, count(*), count(paid_at),
+                        sum(amount), coalesce(sum(amount) filter (where paid_at is not null), 0)
+                 from contributions group by 1, 2, 3)
+                union all
+                (select citizen_id, extract(year from month_date)::integer, currency, count(*), count(paid_at),
+                        sum(amount), coalesce(sum(amount) filter (where paid_at is not null), 0)
+                 from contributions group by 1, 2, 3
+                 except
+                 select citizen_id, year::integer, currency, contributions, paid_contributions, total_amount, paid_amount
+                 from citizen_yearly_contributions where contributions > 0)
+            ) drift
+            """;
+
+    @Autowired
+    private ContributionService contributionService;
+    @Autowired
+    private ContributionImportService contributionImportService;
+    @Autowired
+    private ContributionReportService contributionReportService;
+    @Autowired
+    private CitizenService citizenService;
+    @Autowired
+    private EmployerService employerService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DatabaseCleaner databaseCleaner;
+
+    private UUID citizenId;
+    private UUID otherCitizenId;
+    private UUID employerId;
+
+    @BeforeEach
+    void seed() {
+        databaseCleaner.clean();
+        citizenId = createCitizen("39001010011");
+        otherCitizenId = createCitizen("39001010012");
+
+        EmployerCreateRequest employer = new EmployerCreateRequest();
+        employer.setCompanyCode("ROLL1");
+        employer.setName("Rollup Employer");
+        employerId = employerService.create(employer).getId();
+    }
+
+    @Test
+    void everyWritePathKeepsTheRollupsEqualToTheContributions() throws Exception {
+        ContributionResponse single = contributionService.create(
+                request(citizenId, LocalDate.of(2025, 3, 15), "100.50", "EUR", true));
+        contributionService.createBatch(List.of(
+                request(citizenId, LocalDate.of(2025, 4, 1), "200.00", "EUR", false),
+                request(otherCitizenId, LocalDate.of(2025, 3, 1), "50.00", "USD", true)));
+        String csv = "citizen_id,employer_id,month_date,amount,currency,paid_at\n"
+                + otherCitizenId + "," + employerId + ",2025-04-01,75.25,EUR,2026-01-15T00:00:00Z\n"
+                + citizenId + "," + employerId + ",2026-01-01,10.00,EUR,\n";
+        contributionImportService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        contributionService.delete(single.getId());
+
+        assertThat(jdbcTemplate.queryForObject(EMPLOYER_MONTH_DRIFT, Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(CITIZEN_YEAR_DRIFT, Long.class)).isZero();
+
+        List<MonthlyContributionTotalResponse> employerTotals = contributionReportService
+                .findEmployerMonthlyTotals(employerId, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        assertThat(employerTotals).extracting(MonthlyContributionTotalResponse::getMonth,
+                        MonthlyContributionTotalResponse::getCurrency, MonthlyContributionTotalResponse::getContributions)
+                .containsExactly(
+                        tuple(LocalDate.of(2025, 3, 1), "USD", 1L),
+                        tuple(LocalDate.of(2025, 4, 1), "EUR", 2L));
+
+        List<YearlyContributionTotalResponse> citizenTotals =
+                contributionReportService.findCitizenYearlyTotals(citizenId, 2025, 2026);
+        assertThat(citizenTotals).hasSize(2);
+        assertThat(citizenTotals.get(0).getTotalAmount()).isEqualByComparingTo("200.00");
+        assertThat(citizenTotals.get(0).getPaidAmount()).isEqualByComparingTo("0");
+
+        List<MonthlyContributionTotalResponse> eurTotals = contributionReportService
+                .findMonthlyTotals(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 12, 1), "eur");
+        assertThat(eurTotals).extracting(MonthlyContributionTotalResponse::getPaidAmount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("75.25"), BigDecimal.ZERO);
+    }
+
+    private UUID createCitizen(String personalCode) {
+        CitizenCreateRequest citizen = new CitizenCreateRequest();
+        citizen.setPersonalCode(personalCode);
+        citizen.setFirstName("Rollup");
+        citizen.setLastName("Citizen");
+        citizen.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        return citizenService.create(citizen).getId();
+    }
+
+    private ContributionCreateRequest request(UUID citizenId, LocalDate monthDate, String amount,
+                                              String currency, boolean paid) {
+        ContributionCreateRequest request = new ContributionCreateRequest();
+        request.setCitizenId(citizenId);
+        request.setEmployerId(employerId);
+        request.setMonthDate(monthDate);
+        request.setAmount(new BigDecimal(amount));
+        request.setCurrency(currency);
+        request.setPaidAt(paid ? Instant.parse("2026-01-15T00:00:00Z") : null);
+        return request;
+    }
+}
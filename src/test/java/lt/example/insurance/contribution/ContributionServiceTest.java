@@ -1,30 +1,65 @@
 package lt.example.insurance.contribution;
 
+import lt.example.insurance.citizen.CitizenDirectory;
+import lt.example.insurance.citizen.CitizenEntity;
 import lt.example.insurance.citizen.CitizenRepository;
+import lt.example.insurance.citizen.CitizenSnapshot;
+import lt.example.insurance.citizen.dto.CitizenEligibilityResponse;
 import lt.example.insurance.common.exception.BadRequestException;
+import lt.example.insurance.contribution.dto.ContributionBatchItemResult;
+import lt.example.insurance.contribution.dto.ContributionBatchItemStatus;
+import lt.example.insurance.contribution.dto.ContributionBatchResponse;
+import lt.example.insurance.contribution.dto.ContributionCreateRequest;
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.employer.EmployerDirectory;
+import lt.example.insurance.employer.EmployerEntity;
 import lt.example.insurance.employer.EmployerRepository;
+import lt.example.insurance.employer.EmployerSnapshot;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ContributionServiceTest {
 
     private final ContributionRepository contributionRepository = mock(ContributionRepository.class);
     private final CitizenRepository citizenRepository = mock(CitizenRepository.class);
     private final EmployerRepository employerRepository = mock(EmployerRepository.class);
+    private final CitizenDirectory citizenDirectory = mock(CitizenDirectory.class);
+    private final EmployerDirectory employerDirectory = mock(EmployerDirectory.class);
+    private final PaidMonthIndex paidMonthIndex = mock(PaidMonthIndex.class);
+    private final ContributionRollups contributionRollups = mock(ContributionRollups.class);
+    private final ContributionEvents contributionEvents = mock(ContributionEvents.class);
 
     private final Clock fixedClock = Clock.fixed(Instant.parse("2026-02-15T00:00:00Z"), ZoneOffset.UTC);
 
     private final ContributionService contributionService =
-            new ContributionService(contributionRepository, citizenRepository, employerRepository, fixedClock);
+            new ContributionService(contributionRepository, citizenRepository, employerRepository,
+                    citizenDirectory, employerDirectory, paidMonthIndex, contributionRollups, contributionEvents,
+                    mock(PlatformTransactionManager.class), fixedClock);
 
     @Test
     void calculateEligibility_monthsBackOne_usesSameMonthForWindow() {
@@ -47,5 +82,123 @@ class ContributionServiceTest {
 
         assertThat(expectedWindowFrom).isEqualTo(expectedWindowTo);
     }
-}
 
+    @Test
+    void untilWindowMoves_endsAtTheStartOfTheNextMonth() {
+        assertThat(contributionService.untilWindowMoves(LocalDate.of(2026, 2, 1)))
+                .isEqualTo(Duration.ofDays(14));
+        assertThat(contributionService.untilWindowMoves(LocalDate.of(2026, 1, 1)))
+                .isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void eligibilityWindow_coversMonthsBackEndingWithCurrentMonth() {
+        EligibilityWindow window = contributionService.eligibilityWindow(3, 2);
+
+        assertThat(window.to()).isEqualTo(LocalDate.of(2026, 2, 1));
+        assertThat(window.from()).isEqualTo(LocalDate.of(2025, 12, 1));
+        assertThatThrownBy(() -> contributionService.eligibilityWindow(3, 4))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void calculateEligibilityBatch_deduplicatesIdsAndLoadsBitmapsOncePerChunk() {
+        EligibilityWindow window = contributionService.eligibilityWindow(6, 3);
+        List<UUID> citizenIds = new ArrayList<>();
+        for (int i = 0; i < ContributionService.ELIGIBILITY_CHUNK_SIZE + 1; i++) {
+            citizenIds.add(UUID.randomUUID());
+        }
+        List<UUID> requested = new ArrayList<>(citizenIds);
+        requested.add(citizenIds.get(0));
+
+        // 2025-09..2026-02 window: four paid months in 2025, none in 2026
+        PaidMonths paid = new PaidMonths(2025, new int[]{0b1111_0000_0000, 0});
+        when(paidMonthIndex.load(anyCollection(), eq(window.from()), eq(window.to())))
+                .thenReturn(Map.of(citizenIds.get(0), paid))
+                .thenReturn(Collections.emptyMap());
+
+        List<CitizenEligibilityResponse> results = new ArrayList<>();
+        contributionService.calculateEligibilityBatch(requested, window, 3, results::add);
+
+        verify(paidMonthIndex, times(2)).load(anyCollection(), eq(window.from()), eq(window.to()));
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.getCitizenId()).isEqualTo(citizenIds.get(0));
+            assertThat(result.getMonthsWithPayments()).isEqualTo(4);
+            assertThat(result.isEligible()).isTrue();
+        });
+    }
+
+    @Test
+    void create_resolvesPartiesFromDirectoriesWithoutLoadingEntities() {
+        UUID citizenId = UUID.randomUUID();
+        UUID employerId = UUID.randomUUID();
+        when(citizenDirectory.find(citizenId))
+                .thenReturn(Optional.of(new CitizenSnapshot(citizenId, "39001010000", "Jonas", "Jonaitis")));
+        when(employerDirectory.find(employerId))
+                .thenReturn(Optional.of(new EmployerSnapshot(employerId, "EMP1", "Employer")));
+        when(contributionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ContributionResponse response = contributionService.create(batchRow(citizenId, employerId, LocalDate.of(2026, 2, 1)));
+
+        assertThat(response.getCitizen().getFirstName()).isEqualTo("Jonas");
+        assertThat(response.getEmployer().getCompanyCode()).isEqualTo("EMP1");
+        verify(citizenRepository).getReferenceById(citizenId);
+        verify(employerRepository).getReferenceById(employerId);
+        verify(citizenRepository, never()).findById(any());
+        verify(employerRepository, never()).findById(any());
+    }
+
+    @Test
+    void createBatch_reportsPerRowOutcomesAndSavesAcceptedRowsOnce() {
+        UUID citizenId = UUID.randomUUID();
+        UUID employerId = UUID.randomUUID();
+        UUID unknownCitizenId = UUID.randomUUID();
+        LocalDate existingMonth = LocalDate.of(2026, 1, 1);
+        LocalDate newMonth = LocalDate.of(2026, 2, 1);
+
+        CitizenEntity citizen = mock(CitizenEntity.class);
+        when(citizen.getId()).thenReturn(citizenId);
+        EmployerEntity employer = mock(EmployerEntity.class);
+        when(employer.getId()).thenReturn(employerId);
+
+        when(citizenRepository.findAllById(any())).thenReturn(List.of(citizen));
+        when(employerRepository.findAllById(any())).thenReturn(List.of(employer));
+        when(contributionRepository.findExistingKeys(anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(new ContributionKey(citizenId, employerId, existingMonth)));
+
+        List<ContributionCreateRequest> requests = List.of(
+                batchRow(citizenId, employerId, newMonth),
+                batchRow(citizenId, employerId, existingMonth),
+                batchRow(citizenId, employerId, newMonth),
+                batchRow(unknownCitizenId, employerId, newMonth));
+
+        ContributionBatchResponse response = contributionService.createBatch(requests);
+
+        assertThat(response.getReceived()).isEqualTo(4);
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getResults())
+                .extracting(ContributionBatchItemResult::getStatus)
+                .containsExactly(
+                        ContributionBatchItemStatus.CREATED,
+                        ContributionBatchItemStatus.DUPLICATE,
+                        ContributionBatchItemStatus.DUPLICATE,
+                        ContributionBatchItemStatus.CITIZEN_NOT_FOUND);
+        verify(contributionRepository).saveAll(argThat(
+                (List<ContributionEntity> saved) -> saved.size() == 1 && "EUR".equals(saved.get(0).getCurrency())));
+        verify(paidMonthIndex).markPaid(argThat((List<ContributionEntity> saved) -> saved.size() == 1));
+        verify(contributionRollups).added(argThat((List<ContributionEntity> saved) -> saved.size() == 1));
+        verify(contributionEvents).created(argThat((List<ContributionEntity> saved) -> saved.size() == 1));
+    }
+
+    private ContributionCreateRequest batchRow(UUID citizenId, UUID employerId, LocalDate monthDate) {
+        ContributionCreateRequest request = new ContributionCreateRequest();
+        request.setCitizenId(citizenId);
+        request.setEmployerId(employerId);
+        request.setMonthDate(monthDate);
+        request.setAmount(BigDecimal.valueOf(100));
+        request.setCurrency(" eur");
+        request.setPaidAt(Instant.parse("2026-02-01T00:00:00Z"));
+        return request;
+    }
+}
@@ -0,0 +1,74 @@
+package lt.example.insurance.contribution;
+
+import lt.example.insurance.contribution.dto.ContributionResponse;
+import lt.example.insurance.contribution.dto.ContributionTable;
+import lt.example.insurance.contribution.dto.ContributionTablePage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContributionTablesTest {
+
+    private final ContributionResponse.CitizenSummary alice = citizen("39001010001");
+    private final ContributionResponse.CitizenSummary bob = citizen("39001010002");
+    private final ContributionResponse.EmployerSummary acme = employer("ACME");
+
+    @Test
+    void listsEveryPartyOnceInOrderOfFirstAppearance() {
+        ContributionTable table = ContributionTables.of(List.of(
+                contribution(bob, acme, 1), contribution(alice, acme, 1), contribution(bob, acme, 2)));
+
+        assertThat(table.getCitizens()).containsExactly(bob, alice);
+        assertThat(table.getEmployers()).containsExactly(acme);
+        assertThat(table.getRows()).extracting(ContributionTable.Row::getCitizen).containsExactly(0, 1, 0);
+        assertThat(table.getRows()).extracting(ContributionTable.Row::getEmployer).containsExactly(0, 0, 0);
+        assertThat(table.getRows()).extracting(ContributionTable.Row::getMonthDate).containsExactly(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1));
+    }
+
+    @Test
+    void pageKeepsItsPosition() {
+        ContributionTablePage page = ContributionTables.of(
+                new PageImpl<>(List.of(contribution(alice, acme, 1)), PageRequest.of(2, 1), 5));
+
+        assertThat(page.getNumber()).isEqualTo(2);
+        assertThat(page.getSize()).isEqualTo(1);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getTotalPages()).isEqualTo(5);
+        assertThat(page.getContributions().getRows()).hasSize(1);
+    }
+
+    private static ContributionResponse contribution(ContributionResponse.CitizenSummary citizen,
+                                                     ContributionResponse.EmployerSummary employer,
+                                                     int month) {
+        ContributionResponse response = new ContributionResponse();
+        response.setId(UUID.randomUUID());
+        response.setMonthDate(LocalDate.of(2026, month, 1));
+        response.setAmount(new BigDecimal("100.00"));
+        response.setCurrency("EUR");
+        response.setCitizen(citizen);
+        response.setEmployer(employer);
+        return response;
+    }
+
+    private static ContributionResponse.CitizenSummary citizen(String personalCode) {
+        ContributionResponse.CitizenSummary citizen = new ContributionResponse.CitizenSummary();
+        citizen.setId(UUID.randomUUID());
+        citizen.setPersonalCode(personalCode);
+        return citizen;
+    }
+
+    private static ContributionResponse.EmployerSummary employer(String companyCode) {
+        ContributionResponse.EmployerSummary employer = new ContributionResponse.EmployerSummary();
+        employer.setId(UUID.randomUUID());
+        employer.setCompanyCode(companyCode);
+        return employer;
+    }
+}
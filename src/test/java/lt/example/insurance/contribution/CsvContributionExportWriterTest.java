@@ -0,0 +1,37 @@
+package lt.example.insurance.contribution;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvContributionExportWriterTest {
+
+    @Test
+    void writesHeaderAndQuotesOnlyFieldsThatNeedIt() throws Exception {
+        UUID id = UUID.randomUUID();
+        UUID citizenId = UUID.randomUUID();
+        UUID employerId = UUID.randomUUID();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        CsvContributionExportWriter writer = new CsvContributionExportWriter(out);
+        writer.write(new ContributionExportRow(id, citizenId, "12345678901", employerId, "ACME, \"North\"",
+                LocalDate.of(2026, 1, 1), new BigDecimal("100.50"), "EUR", Instant.parse("2026-01-31T10:00:00Z")));
+        writer.write(new ContributionExportRow(id, citizenId, "12345678901", employerId, "EMP1",
+                LocalDate.of(2026, 2, 1), new BigDecimal("1E+2"), "EUR", null));
+        writer.finish();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo(CsvContributionExportWriter.HEADER);
+        assertThat(lines[1]).isEqualTo(id + "," + citizenId + ",12345678901," + employerId
+                + ",\"ACME, \"\"North\"\"\",2026-01-01,100.50,EUR,2026-01-31T10:00:00Z");
+        assertThat(lines[2]).endsWith(",EMP1,2026-02-01,100,EUR,");
+    }
+}
@@ -0,0 +1,33 @@
+package lt.example.insurance.contribution;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaidMonthsTest {
+
+    @Test
+    void countsOnlyMonthsInsideTheRangeAcrossYearBoundary() {
+        // 2025: Nov and Dec paid; 2026: Jan and Mar paid
+        int nov = PaidMonths.bit(LocalDate.of(2025, 11, 1));
+        int dec = PaidMonths.bit(LocalDate.of(2025, 12, 1));
+        int jan = PaidMonths.bit(LocalDate.of(2026, 1, 1));
+        int mar = PaidMonths.bit(LocalDate.of(2026, 3, 1));
+        PaidMonths paid = PaidMonths.of(2025, 2026, Map.of(2025, nov | dec, 2026, jan | mar));
+
+        assertThat(paid.count(LocalDate.of(2025, 12, 1), LocalDate.of(2026, 2, 1))).isEqualTo(2);
+        assertThat(paid.count(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 12, 1))).isEqualTo(4);
+        assertThat(paid.count(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 1))).isEqualTo(1);
+        assertThat(paid.count(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 12, 1))).isZero();
+    }
+
+    @Test
+    void yearsOutsideLoadedRangeCountAsUnpaid() {
+        PaidMonths paid = PaidMonths.of(2026, 2026, Map.of(2025, 0xFFF, 2026, 0b1));
+
+        assertThat(paid.count(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 12, 1))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,146 @@
+package lt.example.insurance.job;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobWorkerTest {
+
+    private static final UUID JOB_ID = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+    private final JobStore jobStore = mock(JobStore.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final RecordingHandler handler = new RecordingHandler();
+    private final JobWorker worker = new JobWorker(jobStore, List.of(handler), transactionManager,
+            new JobProperties(1, Duration.ofSeconds(1), Duration.ofMinutes(5), 3));
+
+    JobWorkerTest() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void stopWorker() throws InterruptedException {
+        worker.shutdown();
+    }
+
+    @Test
+    void run_commitsChunksFromTheStoredCheckpointUntilDone() {
+        Job claimed = job("2", 20, 1);
+        when(jobStore.lockOwned(eq(JOB_ID), anyString()))
+                .thenReturn(claimed, job("3", 30, 1), job("4", 40, 1));
+        handler.chunksLeft = 3;
+
+        worker.run(claimed);
+
+        assertThat(handler.seenCheckpoints).containsExactly("2", "3", "4");
+        verify(jobStore, times(3)).recordChunk(eq(JOB_ID), any(JobChunk.class));
+        verify(jobStore).complete(eq(JOB_ID), anyString());
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(handler.completed).isTrue();
+    }
+
+    @Test
+    void run_requeuesFailingJobWhileAttemptsRemain() {
+        Job claimed = job(null, 0, 1);
+        when(jobStore.lockOwned(eq(JOB_ID), anyString())).thenReturn(claimed);
+        handler.failure = new IllegalStateException("boom");
+
+        worker.run(claimed);
+
+        verify(jobStore).requeue(eq(JOB_ID), anyString(), eq("boom"));
+        verify(jobStore, never()).fail(any(), anyString(), anyString());
+        verify(transactionManager).rollback(any());
+        assertThat(handler.failedWith).isNull();
+    }
+
+    @Test
+    void run_failsJobOnLastAttempt() {
+        Job claimed = job("5", 50, 3);
+        when(jobStore.lockOwned(eq(JOB_ID), anyString())).thenReturn(claimed);
+        handler.failure = new IllegalStateException("boom");
+
+        worker.run(claimed);
+
+        verify(jobStore).fail(eq(JOB_ID), anyString(), eq("boom"));
+        verify(jobStore, never()).requeue(any(), anyString(), anyString());
+        assertThat(handler.failedWith).isEqualTo("boom");
+    }
+
+    @Test
+    void run_stopsWithoutRecordingWhenOwnershipIsLost() {
+        Job claimed = job(null, 0, 1);
+        when(jobStore.lockOwned(eq(JOB_ID), anyString())).thenThrow(new JobOwnershipLostException("taken over"));
+
+        worker.run(claimed);
+
+        assertThat(handler.seenCheckpoints).isEmpty();
+        verify(jobStore, never()).recordChunk(any(), any());
+        verify(jobStore, never()).requeue(any(), anyString(), anyString());
+        verify(jobStore, never()).fail(any(), anyString(), anyString());
+    }
+
+    @Test
+    void run_handsJobBackAfterShutdown() throws InterruptedException {
+        Job claimed = job(null, 0, 1);
+        worker.shutdown();
+
+        worker.run(claimed);
+
+        verify(jobStore).release(eq(JOB_ID), anyString());
+        verify(jobStore, never()).lockOwned(any(), anyString());
+    }
+
+    private static Job job(String checkpoint, long processedItems, int attempts) {
+        return new Job(JOB_ID, JobType.PAID_MONTH_RECOMPUTATION, null, checkpoint, processedItems, 100L, attempts);
+    }
+
+    private static class RecordingHandler implements JobHandler {
+
+        private final List<String> seenCheckpoints = new ArrayList<>();
+        private int chunksLeft = 1;
+        private RuntimeException failure;
+        private boolean completed;
+        private String failedWith;
+
+        @Override
+        public JobType type() {
+            return JobType.PAID_MONTH_RECOMPUTATION;
+        }
+
+        @Override
+        public JobChunk processChunk(Job job) {
+            if (failure != null) {
+                throw failure;
+            }
+            seenCheckpoints.add(job.checkpoint());
+            chunksLeft--;
+            return new JobChunk(job.checkpoint() + "+", job.processedItems() + 10, chunksLeft == 0);
+        }
+
+        @Override
+        public void onCompleted(Job job) {
+            completed = true;
+        }
+
+        @Override
+        public void onFailed(Job job, String message) {
+            failedWith = message;
+        }
+    }
+}
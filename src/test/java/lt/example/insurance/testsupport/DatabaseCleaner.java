@@ -1,5 +1,6 @@
 package lt.example.insurance.testsupport;
 
+import org.springframework.cache.CacheManager;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
@@ -7,15 +8,18 @@ import org.springframework.stereotype.Component;
 public class DatabaseCleaner {
 
     private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
 
-    public DatabaseCleaner(JdbcTemplate jdbcTemplate) {
+    public DatabaseCleaner(JdbcTemplate jdbcTemplate, CacheManager cacheManager) {
         this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
     }
 
     public void clean() {
         jdbcTemplate.execute(
-                "TRUNCATE TABLE benefit_claims, contributions, employers, citizens RESTART IDENTITY CASCADE"
+                "TRUNCATE TABLE jobs, contribution_idempotency_keys, contribution_events, contribution_imports, currency_monthly_contributions, benefit_claims, contributions, employers, citizens RESTART IDENTITY CASCADE"
         );
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     }
 }
 